@@ -0,0 +1,109 @@
+package com.campus_buddy.academic_service.controller;
+
+import com.campus_buddy.academic_service.service.AttendanceAnalyticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Attendance Analytics Controller — course trends served from rollup tables (FACULTY ONLY).
+ * All endpoints take optional ISO dates from/to; the default window is the last 12 weeks.
+ */
+@RestController
+@RequestMapping("/attendance/analytics")
+public class AttendanceAnalyticsController {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceAnalyticsController.class);
+
+    @Autowired
+    private AttendanceAnalyticsService analyticsService;
+
+    /**
+     * Attendance per lecture day
+     * GET /attendance/analytics/course/{courseCode}/daily?from=&to=
+     */
+    @GetMapping("/course/{courseCode}/daily")
+    public ResponseEntity<?> getDailyTrend(@PathVariable String courseCode,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return facultyQuery(courseCode, () -> analyticsService.getDailyTrend(courseCode, from, to));
+    }
+
+    /**
+     * Attendance per week
+     * GET /attendance/analytics/course/{courseCode}/weekly?from=&to=
+     */
+    @GetMapping("/course/{courseCode}/weekly")
+    public ResponseEntity<?> getWeeklyTrend(@PathVariable String courseCode,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return facultyQuery(courseCode, () -> analyticsService.getWeeklyTrend(courseCode, from, to));
+    }
+
+    /**
+     * Students with the most late arrivals
+     * GET /attendance/analytics/course/{courseCode}/late?from=&to=&limit=20
+     */
+    @GetMapping("/course/{courseCode}/late")
+    public ResponseEntity<?> getLateArrivals(@PathVariable String courseCode,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                             @RequestParam(defaultValue = "20") int limit) {
+        return facultyQuery(courseCode, () -> analyticsService.getLateArrivals(courseCode, from, to, limit));
+    }
+
+    /**
+     * Students below an attendance threshold (percent)
+     * GET /attendance/analytics/course/{courseCode}/below?threshold=75&from=&to=
+     */
+    @GetMapping("/course/{courseCode}/below")
+    public ResponseEntity<?> getStudentsBelow(@PathVariable String courseCode,
+                                              @RequestParam(defaultValue = "75") double threshold,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return facultyQuery(courseCode, () -> analyticsService.getStudentsBelow(courseCode, threshold, from, to));
+    }
+
+    // ─── Helpers ───────────────────────────────────────────────
+
+    private ResponseEntity<?> facultyQuery(String courseCode, Supplier<?> query) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return errorResponse(HttpStatus.FORBIDDEN, "Access denied. Only faculty can view attendance analytics.");
+        }
+
+        try {
+            return ResponseEntity.ok(query.get());
+        } catch (IllegalArgumentException e) {
+            return errorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error fetching attendance analytics for {}: {}", courseCode, e.getMessage());
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch attendance analytics.");
+        }
+    }
+
+    private boolean hasRole(Authentication auth, String role) {
+        return auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(r -> r.equals(role));
+    }
+
+    private ResponseEntity<Map<String, String>> errorResponse(HttpStatus status, String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return ResponseEntity.status(status).body(error);
+    }
+}
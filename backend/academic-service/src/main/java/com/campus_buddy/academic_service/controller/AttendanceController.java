@@ -2,18 +2,34 @@ package com.campus_buddy.academic_service.controller;
 
 import com.campus_buddy.academic_service.dto.*;
 import com.campus_buddy.academic_service.model.Role;
+import com.campus_buddy.academic_service.service.AttendanceExportService;
 import com.campus_buddy.academic_service.service.AttendanceService;
+import com.campus_buddy.academic_service.service.BulkAttendanceService;
+import com.campus_buddy.academic_service.service.LiveAttendanceFeed;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +47,18 @@ public class AttendanceController {
     @Autowired
     private AttendanceService attendanceService;
 
+    @Autowired
+    private BulkAttendanceService bulkAttendanceService;
+
+    @Autowired
+    private AttendanceExportService attendanceExportService;
+
+    @Autowired
+    private LiveAttendanceFeed liveAttendanceFeed;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     /**
      * Create Attendance Session (FACULTY ONLY)
      * POST /attendance/session
@@ -52,6 +80,98 @@ public class AttendanceController {
         }
     }
 
+    /**
+     * Bulk-mark a session from a JSON array of student emails (FACULTY ONLY)
+     * POST /attendance/session/{id}/bulk
+     */
+    @PostMapping(value = "/session/{id}/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> bulkMarkAttendance(@PathVariable String id, @RequestBody List<String> studentEmails) {
+        List<BulkAttendanceEntry> entries = studentEmails.stream()
+                .map(email -> new BulkAttendanceEntry(email, null))
+                .toList();
+        return bulkMark(id, entries);
+    }
+
+    /**
+     * Bulk-mark a session from a CSV body of email[,status] lines (FACULTY ONLY)
+     * POST /attendance/session/{id}/bulk
+     */
+    @PostMapping(value = "/session/{id}/bulk", consumes = "text/csv")
+    public ResponseEntity<StreamingResponseBody> bulkMarkAttendanceCsv(@PathVariable String id, @RequestBody String csv) {
+        return bulkMark(id, BulkAttendanceService.parseCsv(csv));
+    }
+
+    /**
+     * Bulk-mark a session from an uploaded CSV file, form field "file" (FACULTY ONLY)
+     * POST /attendance/session/{id}/bulk
+     */
+    @PostMapping(value = "/session/{id}/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> bulkMarkAttendanceUpload(@PathVariable String id, @RequestParam("file") MultipartFile file) {
+        try {
+            // Read now: the upload is cleaned up once the request thread returns
+            return bulkMark(id, BulkAttendanceService.parseCsv(new String(file.getBytes(), StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            return streamingErrorResponse(HttpStatus.BAD_REQUEST, "Could not read uploaded file.");
+        }
+    }
+
+    /**
+     * Current code of a rotating-code session; the display refreshes after validForSeconds (FACULTY ONLY, session owner)
+     * GET /attendance/session/{id}/code
+     */
+    @GetMapping("/session/{id}/code")
+    public ResponseEntity<?> getRotatingCode(@PathVariable String id) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return errorResponse(HttpStatus.FORBIDDEN, "Access denied. Only faculty can view session codes.");
+        }
+
+        try {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(attendanceService.getRotatingCode(id, auth.getName()));
+        } catch (AccessDeniedException e) {
+            return errorResponse(HttpStatus.FORBIDDEN, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return errorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            return errorResponse(HttpStatus.CONFLICT, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error fetching code for session {}: {}", id, e.getMessage(), e);
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch session code.");
+        }
+    }
+
+    /**
+     * Live check-ins of a session as Server-Sent Events, resumable with Last-Event-ID (FACULTY ONLY, session owner)
+     * GET /attendance/session/{id}/live
+     */
+    @GetMapping(value = "/session/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> watchSession(@PathVariable String id,
+                                                            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return emitterErrorResponse(HttpStatus.FORBIDDEN, "Access denied. Only faculty can watch attendance sessions.");
+        }
+
+        try {
+            SseEmitter emitter = liveAttendanceFeed.subscribe(id, lastEventId, auth.getName());
+            return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+        } catch (AccessDeniedException e) {
+            return emitterErrorResponse(HttpStatus.FORBIDDEN, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.warn("Live feed rejected: session={}, reason={}", id, e.getMessage());
+            return emitterErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            return emitterErrorResponse(HttpStatus.CONFLICT, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error opening live feed for session {}: {}", id, e.getMessage(), e);
+            return emitterErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to open live feed.");
+        }
+    }
+
     /**
      * Mark Attendance (STUDENT ONLY)
      * POST /attendance/mark
@@ -118,8 +238,80 @@ public class AttendanceController {
         }
     }
 
+    /**
+     * Export Course Attendance as CSV or NDJSON, streamed row by row (FACULTY ONLY)
+     * GET /attendance/faculty/{courseCode}/export?format=csv|ndjson
+     */
+    @GetMapping("/faculty/{courseCode}/export")
+    public ResponseEntity<StreamingResponseBody> exportCourseAttendance(@PathVariable String courseCode,
+                                                    @RequestParam(defaultValue = "csv") String format) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return streamingErrorResponse(HttpStatus.FORBIDDEN, "Access denied. Only faculty can export course attendance.");
+        }
+
+        AttendanceExportService.Format exportFormat;
+        try {
+            exportFormat = AttendanceExportService.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            return streamingErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        StreamingResponseBody body = out -> attendanceExportService.exportCourseAttendance(courseCode, exportFormat, out);
+        String filename = courseCode + "-attendance." + exportFormat.extension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     // ─── Helpers ───────────────────────────────────────────────
 
+    /**
+     * Validate synchronously (so bad requests still get a 400), then stream one NDJSON line per row,
+     * flushed batch by batch, followed by a {"summary": ...} line.
+     */
+    private ResponseEntity<StreamingResponseBody> bulkMark(String sessionId, List<BulkAttendanceEntry> entries) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return streamingErrorResponse(HttpStatus.FORBIDDEN, "Access denied. Only faculty can bulk-mark attendance.");
+        }
+
+        BulkAttendanceService.BulkImport bulk;
+        try {
+            bulk = bulkAttendanceService.prepare(sessionId, entries, auth.getName());
+        } catch (AccessDeniedException e) {
+            return streamingErrorResponse(HttpStatus.FORBIDDEN, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.warn("Bulk attendance rejected: session={}, reason={}", sessionId, e.getMessage());
+            return streamingErrorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error preparing bulk attendance for session {}: {}", sessionId, e.getMessage(), e);
+            return streamingErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to import attendance.");
+        }
+
+        StreamingResponseBody body = out -> {
+            BulkAttendanceSummary summary = bulkAttendanceService.execute(bulk, results -> {
+                try {
+                    for (BulkAttendanceResult result : results) {
+                        out.write(objectMapper.writeValueAsBytes(result));
+                        out.write('\n');
+                    }
+                    out.flush();
+                } catch (IOException e) {
+                    // Client went away: stop importing; batches already written stay committed
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.write(objectMapper.writeValueAsBytes(Map.of("summary", summary)));
+            out.write('\n');
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     private boolean hasRole(Authentication auth, String role) {
         return auth.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -131,4 +323,27 @@ public class AttendanceController {
         error.put("error", message);
         return ResponseEntity.status(status).body(error);
     }
+
+    /**
+     * Error body for endpoints declared as streaming; MVC only streams a ResponseEntity whose
+     * declared body type is StreamingResponseBody, so errors must take that shape too.
+     */
+    private ResponseEntity<StreamingResponseBody> streamingErrorResponse(HttpStatus status, String message) {
+        byte[] error = objectMapper.writeValueAsBytes(Map.of("error", message));
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(out -> out.write(error));
+    }
+
+    /**
+     * Error body for emitter endpoints: a one-shot emitter holding the JSON error (same reason as above)
+     */
+    private ResponseEntity<ResponseBodyEmitter> emitterErrorResponse(HttpStatus status, String message) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        try {
+            emitter.send(Map.of("error", message), MediaType.APPLICATION_JSON);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        emitter.complete();
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(emitter);
+    }
 }
@@ -0,0 +1,104 @@
+package com.campus_buddy.academic_service.controller;
+
+import com.campus_buddy.academic_service.dto.AttendanceStatsResponse;
+import com.campus_buddy.academic_service.dto.CourseAttendanceStatsResponse;
+import com.campus_buddy.academic_service.service.AttendanceStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Attendance Statistics Controller — attendance percentages read from precomputed counters.
+ */
+@RestController
+@RequestMapping("/attendance/stats")
+public class AttendanceStatsController {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceStatsController.class);
+
+    @Autowired
+    private AttendanceStatsService statsService;
+
+    /**
+     * Get the caller's own attendance percentage per course
+     * GET /attendance/stats/me
+     */
+    @GetMapping("/me")
+    public ResponseEntity<?> getMyStats() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        try {
+            List<AttendanceStatsResponse> response = statsService.getStudentStats(auth.getName());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error fetching attendance stats for {}: {}", auth.getName(), e.getMessage());
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch attendance statistics.");
+        }
+    }
+
+    /**
+     * Get a student's attendance percentage per course (FACULTY ONLY)
+     * GET /attendance/stats/student/{studentEmail}
+     */
+    @GetMapping("/student/{studentEmail}")
+    public ResponseEntity<?> getStudentStats(@PathVariable String studentEmail) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return errorResponse(HttpStatus.FORBIDDEN, "Access denied. Only faculty can view other students' statistics.");
+        }
+
+        try {
+            List<AttendanceStatsResponse> response = statsService.getStudentStats(studentEmail);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error fetching attendance stats for {}: {}", studentEmail, e.getMessage());
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch attendance statistics.");
+        }
+    }
+
+    /**
+     * Get sessions held and every student's percentage for a course (FACULTY ONLY)
+     * GET /attendance/stats/course/{courseCode}
+     */
+    @GetMapping("/course/{courseCode}")
+    public ResponseEntity<?> getCourseStats(@PathVariable String courseCode) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return errorResponse(HttpStatus.FORBIDDEN, "Access denied. Only faculty can view course statistics.");
+        }
+
+        try {
+            CourseAttendanceStatsResponse response = statsService.getCourseStats(courseCode);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error fetching course stats for {}: {}", courseCode, e.getMessage());
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch course statistics.");
+        }
+    }
+
+    // ─── Helpers ───────────────────────────────────────────────
+
+    private boolean hasRole(Authentication auth, String role) {
+        return auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(r -> r.equals(role));
+    }
+
+    private ResponseEntity<Map<String, String>> errorResponse(HttpStatus status, String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return ResponseEntity.status(status).body(error);
+    }
+}
@@ -0,0 +1,136 @@
+package com.campus_buddy.academic_service.controller;
+
+import com.campus_buddy.academic_service.dto.EnrollmentRequest;
+import com.campus_buddy.academic_service.model.Enrollment;
+import com.campus_buddy.academic_service.service.EnrollmentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enrollment Controller — which courses a student takes; drives the student's timetable view.
+ * Students manage their own enrollments; faculty may act on behalf of any student.
+ */
+@RestController
+@RequestMapping("/enrollments")
+public class EnrollmentController {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentController.class);
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    /**
+     * Get the caller's enrollments
+     * GET /enrollments/me
+     */
+    @GetMapping("/me")
+    public ResponseEntity<?> getMyEnrollments() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        try {
+            List<Enrollment> enrollments = enrollmentService.getEnrollments(auth.getName());
+            return ResponseEntity.ok(enrollments);
+        } catch (Exception e) {
+            log.error("Error fetching enrollments for {}: {}", auth.getName(), e.getMessage());
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch enrollments.");
+        }
+    }
+
+    /**
+     * Get the students enrolled in a course (FACULTY ONLY)
+     * GET /enrollments/course/{courseCode}
+     */
+    @GetMapping("/course/{courseCode}")
+    public ResponseEntity<?> getRoster(@PathVariable String courseCode) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return errorResponse(HttpStatus.FORBIDDEN, "Access denied. Only faculty can view course rosters.");
+        }
+
+        try {
+            return ResponseEntity.ok(enrollmentService.getRoster(courseCode));
+        } catch (Exception e) {
+            log.error("Error fetching roster for {}: {}", courseCode, e.getMessage());
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch course roster.");
+        }
+    }
+
+    /**
+     * Enroll in a course
+     * POST /enrollments  {courseCode, studentEmail (faculty only)}
+     */
+    @PostMapping
+    public ResponseEntity<?> enroll(@RequestBody EnrollmentRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String studentEmail = resolveStudent(auth, request.getStudentEmail());
+
+        try {
+            Enrollment enrollment = enrollmentService.enroll(studentEmail, request.getCourseCode());
+            return ResponseEntity.ok(enrollment);
+        } catch (IllegalArgumentException e) {
+            return errorResponse(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            return errorResponse(HttpStatus.CONFLICT, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error enrolling {} in {}: {}", studentEmail, request.getCourseCode(), e.getMessage());
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to enroll.");
+        }
+    }
+
+    /**
+     * Drop a course
+     * DELETE /enrollments/{courseCode}?studentEmail= (studentEmail faculty only)
+     */
+    @DeleteMapping("/{courseCode}")
+    public ResponseEntity<?> drop(@PathVariable String courseCode,
+                                  @RequestParam(required = false) String studentEmail) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String student = resolveStudent(auth, studentEmail);
+
+        try {
+            if (!enrollmentService.drop(student, courseCode)) {
+                return errorResponse(HttpStatus.NOT_FOUND, "Not enrolled in " + courseCode + ".");
+            }
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            log.error("Error dropping {} from {}: {}", student, courseCode, e.getMessage());
+            return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to drop course.");
+        }
+    }
+
+    // ─── Helpers ───────────────────────────────────────────────
+
+    /**
+     * Faculty may name a student; everyone else always acts on themselves
+     */
+    private String resolveStudent(Authentication auth, String requested) {
+        if (requested != null && !requested.isBlank() && hasRole(auth, "ROLE_FACULTY")) {
+            return requested;
+        }
+        return auth.getName();
+    }
+
+    private boolean hasRole(Authentication auth, String role) {
+        return auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(r -> r.equals(role));
+    }
+
+    private ResponseEntity<Map<String, String>> errorResponse(HttpStatus status, String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return ResponseEntity.status(status).body(error);
+    }
+}
@@ -1,26 +1,32 @@
 package com.campus_buddy.academic_service.controller;
 
+import com.campus_buddy.academic_service.dto.TimetableSlotSuggestion;
+import com.campus_buddy.academic_service.model.Room;
 import com.campus_buddy.academic_service.model.Timetable;
-import com.campus_buddy.academic_service.repository.TimetableRepository;
+import com.campus_buddy.academic_service.service.EnrollmentService;
+import com.campus_buddy.academic_service.service.RoomService;
+import com.campus_buddy.academic_service.service.TimetableService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * TimetableController — manages class schedules.
  *
- * TODO: Replace global timetable with user-specific filtering
- *       (department/section-based) once Enrollment model is introduced.
- *       See implementation_plan.md for design discussion.
+ * All reads are served from the pre-serialized timetable snapshot with a strong ETag and
+ * Last-Modified; conditional requests get 304 without a body.
  */
 @RestController
 @RequestMapping("/timetable")
@@ -28,62 +34,67 @@ public class TimetableController {
 
     private static final Logger log = LoggerFactory.getLogger(TimetableController.class);
 
-    /**
-     * Calendar-order mapping for day-of-week.
-     * Ensures MONDAY=1, ..., SUNDAY=7 instead of alphabetical sort.
-     */
-    private static final Map<String, Integer> DAY_ORDER = Map.of(
-        "MONDAY", 1,
-        "TUESDAY", 2,
-        "WEDNESDAY", 3,
-        "THURSDAY", 4,
-        "FRIDAY", 5,
-        "SATURDAY", 6,
-        "SUNDAY", 7
-    );
+    @Autowired
+    private TimetableService timetableService;
 
     @Autowired
-    private TimetableRepository timetableRepository;
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private RoomService roomService;
 
     /**
      * GET /timetable — Returns the timetable sorted in proper calendar order.
      *
      * For FACULTY: returns only their own classes.
-     * For STUDENT: returns full schedule (global view, to be replaced with
-     *              enrollment-based filtering in future).
+     * For STUDENT: returns the classes of their enrolled courses, or the full
+     *              schedule if they are not enrolled in anything yet.
      */
     @GetMapping
-    public ResponseEntity<?> getTimetable() {
+    public ResponseEntity<?> getTimetable(WebRequest request) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        boolean isFaculty = hasRole(auth, "ROLE_FACULTY");
 
-        try {
-            List<Timetable> entries;
-            if (isFaculty) {
-                entries = timetableRepository.findByFacultyEmail(auth.getName());
-            } else {
-                // TODO: Filter by student enrollment when Enrollment model is added
-                entries = timetableRepository.findAll();
-            }
+        if (hasRole(auth, "ROLE_FACULTY")) {
+            return serve(request, () -> timetableService.getSnapshot().forFaculty(auth.getName()));
+        }
+        return serve(request, () -> enrollmentService.getStudentTimetable(auth.getName()));
+    }
 
-            // Sort by calendar day order, then by start time
-            entries.sort(
-                Comparator
-                    .<Timetable, Integer>comparing(t -> DAY_ORDER.getOrDefault(t.getDayOfWeek().toUpperCase(), 8))
-                    .thenComparing(Timetable::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()))
-            );
+    /**
+     * GET /timetable/all — The full schedule for every course
+     */
+    @GetMapping("/all")
+    public ResponseEntity<?> getAll(WebRequest request) {
+        return serve(request, () -> timetableService.getSnapshot().all());
+    }
 
-            return ResponseEntity.ok(entries);
-        } catch (Exception e) {
-            log.error("Error fetching timetable: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("error", "Failed to fetch timetable."));
-        }
+    /**
+     * GET /timetable/faculty/{facultyEmail} — Classes taught by one faculty member
+     */
+    @GetMapping("/faculty/{facultyEmail}")
+    public ResponseEntity<?> getByFaculty(@PathVariable String facultyEmail, WebRequest request) {
+        return serve(request, () -> timetableService.getSnapshot().forFaculty(facultyEmail));
+    }
+
+    /**
+     * GET /timetable/room/{roomNumber} — Classes held in one room
+     */
+    @GetMapping("/room/{roomNumber}")
+    public ResponseEntity<?> getByRoom(@PathVariable String roomNumber, WebRequest request) {
+        return serve(request, () -> timetableService.getSnapshot().forRoom(roomNumber));
+    }
+
+    /**
+     * GET /timetable/day/{dayOfWeek} — Classes on one day (case-insensitive)
+     */
+    @GetMapping("/day/{dayOfWeek}")
+    public ResponseEntity<?> getByDay(@PathVariable String dayOfWeek, WebRequest request) {
+        return serve(request, () -> timetableService.getSnapshot().forDay(dayOfWeek));
     }
 
     /**
      * POST /timetable — Add a class to the timetable (FACULTY ONLY).
-     * Validates for time-slot conflicts before saving.
+     * Rejects room and faculty time-slot conflicts.
      */
     @PostMapping
     public ResponseEntity<?> addClass(@RequestBody Timetable timetable) {
@@ -94,36 +105,138 @@ public class TimetableController {
                     .body(Map.of("error", "Access denied. Only faculty can modify the timetable."));
         }
 
-        // Validation
-        if (timetable.getDayOfWeek() == null || timetable.getStartTime() == null || timetable.getEndTime() == null) {
-            return ResponseEntity.badRequest()
-                    .body(Map.of("error", "dayOfWeek, startTime, and endTime are required."));
+        try {
+            Timetable saved = timetableService.addClass(timetable, auth.getName());
+            return ResponseEntity.ok(saved);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error adding timetable entry: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to add timetable entry."));
         }
+    }
 
-        if (!timetable.getStartTime().isBefore(timetable.getEndTime())) {
-            return ResponseEntity.badRequest()
-                    .body(Map.of("error", "Start time must be before end time."));
+    /**
+     * POST /timetable/bulk — Add a whole schedule in one request (FACULTY ONLY).
+     * All-or-nothing: any invalid or clashing row rejects the batch, with every problem row listed.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> addClasses(@RequestBody List<Timetable> timetables) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Access denied. Only faculty can modify the timetable."));
         }
 
-        // Check for overlapping entries in the same room on the same day
-        List<Timetable> conflicts = timetableRepository.findByDayOfWeekAndRoomNumber(
-                timetable.getDayOfWeek().toUpperCase(), timetable.getRoomNumber());
+        try {
+            List<Timetable> saved = timetableService.addClasses(timetables, auth.getName());
+            return ResponseEntity.ok(saved);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error adding timetable entries in bulk: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to add timetable entries."));
+        }
+    }
 
-        boolean hasOverlap = conflicts.stream().anyMatch(existing ->
-            timetable.getStartTime().isBefore(existing.getEndTime()) &&
-            timetable.getEndTime().isAfter(existing.getStartTime())
-        );
+    /**
+     * GET /timetable/suggest — Free slots for a new class (FACULTY ONLY).
+     * Both the caller and a room must be free; ranked by preferred day, rooms the course already
+     * uses, then the tightest capacity fit.
+     * ?courseCode=CS101&durationMinutes=60&days=MONDAY,WEDNESDAY&minCapacity=60&limit=10
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestSlots(@RequestParam String courseCode,
+                                          @RequestParam int durationMinutes,
+                                          @RequestParam(required = false) List<String> days,
+                                          @RequestParam(required = false) Integer minCapacity,
+                                          @RequestParam(defaultValue = "10") int limit) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Access denied. Only faculty can request slot suggestions."));
+        }
+
+        try {
+            List<TimetableSlotSuggestion> suggestions = roomService.suggestSlots(
+                    courseCode, durationMinutes, days, minCapacity, auth.getName(), limit);
+            return ResponseEntity.ok(suggestions);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error suggesting timetable slots: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to suggest timetable slots."));
+        }
+    }
+
+    /**
+     * GET /timetable/rooms — Rooms on record with their capacity
+     */
+    @GetMapping("/rooms")
+    public ResponseEntity<?> getRooms() {
+        try {
+            return ResponseEntity.ok(roomService.getRooms());
+        } catch (Exception e) {
+            log.error("Error fetching rooms: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch rooms."));
+        }
+    }
 
-        if (hasOverlap) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(Map.of("error", "Time slot conflict: this room is already booked for an overlapping time on " + timetable.getDayOfWeek() + "."));
+    /**
+     * POST /timetable/rooms — Create or update a room (FACULTY or ADMIN)
+     */
+    @PostMapping("/rooms")
+    public ResponseEntity<?> saveRoom(@RequestBody Room room) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (!hasRole(auth, "ROLE_FACULTY") && !hasRole(auth, "ROLE_ADMIN")) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "Access denied. Only faculty or admins can manage rooms."));
         }
 
-        timetable.setFacultyEmail(auth.getName());
-        timetable.setDayOfWeek(timetable.getDayOfWeek().toUpperCase()); // Normalize
-        Timetable saved = timetableRepository.save(timetable);
-        log.info("Timetable entry added: course={}, day={}, room={}, by={}", saved.getCourseCode(), saved.getDayOfWeek(), saved.getRoomNumber(), auth.getName());
-        return ResponseEntity.ok(saved);
+        try {
+            return ResponseEntity.ok(roomService.saveRoom(room));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error saving room: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to save room."));
+        }
+    }
+
+    // ─── Helpers ───────────────────────────────────────────────
+
+    private ResponseEntity<?> serve(WebRequest request, Supplier<TimetableService.TimetableView> select) {
+        try {
+            TimetableService.TimetableView view = select.get();
+            long lastModified = view.lastModified().toEpochMilli();
+
+            if (request.checkNotModified(view.etag(), lastModified)) {
+                return null;
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(view.etag())
+                    .lastModified(lastModified)
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(view.body());
+        } catch (Exception e) {
+            log.error("Error fetching timetable: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch timetable."));
+        }
     }
 
     private boolean hasRole(Authentication auth, String role) {
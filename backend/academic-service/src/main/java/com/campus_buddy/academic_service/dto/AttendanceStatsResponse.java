@@ -0,0 +1,21 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for one student's attendance in one course
+ * Percentage is attended / sessionsHeld, rounded to one decimal (0 when no sessions were held)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceStatsResponse {
+
+    private String studentEmail;
+    private String courseCode;
+    private long attended;
+    private long sessionsHeld;
+    private double percentage;
+}
@@ -0,0 +1,23 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One day or week of a course's attendance trend
+ * Period is the lecture date (daily) or the Monday of the week (weekly)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceTrendPoint {
+
+    private LocalDate period;
+    private long sessionsHeld;
+    private long attended;
+    private long late;
+    private double averagePerSession;
+}
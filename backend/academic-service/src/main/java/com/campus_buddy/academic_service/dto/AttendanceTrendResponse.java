@@ -0,0 +1,26 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for a course's daily or weekly attendance trend (Faculty)
+ * refreshedThrough is the rollup high-water mark: attendance marked after it is not included yet
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceTrendResponse {
+
+    private String courseCode;
+    private String granularity; // "DAILY" or "WEEKLY"
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDateTime refreshedThrough;
+    private List<AttendanceTrendPoint> points;
+}
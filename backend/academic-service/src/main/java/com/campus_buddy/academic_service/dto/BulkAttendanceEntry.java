@@ -0,0 +1,18 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of a bulk attendance import (JSON array element or CSV line)
+ * Status is optional and defaults to PRESENT
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAttendanceEntry {
+
+    private String studentEmail;
+    private String status;
+}
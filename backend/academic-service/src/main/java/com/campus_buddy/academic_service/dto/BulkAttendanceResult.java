@@ -0,0 +1,27 @@
+package com.campus_buddy.academic_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-row outcome of a bulk attendance import, streamed back as one NDJSON line
+ * Result is MARKED, DUPLICATE or INVALID; row is the 1-based position in the upload
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkAttendanceResult {
+
+    public static final String MARKED = "MARKED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String INVALID = "INVALID";
+
+    private int row;
+    private String studentEmail;
+    private String result;
+    private Long attendanceId;
+    private String message;
+}
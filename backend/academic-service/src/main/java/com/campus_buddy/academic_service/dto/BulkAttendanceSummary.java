@@ -0,0 +1,20 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Totals of a bulk attendance import, sent as the last NDJSON line
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAttendanceSummary {
+
+    private String sessionId;
+    private int total;
+    private int marked;
+    private int duplicate;
+    private int invalid;
+}
@@ -0,0 +1,22 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for a course's attendance statistics (Faculty)
+ * Lists every student who has attended at least once
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseAttendanceStatsResponse {
+
+    private String courseCode;
+    private long sessionsHeld;
+    private double averagePercentage;
+    private List<AttendanceStatsResponse> students;
+}
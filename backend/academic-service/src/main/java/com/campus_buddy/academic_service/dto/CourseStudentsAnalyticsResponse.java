@@ -0,0 +1,26 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for per-student analytics of a course over a window of weeks (Faculty)
+ * Used for late arrivals and students below an attendance threshold
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseStudentsAnalyticsResponse {
+
+    private String courseCode;
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDateTime refreshedThrough;
+    private long sessionsHeld;
+    private List<StudentWindowStats> students;
+}
@@ -20,4 +20,7 @@ public class CreateSessionRequest {
     private Double latitude;
     private Double longitude;
     private Double allowedRadius;
+
+    /** Show a code that changes every few seconds instead of one fixed code */
+    private Boolean rotatingCode;
 }
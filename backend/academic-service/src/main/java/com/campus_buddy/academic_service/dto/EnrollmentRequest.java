@@ -0,0 +1,19 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for enrolling in a course
+ * Students enroll themselves; faculty may enroll a student by email
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentRequest {
+
+    private String courseCode;
+
+    private String studentEmail; // Faculty only; ignored for students
+}
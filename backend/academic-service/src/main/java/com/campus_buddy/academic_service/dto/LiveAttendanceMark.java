@@ -0,0 +1,20 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * "attendance" event of the live session feed: one student checked in, and the session's running count
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveAttendanceMark {
+
+    private String studentEmail;
+    private LocalDateTime markedAt;
+    private int count;
+}
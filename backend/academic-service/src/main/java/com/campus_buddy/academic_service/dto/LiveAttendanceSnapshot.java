@@ -0,0 +1,22 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * "snapshot" event of the live session feed: sent on connect, and instead of a replay when the
+ * client's Last-Event-ID is older than the buffered events
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveAttendanceSnapshot {
+
+    private String sessionId;
+    private String courseCode;
+    private int count;
+    private LocalDateTime expiryTime;
+}
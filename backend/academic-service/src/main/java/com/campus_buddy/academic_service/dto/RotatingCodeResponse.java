@@ -0,0 +1,23 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Current code of a rotating-code session for the faculty display
+ * The display should refresh after validForSeconds (end of the current time step)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RotatingCodeResponse {
+
+    private String sessionId;
+    private String code;
+    private int validForSeconds;
+    private int stepSeconds;
+    private LocalDateTime expiryTime;
+}
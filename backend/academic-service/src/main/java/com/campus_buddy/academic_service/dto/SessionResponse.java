@@ -16,8 +16,9 @@ import java.time.LocalDateTime;
 public class SessionResponse {
 
     private String sessionId;
-    private String sessionCode;
+    private String sessionCode; // null for rotating-code sessions: GET /attendance/session/{id}/code
     private String courseCode;
     private LocalDateTime expiryTime;
     private String createdBy;
+    private boolean rotatingCode;
 }
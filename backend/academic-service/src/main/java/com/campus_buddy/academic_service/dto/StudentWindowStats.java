@@ -0,0 +1,20 @@
+package com.campus_buddy.academic_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One student's attendance in a course over an analytics window
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentWindowStats {
+
+    private String studentEmail;
+    private long attended;
+    private long late;
+    private long sessionsHeld;
+    private double percentage;
+}
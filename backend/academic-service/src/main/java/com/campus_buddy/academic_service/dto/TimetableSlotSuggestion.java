@@ -0,0 +1,26 @@
+package com.campus_buddy.academic_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * Response DTO for one free slot suggested for a new class, best first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimetableSlotSuggestion {
+
+    private String dayOfWeek;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String roomNumber;
+    private Integer capacity; // null if the room's capacity is not recorded
+    private boolean preferredDay;
+    private boolean roomUsedByCourse; // course already meets in this room
+}
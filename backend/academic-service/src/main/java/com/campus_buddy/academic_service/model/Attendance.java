@@ -16,14 +16,21 @@ import java.time.LocalDateTime;
 @Table(name = "attendance", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"student_email", "course_code", "lecture_date"}),
     @UniqueConstraint(columnNames = {"student_email", "qr_session_id"})
+}, indexes = {
+    @Index(name = "idx_attendance_marked_at", columnList = "marked_at"),
+    @Index(name = "idx_attendance_recorded_at", columnList = "recorded_at") // Rollup job high-water mark scans
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Attendance {
 
+    /** attendance_seq increment: each nextval reserves this many ids (pooled-lo), for Hibernate and AttendanceBatchWriter alike */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_seq")
+    @SequenceGenerator(name = "attendance_seq", sequenceName = "attendance_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -44,6 +51,10 @@ public class Attendance {
     @Column(nullable = false)
     private LocalDateTime markedAt;
 
+    // When the row was inserted; later than markedAt for write-behind and dead-letter replays.
+    // Null on rows written before the column existed (the rollup job falls back to markedAt)
+    private LocalDateTime recordedAt;
+
     @PrePersist
     protected void onCreate() {
         if (this.markedAt == null) {
@@ -55,5 +66,6 @@ public class Attendance {
         if (this.status == null) {
             this.status = "PRESENT";
         }
+        this.recordedAt = LocalDateTime.now();
     }
 }
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
  * Students must mark attendance using a valid, non-expired session
  */
 @Entity
-@Table(name = "attendance_session")
+@Table(name = "attendance_session", indexes = {
+    @Index(name = "idx_attendance_session_created_at", columnList = "created_at") // Rollup job high-water mark scans
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +28,13 @@ public class AttendanceSession {
     private String courseCode;
 
     @Column(unique = true)
-    private String sessionCode; // 6-digit code for accessibility
+    private String sessionCode; // 6-digit code for accessibility; null in rotating-code mode
+
+    // Rotating-code mode: the code is derived from codeSecret and the current time step, never stored
+    private Boolean rotatingCode;
+
+    @Column(length = 64)
+    private String codeSecret;
 
     @Column(nullable = false)
     private LocalDateTime expiryTime;
@@ -0,0 +1,29 @@
+package com.campus_buddy.academic_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * CourseAttendanceStats Entity - running count of attendance sessions held per course
+ * Incremented in the same transaction that creates the session
+ */
+@Entity
+@Table(name = "course_attendance_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseAttendanceStats {
+
+    @Id
+    private String courseCode;
+
+    @Column(nullable = false)
+    private long sessionsHeld;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
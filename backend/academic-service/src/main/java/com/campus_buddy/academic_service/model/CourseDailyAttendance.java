@@ -0,0 +1,45 @@
+package com.campus_buddy.academic_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * CourseDailyAttendance Entity - rollup of sessions held and attendances per course per lecture day
+ * Maintained incrementally by the attendance rollup job, never written by request handlers
+ */
+@Entity
+@Table(name = "course_daily_attendance")
+@IdClass(CourseDailyAttendance.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseDailyAttendance {
+
+    @Id
+    private String courseCode;
+
+    @Id
+    private LocalDate lectureDate;
+
+    @Column(nullable = false)
+    private long sessionsHeld;
+
+    @Column(nullable = false)
+    private long attended; // PRESENT + LATE
+
+    @Column(nullable = false)
+    private long late;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String courseCode;
+        private LocalDate lectureDate;
+    }
+}
@@ -0,0 +1,45 @@
+package com.campus_buddy.academic_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * CourseWeeklyAttendance Entity - rollup of sessions held and attendances per course per ISO week
+ * weekStart is the Monday of the week. Maintained incrementally by the attendance rollup job
+ */
+@Entity
+@Table(name = "course_weekly_attendance")
+@IdClass(CourseWeeklyAttendance.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseWeeklyAttendance {
+
+    @Id
+    private String courseCode;
+
+    @Id
+    private LocalDate weekStart;
+
+    @Column(nullable = false)
+    private long sessionsHeld;
+
+    @Column(nullable = false)
+    private long attended; // PRESENT + LATE
+
+    @Column(nullable = false)
+    private long late;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String courseCode;
+        private LocalDate weekStart;
+    }
+}
@@ -0,0 +1,45 @@
+package com.campus_buddy.academic_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Enrollment Entity - a student taking a course
+ * Drives the per-student timetable: a student sees the timetable entries of the courses they are enrolled in
+ */
+@Entity
+@Table(name = "enrollment", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"student_email", "course_code"})
+}, indexes = {
+    @Index(name = "idx_enrollment_course", columnList = "course_code")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Enrollment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollment_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String studentEmail;
+
+    @Column(nullable = false)
+    private String courseCode;
+
+    @Column(nullable = false)
+    private LocalDateTime enrolledAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (enrolledAt == null) {
+            enrolledAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.campus_buddy.academic_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * RollupWatermark Entity - high-water mark of a rollup job
+ * Rows with a timestamp at or before highWater have already been folded into the rollup tables
+ */
+@Entity
+@Table(name = "rollup_watermark")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupWatermark {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime highWater;
+
+    private LocalDateTime updatedAt;
+}
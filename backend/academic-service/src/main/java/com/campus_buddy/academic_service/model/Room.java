@@ -0,0 +1,26 @@
+package com.campus_buddy.academic_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Room Entity - a teaching room and how many students it seats
+ * Keyed by the same room number used in timetable entries; used by slot suggestions
+ */
+@Entity
+@Table(name = "room")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Room {
+
+    @Id
+    private String roomNumber;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    private String building;
+}
@@ -0,0 +1,44 @@
+package com.campus_buddy.academic_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * StudentAttendanceStats Entity - running count of attendances per student per course
+ * Incremented in the same transaction that inserts the attendance row
+ */
+@Entity
+@Table(name = "student_attendance_stats", indexes = {
+    @Index(name = "idx_student_stats_course", columnList = "course_code")
+})
+@IdClass(StudentAttendanceStats.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentAttendanceStats {
+
+    @Id
+    private String studentEmail;
+
+    @Id
+    private String courseCode;
+
+    @Column(nullable = false)
+    private long attended;
+
+    @Column(nullable = false)
+    private LocalDateTime lastMarkedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String studentEmail;
+        private String courseCode;
+    }
+}
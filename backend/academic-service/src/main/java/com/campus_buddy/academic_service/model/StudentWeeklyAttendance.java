@@ -0,0 +1,48 @@
+package com.campus_buddy.academic_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * StudentWeeklyAttendance Entity - rollup of one student's attendances per course per ISO week
+ * weekStart is the Monday of the week. Maintained incrementally by the attendance rollup job
+ */
+@Entity
+@Table(name = "student_weekly_attendance", indexes = {
+    @Index(name = "idx_student_weekly_course_week", columnList = "course_code, week_start")
+})
+@IdClass(StudentWeeklyAttendance.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentWeeklyAttendance {
+
+    @Id
+    private String studentEmail;
+
+    @Id
+    private String courseCode;
+
+    @Id
+    private LocalDate weekStart;
+
+    @Column(nullable = false)
+    private long attended; // PRESENT + LATE
+
+    @Column(nullable = false)
+    private long late;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String studentEmail;
+        private String courseCode;
+        private LocalDate weekStart;
+    }
+}
@@ -15,7 +15,8 @@ import java.time.LocalTime;
 public class Timetable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timetable_seq")
+    @SequenceGenerator(name = "timetable_seq", sequenceName = "timetable_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
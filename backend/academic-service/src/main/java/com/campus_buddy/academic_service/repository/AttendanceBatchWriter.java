@@ -0,0 +1,121 @@
+package com.campus_buddy.academic_service.repository;
+
+import com.campus_buddy.academic_service.model.Attendance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-row JDBC insert for attendance records.
+ * Bypasses per-entity persistence so a whole batch reaches Postgres in a single statement.
+ * Rows that hit a unique constraint (already marked) are skipped, not failed.
+ * Ids come from attendance_seq, the same sequence Hibernate uses, and follow its pooled-lo scheme:
+ * nextval v reserves ids v .. v + ID_ALLOCATION_SIZE - 1, so a batch takes one nextval per
+ * ID_ALLOCATION_SIZE rows and numbers its rows inside those blocks. Ids of rows skipped as duplicates
+ * are left unused.
+ * The per-student attendance counters (student_attendance_stats) are bumped in the same transaction.
+ */
+@Repository
+public class AttendanceBatchWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO attendance (id, student_email, course_code, lecture_date, status, qr_session_id, marked_at, recorded_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String RESERVE_ID_BLOCKS = "SELECT nextval('attendance_seq') FROM generate_series(1, ?)";
+    private static final String INSERT_SUFFIX = " ON CONFLICT DO NOTHING RETURNING id, student_email, qr_session_id";
+    private static final String INCREMENT_STATS =
+            "INSERT INTO student_attendance_stats (student_email, course_code, attended, last_marked_at) " +
+            "VALUES (?, ?, ?, now()) ON CONFLICT (student_email, course_code) DO UPDATE " +
+            "SET attended = student_attendance_stats.attended + EXCLUDED.attended, last_marked_at = now()";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert all records in one statement.
+     * @param records Fully populated attendance records (markedAt, lectureDate and status set)
+     * @return The records that were actually inserted, with their generated ids
+     */
+    @Transactional
+    public List<Attendance> insertIgnoringDuplicates(List<Attendance> records) {
+        if (records.isEmpty()) {
+            return List.of();
+        }
+
+        long[] ids = reserveIds(records.size());
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        Object[] args = new Object[records.size() * 8];
+        Map<String, Attendance> byKey = new HashMap<>();
+        LocalDateTime recordedAt = LocalDateTime.now();
+
+        for (int i = 0; i < records.size(); i++) {
+            Attendance a = records.get(i);
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+            int p = i * 8;
+            args[p] = ids[i];
+            args[p + 1] = a.getStudentEmail();
+            args[p + 2] = a.getCourseCode();
+            args[p + 3] = Date.valueOf(a.getLectureDate());
+            args[p + 4] = a.getStatus();
+            args[p + 5] = a.getQrSessionId();
+            args[p + 6] = Timestamp.valueOf(a.getMarkedAt());
+            args[p + 7] = Timestamp.valueOf(recordedAt);
+            a.setRecordedAt(recordedAt);
+            byKey.put(key(a.getStudentEmail(), a.getQrSessionId()), a);
+        }
+        sql.append(INSERT_SUFFIX);
+
+        List<Attendance> inserted = new ArrayList<>(records.size());
+        jdbcTemplate.query(sql.toString(), rs -> {
+            Attendance a = byKey.get(key(rs.getString("student_email"), rs.getString("qr_session_id")));
+            if (a != null) {
+                a.setId(rs.getLong("id"));
+                inserted.add(a);
+            }
+        }, args);
+        incrementStats(inserted);
+        return inserted;
+    }
+
+    /**
+     * {@code count} ids from as few pooled-lo blocks as possible, one nextval round trip in total
+     */
+    private long[] reserveIds(int count) {
+        int blocks = (count + Attendance.ID_ALLOCATION_SIZE - 1) / Attendance.ID_ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(RESERVE_ID_BLOCKS, Long.class, blocks);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = blockStarts.get(i / Attendance.ID_ALLOCATION_SIZE) + i % Attendance.ID_ALLOCATION_SIZE;
+        }
+        return ids;
+    }
+
+    /**
+     * One counter upsert per (student, course) among the inserted rows, sent as a JDBC batch
+     */
+    private void incrementStats(List<Attendance> inserted) {
+        Map<String, Object[]> counts = new LinkedHashMap<>();
+        for (Attendance a : inserted) {
+            counts.merge(key(a.getStudentEmail(), a.getCourseCode()),
+                    new Object[]{a.getStudentEmail(), a.getCourseCode(), 1},
+                    (current, one) -> new Object[]{current[0], current[1], (Integer) current[2] + 1});
+        }
+        if (!counts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT_STATS, new ArrayList<>(counts.values()));
+        }
+    }
+
+    private static String key(String studentEmail, String sessionOrCourse) {
+        return studentEmail + '\n' + sessionOrCourse;
+    }
+}
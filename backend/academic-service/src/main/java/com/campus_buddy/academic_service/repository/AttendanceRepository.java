@@ -1,10 +1,16 @@
 package com.campus_buddy.academic_service.repository;
 
 import com.campus_buddy.academic_service.model.Attendance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository for Attendance entity
@@ -35,4 +41,29 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
      * @return true if attendance already exists
      */
     boolean existsByStudentEmailAndQrSessionId(String studentEmail, String qrSessionId);
+
+    /**
+     * All student emails already marked for a session, in one query.
+     * Seeds the in-memory duplicate check used by the write-behind pipeline.
+     * @param qrSessionId The attendance session ID
+     * @return Emails of students who have attendance for the session
+     */
+    @Query("select a.studentEmail from Attendance a where a.qrSessionId = :qrSessionId")
+    List<String> findStudentEmailsByQrSessionId(@Param("qrSessionId") String qrSessionId);
+
+    /**
+     * Stream all attendance records for a course, newest lecture first, for exports.
+     * Rows are fetched from a forward-only cursor in chunks of 500 instead of all at once.
+     * Must be consumed inside a transaction (the PostgreSQL driver only honours the fetch size
+     * with auto-commit off) and closed afterwards.
+     * @param courseCode Course code
+     * @return Lazily fetched stream of attendance records
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select a from Attendance a where a.courseCode = :courseCode order by a.lectureDate desc, a.id")
+    Stream<Attendance> streamByCourseCode(@Param("courseCode") String courseCode);
 }
@@ -0,0 +1,120 @@
+package com.campus_buddy.academic_service.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Incremental refresh of the attendance rollup tables (course_daily_attendance,
+ * course_weekly_attendance, student_weekly_attendance).
+ *
+ * Each refresh folds in only the attendance rows with recorded_at (the insert time, not the scan time
+ * marked_at), and the sessions with created_at, in the window (watermark, upTo], using set-based INSERT ... SELECT ... ON CONFLICT DO UPDATE
+ * statements, then advances the watermark — all in one transaction. The watermark row is locked
+ * FOR UPDATE first, so replicas running the job at the same time take turns instead of counting the
+ * same window twice.
+ */
+@Repository
+public class AttendanceRollupWriter {
+
+    public static final String WATERMARK = "attendance_rollup";
+
+    private static final String INIT_WATERMARK =
+            "INSERT INTO rollup_watermark (name, high_water, updated_at) VALUES (?, TIMESTAMP '1970-01-01 00:00:00', now()) " +
+            "ON CONFLICT (name) DO NOTHING";
+    private static final String LOCK_WATERMARK =
+            "SELECT high_water FROM rollup_watermark WHERE name = ? FOR UPDATE";
+    private static final String ADVANCE_WATERMARK =
+            "UPDATE rollup_watermark SET high_water = ?, updated_at = now() WHERE name = ?";
+
+    private static final String SESSIONS_DAILY =
+            "INSERT INTO course_daily_attendance (course_code, lecture_date, sessions_held, attended, late) " +
+            "SELECT course_code, CAST(created_at AS date), count(*), 0, 0 FROM attendance_session " +
+            "WHERE created_at > ? AND created_at <= ? GROUP BY course_code, CAST(created_at AS date) " +
+            "ON CONFLICT (course_code, lecture_date) DO UPDATE " +
+            "SET sessions_held = course_daily_attendance.sessions_held + EXCLUDED.sessions_held";
+    private static final String SESSIONS_WEEKLY =
+            "INSERT INTO course_weekly_attendance (course_code, week_start, sessions_held, attended, late) " +
+            "SELECT course_code, CAST(date_trunc('week', created_at) AS date), count(*), 0, 0 FROM attendance_session " +
+            "WHERE created_at > ? AND created_at <= ? GROUP BY course_code, CAST(date_trunc('week', created_at) AS date) " +
+            "ON CONFLICT (course_code, week_start) DO UPDATE " +
+            "SET sessions_held = course_weekly_attendance.sessions_held + EXCLUDED.sessions_held";
+
+    // recorded_at is the insert time, so rows inserted late (write-behind, dead-letter replay) still land in
+    // a window that has not been processed yet; rows from before the column existed use marked_at
+    private static final String ATTENDANCE_IN_WINDOW =
+            "(recorded_at > ? AND recorded_at <= ? OR recorded_at IS NULL AND marked_at > ? AND marked_at <= ?)";
+
+    private static final String ATTENDANCE_DAILY =
+            "INSERT INTO course_daily_attendance (course_code, lecture_date, sessions_held, attended, late) " +
+            "SELECT course_code, lecture_date, 0, count(*), count(*) FILTER (WHERE status = 'LATE') FROM attendance " +
+            "WHERE " + ATTENDANCE_IN_WINDOW + " GROUP BY course_code, lecture_date " +
+            "ON CONFLICT (course_code, lecture_date) DO UPDATE " +
+            "SET attended = course_daily_attendance.attended + EXCLUDED.attended, " +
+            "late = course_daily_attendance.late + EXCLUDED.late";
+    private static final String ATTENDANCE_WEEKLY =
+            "INSERT INTO course_weekly_attendance (course_code, week_start, sessions_held, attended, late) " +
+            "SELECT course_code, CAST(date_trunc('week', lecture_date) AS date), 0, count(*), count(*) FILTER (WHERE status = 'LATE') " +
+            "FROM attendance WHERE " + ATTENDANCE_IN_WINDOW + " " +
+            "GROUP BY course_code, CAST(date_trunc('week', lecture_date) AS date) " +
+            "ON CONFLICT (course_code, week_start) DO UPDATE " +
+            "SET attended = course_weekly_attendance.attended + EXCLUDED.attended, " +
+            "late = course_weekly_attendance.late + EXCLUDED.late";
+    private static final String STUDENT_WEEKLY =
+            "INSERT INTO student_weekly_attendance (student_email, course_code, week_start, attended, late) " +
+            "SELECT student_email, course_code, CAST(date_trunc('week', lecture_date) AS date), count(*), count(*) FILTER (WHERE status = 'LATE') " +
+            "FROM attendance WHERE " + ATTENDANCE_IN_WINDOW + " " +
+            "GROUP BY student_email, course_code, CAST(date_trunc('week', lecture_date) AS date) " +
+            "ON CONFLICT (student_email, course_code, week_start) DO UPDATE " +
+            "SET attended = student_weekly_attendance.attended + EXCLUDED.attended, " +
+            "late = student_weekly_attendance.late + EXCLUDED.late";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Fold everything up to {@code upTo} into the rollups.
+     * @param upTo New high-water mark; should trail the clock by more than the longest insert transaction
+     *             plus the clock skew between replicas, so rows stamped before it have committed
+     * @return The window that was processed (from is exclusive, to inclusive); empty if upTo is not
+     *         past the current watermark
+     */
+    @Transactional
+    public Window refresh(LocalDateTime upTo) {
+        jdbcTemplate.update(INIT_WATERMARK, WATERMARK);
+        LocalDateTime from = jdbcTemplate.queryForObject(LOCK_WATERMARK, LocalDateTime.class, WATERMARK);
+        if (from != null && !upTo.isAfter(from)) {
+            return new Window(from, from, 0, 0);
+        }
+
+        Timestamp lower = Timestamp.valueOf(from);
+        Timestamp upper = Timestamp.valueOf(upTo);
+        int sessionGroups = jdbcTemplate.update(SESSIONS_DAILY, lower, upper);
+        jdbcTemplate.update(SESSIONS_WEEKLY, lower, upper);
+        int attendanceGroups = jdbcTemplate.update(ATTENDANCE_DAILY, lower, upper, lower, upper);
+        jdbcTemplate.update(ATTENDANCE_WEEKLY, lower, upper, lower, upper);
+        jdbcTemplate.update(STUDENT_WEEKLY, lower, upper, lower, upper);
+
+        jdbcTemplate.update(ADVANCE_WATERMARK, upper, WATERMARK);
+        return new Window(from, upTo, sessionGroups, attendanceGroups);
+    }
+
+    /**
+     * Current high-water mark, or null before the first refresh
+     */
+    public LocalDateTime watermark() {
+        return jdbcTemplate.query("SELECT high_water FROM rollup_watermark WHERE name = ?",
+                rs -> rs.next() ? rs.getTimestamp(1).toLocalDateTime() : null, WATERMARK);
+    }
+
+    /**
+     * @param sessionGroups Number of (course, day) rollup rows touched by new sessions
+     * @param attendanceGroups Number of (course, day) rollup rows touched by new attendance
+     */
+    public record Window(LocalDateTime from, LocalDateTime to, int sessionGroups, int attendanceGroups) {
+    }
+}
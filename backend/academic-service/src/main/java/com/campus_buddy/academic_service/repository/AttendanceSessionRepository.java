@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,4 +24,9 @@ public interface AttendanceSessionRepository extends JpaRepository<AttendanceSes
     Optional<AttendanceSession> findByIdAndExpiryTimeAfter(String id, LocalDateTime currentTime);
 
     Optional<AttendanceSession> findBySessionCodeAndExpiryTimeAfter(String sessionCode, LocalDateTime currentTime);
+
+    /**
+     * Live rotating-code sessions; their codes are not stored, so a code is matched against each
+     */
+    List<AttendanceSession> findByRotatingCodeTrueAndExpiryTimeAfter(LocalDateTime currentTime);
 }
@@ -0,0 +1,36 @@
+package com.campus_buddy.academic_service.repository;
+
+import com.campus_buddy.academic_service.model.CourseAttendanceStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for CourseAttendanceStats entity
+ * Counters are bumped with a single upsert so concurrent session creation never loses an increment
+ */
+@Repository
+public interface CourseAttendanceStatsRepository extends JpaRepository<CourseAttendanceStats, String> {
+
+    /**
+     * Add one held session to the course, creating its counter row on first use
+     * @param courseCode Course code
+     */
+    @Modifying
+    @Query(value = "INSERT INTO course_attendance_stats (course_code, sessions_held, updated_at) VALUES (:courseCode, 1, now()) " +
+            "ON CONFLICT (course_code) DO UPDATE SET sessions_held = course_attendance_stats.sessions_held + 1, updated_at = now()",
+            nativeQuery = true)
+    void incrementSessionsHeld(@Param("courseCode") String courseCode);
+
+    /**
+     * Recompute every course counter from attendance_session (used to seed the table)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO course_attendance_stats (course_code, sessions_held, updated_at) " +
+            "SELECT course_code, count(*), now() FROM attendance_session GROUP BY course_code " +
+            "ON CONFLICT (course_code) DO UPDATE SET sessions_held = EXCLUDED.sessions_held, updated_at = now()",
+            nativeQuery = true)
+    int rebuildAll();
+}
@@ -0,0 +1,17 @@
+package com.campus_buddy.academic_service.repository;
+
+import com.campus_buddy.academic_service.model.CourseWeeklyAttendance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for the course_weekly_attendance rollup (read side; rows are written by AttendanceRollupWriter)
+ */
+@Repository
+public interface CourseWeeklyAttendanceRepository extends JpaRepository<CourseWeeklyAttendance, CourseWeeklyAttendance.Key> {
+
+    List<CourseWeeklyAttendance> findByCourseCodeAndWeekStartBetweenOrderByWeekStart(String courseCode, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,29 @@
+package com.campus_buddy.academic_service.repository;
+
+import com.campus_buddy.academic_service.model.Enrollment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for Enrollment entity
+ */
+@Repository
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+
+    List<Enrollment> findByStudentEmailOrderByCourseCode(String studentEmail);
+
+    List<Enrollment> findByCourseCodeOrderByStudentEmail(String courseCode);
+
+    Optional<Enrollment> findByStudentEmailAndCourseCode(String studentEmail, String courseCode);
+
+    /**
+     * Course codes only — the student→courses mapping behind the per-student timetable
+     */
+    @Query("SELECT e.courseCode FROM Enrollment e WHERE e.studentEmail = :studentEmail")
+    List<String> findCourseCodesByStudentEmail(@Param("studentEmail") String studentEmail);
+}
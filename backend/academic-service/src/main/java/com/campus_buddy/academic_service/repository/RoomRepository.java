@@ -0,0 +1,16 @@
+package com.campus_buddy.academic_service.repository;
+
+import com.campus_buddy.academic_service.model.Room;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for Room entity
+ */
+@Repository
+public interface RoomRepository extends JpaRepository<Room, String> {
+
+    List<Room> findByOrderByRoomNumber();
+}
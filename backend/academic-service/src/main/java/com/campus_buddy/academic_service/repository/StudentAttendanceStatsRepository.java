@@ -0,0 +1,44 @@
+package com.campus_buddy.academic_service.repository;
+
+import com.campus_buddy.academic_service.model.StudentAttendanceStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for StudentAttendanceStats entity
+ * Counters are bumped with a single upsert so concurrent marks never lose an increment
+ */
+@Repository
+public interface StudentAttendanceStatsRepository extends JpaRepository<StudentAttendanceStats, StudentAttendanceStats.Key> {
+
+    List<StudentAttendanceStats> findByStudentEmailOrderByCourseCode(String studentEmail);
+
+    List<StudentAttendanceStats> findByCourseCodeOrderByStudentEmail(String courseCode);
+
+    /**
+     * Add one attendance for the student in the course, creating the counter row on first use
+     * @param studentEmail Student's email
+     * @param courseCode Course code
+     */
+    @Modifying
+    @Query(value = "INSERT INTO student_attendance_stats (student_email, course_code, attended, last_marked_at) " +
+            "VALUES (:studentEmail, :courseCode, 1, now()) ON CONFLICT (student_email, course_code) DO UPDATE " +
+            "SET attended = student_attendance_stats.attended + 1, last_marked_at = now()",
+            nativeQuery = true)
+    void incrementAttended(@Param("studentEmail") String studentEmail, @Param("courseCode") String courseCode);
+
+    /**
+     * Recompute every student counter from the attendance table (used to seed the table)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO student_attendance_stats (student_email, course_code, attended, last_marked_at) " +
+            "SELECT student_email, course_code, count(*), max(marked_at) FROM attendance GROUP BY student_email, course_code " +
+            "ON CONFLICT (student_email, course_code) DO UPDATE SET attended = EXCLUDED.attended, last_marked_at = EXCLUDED.last_marked_at",
+            nativeQuery = true)
+    int rebuildAll();
+}
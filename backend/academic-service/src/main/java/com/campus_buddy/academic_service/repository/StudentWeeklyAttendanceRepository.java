@@ -0,0 +1,38 @@
+package com.campus_buddy.academic_service.repository;
+
+import com.campus_buddy.academic_service.model.StudentWeeklyAttendance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for the student_weekly_attendance rollup (read side; rows are written by AttendanceRollupWriter)
+ */
+@Repository
+public interface StudentWeeklyAttendanceRepository extends JpaRepository<StudentWeeklyAttendance, StudentWeeklyAttendance.Key> {
+
+    /**
+     * Per-student totals for a course over a range of weeks
+     * @param courseCode Course code
+     * @param from First week start (Monday), inclusive
+     * @param to Last week start (Monday), inclusive
+     * @return One row per student with at least one attendance in the range
+     */
+    @Query("select s.studentEmail as studentEmail, sum(s.attended) as attended, sum(s.late) as late " +
+           "from StudentWeeklyAttendance s " +
+           "where s.courseCode = :courseCode and s.weekStart between :from and :to " +
+           "group by s.studentEmail")
+    List<StudentTotals> sumByStudent(@Param("courseCode") String courseCode,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    interface StudentTotals {
+        String getStudentEmail();
+        Long getAttended();
+        Long getLate();
+    }
+}
@@ -1,5 +1,6 @@
 package com.campus_buddy.academic_service.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,8 +31,10 @@ public class SecurityConfig {
                 // Disable CSRF (stateless JWT API)
                 .csrf(AbstractHttpConfigurer::disable)
                 
-                // All endpoints require authentication
+                // All endpoints require authentication. The ASYNC re-dispatch that completes a
+                // streamed response (export, bulk import report) was authorized on the original request.
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
                 
@@ -0,0 +1,107 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.AttendanceSession;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ActiveSessionRegistry — in-process cache of live attendance sessions, keyed by id and by session code.
+ *
+ * Filled when a session is created and on repository read-through, so the mark-attendance hot path
+ * resolves a live session without a DB round trip. Sessions are never modified after creation, which
+ * keeps this safe across replicas: a replica that did not create the session misses once, falls back
+ * to the repository, and caches the row until it expires.
+ */
+@Component
+public class ActiveSessionRegistry {
+
+    private final Map<String, AttendanceSession> sessionsById = new ConcurrentHashMap<>();
+    private final Map<String, AttendanceSession> sessionsByCode = new ConcurrentHashMap<>();
+
+    /**
+     * Cache a session until its expiry time. Any stale entry holding the same code is replaced.
+     * Returns the session so it can be used inline in Optional chains.
+     */
+    public AttendanceSession register(AttendanceSession session) {
+        LocalDateTime now = LocalDateTime.now();
+        evictExpired(now);
+
+        if (session.getId() == null || !session.getExpiryTime().isAfter(now)) {
+            return session; // Nothing worth caching
+        }
+
+        sessionsById.put(session.getId(), session);
+        if (session.getSessionCode() != null) {
+            sessionsByCode.put(session.getSessionCode(), session);
+        }
+        return session;
+    }
+
+    /**
+     * Find a live session by id. Expired entries are evicted on access.
+     */
+    public Optional<AttendanceSession> findById(String id, LocalDateTime now) {
+        return live(sessionsById.get(id), now);
+    }
+
+    /**
+     * Find a live session by its (upper-case) session code. Expired entries are evicted on access.
+     */
+    public Optional<AttendanceSession> findByCode(String sessionCode, LocalDateTime now) {
+        return live(sessionsByCode.get(sessionCode), now);
+    }
+
+    /**
+     * Live sessions in rotating-code mode (not indexed by code, since their code changes every step).
+     * These have no repository read-through; sessions from other replicas arrive through
+     * {@link AttendanceService#syncRotatingSessions}.
+     */
+    public List<AttendanceSession> findLiveRotating(LocalDateTime now) {
+        return sessionsById.values().stream()
+                .filter(s -> Boolean.TRUE.equals(s.getRotatingCode()) && s.getExpiryTime().isAfter(now))
+                .toList();
+    }
+
+    /**
+     * Drop a session from both indexes.
+     */
+    public void invalidate(AttendanceSession session) {
+        if (session.getId() != null) {
+            sessionsById.remove(session.getId(), session);
+        }
+        if (session.getSessionCode() != null) {
+            sessionsByCode.remove(session.getSessionCode(), session);
+        }
+    }
+
+    /**
+     * Number of sessions currently cached (including not-yet-swept expired ones).
+     */
+    public int size() {
+        return sessionsById.size();
+    }
+
+    private Optional<AttendanceSession> live(AttendanceSession session, LocalDateTime now) {
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (!session.getExpiryTime().isAfter(now)) {
+            invalidate(session);
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    /**
+     * Only a handful of sessions are live at once, so a full sweep on each registration is cheap.
+     */
+    private void evictExpired(LocalDateTime now) {
+        sessionsById.values().removeIf(s -> !s.getExpiryTime().isAfter(now));
+        sessionsByCode.values().removeIf(s -> !s.getExpiryTime().isAfter(now));
+    }
+}
@@ -0,0 +1,190 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.AttendanceTrendPoint;
+import com.campus_buddy.academic_service.dto.AttendanceTrendResponse;
+import com.campus_buddy.academic_service.dto.CourseStudentsAnalyticsResponse;
+import com.campus_buddy.academic_service.dto.StudentWindowStats;
+import com.campus_buddy.academic_service.model.CourseWeeklyAttendance;
+import com.campus_buddy.academic_service.repository.AttendanceRollupWriter;
+import com.campus_buddy.academic_service.repository.CourseDailyAttendanceRepository;
+import com.campus_buddy.academic_service.repository.CourseWeeklyAttendanceRepository;
+import com.campus_buddy.academic_service.repository.StudentWeeklyAttendanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * AttendanceAnalyticsService — attendance trends read from rollup tables.
+ *
+ * A scheduled job folds newly marked attendance and newly created sessions into daily and weekly
+ * rollups (see {@link AttendanceRollupWriter}), using a high-water mark on the insert time
+ * (recordedAt) / createdAt that trails the clock by {@code attendance.rollup.settle-seconds} so rows
+ * still being committed are not skipped. Marks queued by the write-behind pipeline are stamped when
+ * they are inserted, so queueing and retry delays do not need to fit inside the settle window. Queries here only ever read the rollups, so their cost depends on the window length, not
+ * on how much attendance history exists.
+ */
+@Service
+public class AttendanceAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceAnalyticsService.class);
+    private static final int DEFAULT_WEEKS = 12;
+    private static final int MAX_DAYS = 366;
+
+    @Autowired
+    private AttendanceRollupWriter rollupWriter;
+
+    @Autowired
+    private CourseDailyAttendanceRepository dailyRepository;
+
+    @Autowired
+    private CourseWeeklyAttendanceRepository weeklyRepository;
+
+    @Autowired
+    private StudentWeeklyAttendanceRepository studentWeeklyRepository;
+
+    @Value("${attendance.rollup.settle-seconds:60}")
+    private long settleSeconds;
+
+    /**
+     * Incremental rollup refresh. Safe to run on every replica: the watermark row lock serializes them.
+     */
+    @Scheduled(fixedDelayString = "${attendance.rollup.interval-ms:60000}",
+               initialDelayString = "${attendance.rollup.initial-delay-ms:15000}")
+    public void refreshRollups() {
+        try {
+            AttendanceRollupWriter.Window window = rollupWriter.refresh(LocalDateTime.now().minusSeconds(settleSeconds));
+            if (window.sessionGroups() > 0 || window.attendanceGroups() > 0) {
+                log.info("Attendance rollups refreshed ({}, {}]: sessionGroups={}, attendanceGroups={}",
+                        window.from(), window.to(), window.sessionGroups(), window.attendanceGroups());
+            }
+        } catch (Exception e) {
+            // Nothing advanced: the next run picks up the same window
+            log.warn("Attendance rollup refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sessions held, attendances and late arrivals per lecture day.
+     * @throws IllegalArgumentException if from is after to or the range exceeds a year
+     */
+    public AttendanceTrendResponse getDailyTrend(String courseCode, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusWeeks(DEFAULT_WEEKS);
+        validateRange(start, end);
+
+        List<AttendanceTrendPoint> points = dailyRepository
+                .findByCourseCodeAndLectureDateBetweenOrderByLectureDate(courseCode, start, end).stream()
+                .map(d -> point(d.getLectureDate(), d.getSessionsHeld(), d.getAttended(), d.getLate()))
+                .toList();
+        return new AttendanceTrendResponse(courseCode, "DAILY", start, end, rollupWriter.watermark(), points);
+    }
+
+    /**
+     * Sessions held, attendances and late arrivals per week (weeks start on Monday).
+     * @throws IllegalArgumentException if from is after to or the range exceeds a year
+     */
+    public AttendanceTrendResponse getWeeklyTrend(String courseCode, LocalDate from, LocalDate to) {
+        Window window = weeks(from, to);
+
+        List<AttendanceTrendPoint> points = weeklyRepository
+                .findByCourseCodeAndWeekStartBetweenOrderByWeekStart(courseCode, window.from(), window.to()).stream()
+                .map(w -> point(w.getWeekStart(), w.getSessionsHeld(), w.getAttended(), w.getLate()))
+                .toList();
+        return new AttendanceTrendResponse(courseCode, "WEEKLY", window.from(), window.to(), rollupWriter.watermark(), points);
+    }
+
+    /**
+     * Students with at least one late arrival in the window, most late first.
+     */
+    public CourseStudentsAnalyticsResponse getLateArrivals(String courseCode, LocalDate from, LocalDate to, int limit) {
+        Window window = weeks(from, to);
+        long sessionsHeld = sessionsHeld(courseCode, window);
+
+        List<StudentWindowStats> students = studentStats(courseCode, window, sessionsHeld).stream()
+                .filter(s -> s.getLate() > 0)
+                .sorted(Comparator.comparingLong(StudentWindowStats::getLate).reversed()
+                        .thenComparing(StudentWindowStats::getStudentEmail))
+                .limit(Math.max(1, limit))
+                .toList();
+        return new CourseStudentsAnalyticsResponse(courseCode, window.from(), window.to(), rollupWriter.watermark(), sessionsHeld, students);
+    }
+
+    /**
+     * Students whose attendance over the window is below {@code thresholdPercent}, lowest first.
+     * Only students who attended at least once are known to the rollups.
+     */
+    public CourseStudentsAnalyticsResponse getStudentsBelow(String courseCode, double thresholdPercent, LocalDate from, LocalDate to) {
+        if (thresholdPercent <= 0 || thresholdPercent > 100) {
+            throw new IllegalArgumentException("Threshold must be between 0 and 100.");
+        }
+        Window window = weeks(from, to);
+        long sessionsHeld = sessionsHeld(courseCode, window);
+
+        List<StudentWindowStats> students = studentStats(courseCode, window, sessionsHeld).stream()
+                .filter(s -> s.getPercentage() < thresholdPercent)
+                .sorted(Comparator.comparingDouble(StudentWindowStats::getPercentage)
+                        .thenComparing(StudentWindowStats::getStudentEmail))
+                .toList();
+        return new CourseStudentsAnalyticsResponse(courseCode, window.from(), window.to(), rollupWriter.watermark(), sessionsHeld, students);
+    }
+
+    // ─── Private helpers ───────────────────────────────────────────────
+
+    private List<StudentWindowStats> studentStats(String courseCode, Window window, long sessionsHeld) {
+        return studentWeeklyRepository.sumByStudent(courseCode, window.from(), window.to()).stream()
+                .map(t -> new StudentWindowStats(
+                    t.getStudentEmail(),
+                    t.getAttended(),
+                    t.getLate(),
+                    sessionsHeld,
+                    AttendanceStatsService.percentage(t.getAttended(), sessionsHeld)
+                ))
+                .toList();
+    }
+
+    private long sessionsHeld(String courseCode, Window window) {
+        return weeklyRepository.findByCourseCodeAndWeekStartBetweenOrderByWeekStart(courseCode, window.from(), window.to())
+                .stream()
+                .mapToLong(CourseWeeklyAttendance::getSessionsHeld)
+                .sum();
+    }
+
+    /**
+     * Default to the last 12 weeks; both ends are moved to the Monday of their week
+     */
+    private static Window weeks(LocalDate from, LocalDate to) {
+        LocalDate end = (to != null ? to : LocalDate.now()).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate start = (from != null ? from : end.minusWeeks(DEFAULT_WEEKS - 1))
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        validateRange(start, end);
+        return new Window(start, end);
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_DAYS) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_DAYS + " days.");
+        }
+    }
+
+    private static AttendanceTrendPoint point(LocalDate period, long sessionsHeld, long attended, long late) {
+        double average = sessionsHeld > 0 ? Math.round(attended * 10.0 / sessionsHeld) / 10.0 : 0;
+        return new AttendanceTrendPoint(period, sessionsHeld, attended, late, average);
+    }
+
+    private record Window(LocalDate from, LocalDate to) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.AttendanceResponse;
+import com.campus_buddy.academic_service.model.Attendance;
+import com.campus_buddy.academic_service.repository.AttendanceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * AttendanceExportService — writes a course's attendance straight to an output stream.
+ *
+ * Rows come from a cursor-backed JPA stream and each entity is detached once written, so memory
+ * use does not grow with the size of the course. Output is flushed every {@value #FLUSH_EVERY} rows
+ * so the client (and the BFF in front of it) receives data while the query is still running.
+ */
+@Service
+public class AttendanceExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceExportService.class);
+    private static final int FLUSH_EVERY = 500;
+    private static final String CSV_HEADER = "id,student_email,course_code,lecture_date,status,marked_at\n";
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public enum Format {
+        CSV(MediaType.parseMediaType("text/csv"), "csv"),
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException for anything other than csv / ndjson
+         */
+        public static Format from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value + " (use csv or ndjson).");
+            }
+        }
+    }
+
+    /**
+     * Write every attendance record of the course, newest lecture first. Does not close {@code out}.
+     * @return Number of records written
+     */
+    @Transactional(readOnly = true)
+    public long exportCourseAttendance(String courseCode, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        long count = 0;
+        try (Stream<Attendance> rows = attendanceRepository.streamByCourseCode(courseCode)) {
+            Iterator<Attendance> it = rows.iterator();
+            while (it.hasNext()) {
+                Attendance a = it.next();
+                if (format == Format.CSV) {
+                    writeCsvRow(writer, a);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(toResponse(a)));
+                    writer.write('\n');
+                }
+                // Keep the persistence context from accumulating every row of the export
+                entityManager.detach(a);
+
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} attendance records for course={} as {}", count, courseCode, format);
+        return count;
+    }
+
+    // ─── Private helpers ───────────────────────────────────────────────
+
+    private static void writeCsvRow(Writer writer, Attendance a) throws IOException {
+        writer.write(String.valueOf(a.getId()));
+        writer.write(',');
+        writer.write(csv(a.getStudentEmail()));
+        writer.write(',');
+        writer.write(csv(a.getCourseCode()));
+        writer.write(',');
+        writer.write(String.valueOf(a.getLectureDate()));
+        writer.write(',');
+        writer.write(csv(a.getStatus()));
+        writer.write(',');
+        writer.write(String.valueOf(a.getMarkedAt()));
+        writer.write('\n');
+    }
+
+    /**
+     * Quote a CSV cell if it contains a separator, quote or line break
+     */
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static AttendanceResponse toResponse(Attendance a) {
+        return new AttendanceResponse(
+            a.getId(),
+            a.getStudentEmail(),
+            a.getCourseCode(),
+            a.getLectureDate(),
+            a.getStatus(),
+            a.getMarkedAt()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.campus_buddy.academic_service.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published for every persisted mark: by {@link AttendanceService#markAttendance} inside the inserting
+ * transaction, and by {@link BulkAttendanceService} and {@link AttendanceWriteBehindPipeline} after the
+ * row's batch has committed. Listeners that need the row to be durable use
+ * {@code @TransactionalEventListener} so they only see committed marks.
+ */
+public record AttendanceMarkedEvent(String sessionId, String courseCode, String studentEmail, LocalDateTime markedAt) {
+}
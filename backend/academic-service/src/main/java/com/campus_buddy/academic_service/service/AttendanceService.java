@@ -8,13 +8,19 @@ import com.campus_buddy.academic_service.repository.AttendanceSessionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -26,7 +32,7 @@ public class AttendanceService {
 
     private static final Logger log = LoggerFactory.getLogger(AttendanceService.class);
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
-    private static final String SESSION_CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // Avoiding I, O, 1, 0
+    static final String SESSION_CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // Avoiding I, O, 1, 0
 
     @Autowired
     private AttendanceRepository attendanceRepository;
@@ -34,10 +40,34 @@ public class AttendanceService {
     @Autowired
     private AttendanceSessionRepository sessionRepository;
 
+    @Autowired
+    private ActiveSessionRegistry sessionRegistry;
+
+    @Autowired
+    private AttendanceStatsService statsService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /** Present only when attendance.pipeline.enabled=true */
+    @Autowired(required = false)
+    private AttendanceWriteBehindPipeline writeBehindPipeline;
+
+    @Value("${attendance.rotating-code.step-seconds:15}")
+    private int rotatingStepSeconds;
+
+    /** Codes of this many steps before and after the current one are also accepted (clock skew, typing time) */
+    @Value("${attendance.rotating-code.skew-steps:1}")
+    private int rotatingSkewSteps;
+
     /**
      * Create an attendance session (Faculty only).
      * Generates a 6-digit session code and sets a 10-minute expiry.
+     * With rotatingCode, stores a per-session secret instead: the code shown to students is derived from it
+     * and the current time step (see {@link #getRotatingCode}), so it rotates without further writes.
+     * The course's sessions-held counter is bumped in the same transaction.
      */
+    @Transactional
     public SessionResponse createSession(CreateSessionRequest request, String facultyEmail) {
         log.info("Creating attendance session for course={} by faculty={}", request.getCourseCode(), facultyEmail);
 
@@ -45,13 +75,21 @@ public class AttendanceService {
         session.setCourseCode(request.getCourseCode());
         session.setCreatedBy(facultyEmail);
         session.setExpiryTime(LocalDateTime.now().plusMinutes(10));
-        session.setSessionCode(generateSessionCode());
+        if (Boolean.TRUE.equals(request.getRotatingCode())) {
+            session.setRotatingCode(true);
+            session.setCodeSecret(RotatingSessionCode.newSecret());
+        } else {
+            session.setRotatingCode(false);
+            session.setSessionCode(generateSessionCode());
+        }
 
         session.setLatitude(request.getLatitude());
         session.setLongitude(request.getLongitude());
         session.setAllowedRadius(request.getAllowedRadius() != null ? request.getAllowedRadius() : 100.0);
 
         AttendanceSession savedSession = sessionRepository.save(session);
+        statsService.recordSessionHeld(savedSession.getCourseCode());
+        sessionRegistry.register(savedSession);
         log.info("Session created: id={}, code={}, expiry={}", savedSession.getId(), savedSession.getSessionCode(), savedSession.getExpiryTime());
 
         return new SessionResponse(
@@ -59,7 +97,8 @@ public class AttendanceService {
             savedSession.getSessionCode(),
             savedSession.getCourseCode(),
             savedSession.getExpiryTime(),
-            savedSession.getCreatedBy()
+            savedSession.getCreatedBy(),
+            Boolean.TRUE.equals(savedSession.getRotatingCode())
         );
     }
 
@@ -67,12 +106,20 @@ public class AttendanceService {
      * Mark attendance for a student (Student only).
      *
      * Validation order:
-     *  1. Resolve session by sessionCode or sessionId
+     *  1. Resolve session by sessionCode (static or current rotating code) or sessionId
      *  2. Verify session exists and is not expired
      *  3. Verify course code matches (if provided)
      *  4. Validate geolocation (if session has geofence)
      *  5. Check idempotency (one student, one attendance per session)
-     *  6. Persist attendance record
+     *  6. Persist attendance record and bump the student's attendance counter
+     *
+     * In write-behind mode (attendance.pipeline.enabled) steps 5–6 are handled by
+     * {@link AttendanceWriteBehindPipeline}: the response is returned before the row is written,
+     * so its id is null.
+     *
+     * Every mark written here publishes an {@link AttendanceMarkedEvent} (delivered to transactional
+     * listeners such as {@link LiveAttendanceFeed} once this transaction commits); a queued mark's
+     * event is published by the pipeline once its batch has committed.
      *
      * @throws IllegalArgumentException for invalid input / expired session
      * @throws IllegalStateException for duplicate attendance
@@ -104,6 +151,17 @@ public class AttendanceService {
         // 4. Geolocation validation
         validateGeolocation(session, request, studentEmail);
 
+        // 5–6. Write-behind mode: in-memory duplicate check, batched persistence off the request thread
+        if (writeBehindPipeline != null) {
+            Optional<Attendance> queued = writeBehindPipeline.accept(session, studentEmail);
+            if (queued.isPresent()) {
+                // The pipeline publishes the mark event once the row's batch has committed
+                log.info("Attendance accepted: student={}, session={}, course={}", studentEmail, session.getId(), courseCode);
+                return mapToResponse(queued.get());
+            }
+            // Queue full — fall through to the synchronous path
+        }
+
         // 5. Idempotency check — one student per session
         if (attendanceRepository.existsByStudentEmailAndQrSessionId(studentEmail, session.getId())) {
             log.warn("Duplicate attendance attempt: student={}, session={}", studentEmail, session.getId());
@@ -118,6 +176,10 @@ public class AttendanceService {
 
         try {
             Attendance saved = attendanceRepository.save(attendance);
+            // Sequence ids defer the INSERT to flush; flush here so a concurrent duplicate is caught below
+            attendanceRepository.flush();
+            statsService.recordAttendance(studentEmail, courseCode);
+            publishMarked(saved);
             log.info("Attendance marked successfully: student={}, session={}, course={}", studentEmail, session.getId(), courseCode);
 
             return mapToResponse(saved);
@@ -128,6 +190,53 @@ public class AttendanceService {
         }
     }
 
+    /**
+     * Current code of a rotating-code session (Faculty only, session owner). Computed, never stored.
+     * @throws IllegalArgumentException for an unknown session or a static-code session
+     * @throws AccessDeniedException for a session of another faculty member
+     * @throws IllegalStateException if the session has expired
+     */
+    public RotatingCodeResponse getRotatingCode(String sessionId, String facultyEmail) {
+        LocalDateTime now = LocalDateTime.now();
+        AttendanceSession session = sessionRegistry.findById(sessionId, now)
+                .or(() -> sessionRepository.findById(sessionId))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid session ID."));
+        if (!session.getCreatedBy().equals(facultyEmail)) {
+            log.warn("Faculty={} tried to read the code of session={} owned by {}", facultyEmail, sessionId, session.getCreatedBy());
+            throw new AccessDeniedException("Only the faculty member who created this session can view its code.");
+        }
+        if (!Boolean.TRUE.equals(session.getRotatingCode())) {
+            throw new IllegalArgumentException("This session uses a fixed code.");
+        }
+        if (!session.getExpiryTime().isAfter(now)) {
+            throw new IllegalStateException("Session has expired.");
+        }
+        sessionRegistry.register(session);
+
+        long epochSecond = Instant.now().getEpochSecond();
+        long step = RotatingSessionCode.step(epochSecond, rotatingStepSeconds);
+        int validFor = (int) ((step + 1) * rotatingStepSeconds - epochSecond);
+        return new RotatingCodeResponse(session.getId(), RotatingSessionCode.codeAt(session.getCodeSecret(), step),
+                validFor, rotatingStepSeconds, session.getExpiryTime());
+    }
+
+    /**
+     * Load the live rotating-code sessions into the registry: at startup, then every
+     * {@code attendance.rotating-code.sync-interval-ms} so sessions created on other replicas are picked up.
+     * Marking matches rotating codes against the registry only, so a wrong code never costs a scan of the
+     * session table.
+     */
+    @Scheduled(fixedDelayString = "${attendance.rotating-code.sync-interval-ms:5000}")
+    public void syncRotatingSessions() {
+        try {
+            sessionRepository.findByRotatingCodeTrueAndExpiryTimeAfter(LocalDateTime.now())
+                    .forEach(sessionRegistry::register);
+        } catch (Exception e) {
+            // Sessions already registered keep working; the next run retries
+            log.warn("Rotating session sync failed: {}", e.getMessage());
+        }
+    }
+
     /**
      * Get all attendance records for a student, ordered newest first.
      */
@@ -148,24 +257,58 @@ public class AttendanceService {
 
     // ─── Private helpers ───────────────────────────────────────────────
 
+    /**
+     * Live sessions are served from the in-process registry; a miss (e.g. session created on
+     * another replica) falls back to the repository and caches the result.
+     *
+     * A code is tried as a static code and as the current code of each live rotating-code session.
+     * Rotating sessions are only looked up in the registry (filled on creation, by the faculty's code
+     * requests and by {@link #syncRotatingSessions}): checking a code against every rotating session in
+     * the database would cost a query and one HMAC per session for every wrong guess. A rotating-code
+     * session cannot be marked by its id alone, since the id does not rotate.
+     */
     private AttendanceSession resolveSession(MarkAttendanceRequest request) {
         LocalDateTime now = LocalDateTime.now();
 
         if (request.getSessionCode() != null && !request.getSessionCode().isBlank()) {
-            return sessionRepository
-                    .findBySessionCodeAndExpiryTimeAfter(request.getSessionCode().toUpperCase(), now)
+            String sessionCode = request.getSessionCode().toUpperCase();
+            return sessionRegistry.findByCode(sessionCode, now)
+                    .or(() -> matchRotatingCode(sessionRegistry.findLiveRotating(now), sessionCode))
+                    .or(() -> sessionRepository.findBySessionCodeAndExpiryTimeAfter(sessionCode, now)
+                            .map(sessionRegistry::register))
                     .orElseThrow(() -> new IllegalArgumentException("Invalid or expired session code."));
         }
 
         if (request.getSessionId() != null && !request.getSessionId().isBlank()) {
-            return sessionRepository
-                    .findByIdAndExpiryTimeAfter(request.getSessionId(), now)
+            String sessionId = request.getSessionId();
+            AttendanceSession session = sessionRegistry.findById(sessionId, now)
+                    .or(() -> sessionRepository.findByIdAndExpiryTimeAfter(sessionId, now)
+                            .map(sessionRegistry::register))
                     .orElseThrow(() -> new IllegalArgumentException("Invalid or expired session ID."));
+            if (Boolean.TRUE.equals(session.getRotatingCode())) {
+                throw new IllegalArgumentException("This session requires the code currently shown in class.");
+            }
+            return session;
         }
 
         throw new IllegalArgumentException("Either Session ID or Session Code must be provided.");
     }
 
+    private Optional<AttendanceSession> matchRotatingCode(List<AttendanceSession> sessions, String code) {
+        if (sessions.isEmpty()) {
+            return Optional.empty();
+        }
+        long step = RotatingSessionCode.step(Instant.now().getEpochSecond(), rotatingStepSeconds);
+        return sessions.stream()
+                .filter(s -> s.getCodeSecret() != null)
+                .filter(s -> RotatingSessionCode.matches(s.getCodeSecret(), code, step, rotatingSkewSteps))
+                .findFirst();
+    }
+
+    private void publishMarked(Attendance a) {
+        eventPublisher.publishEvent(new AttendanceMarkedEvent(a.getQrSessionId(), a.getCourseCode(), a.getStudentEmail(), a.getMarkedAt()));
+    }
+
     private void validateGeolocation(AttendanceSession session, MarkAttendanceRequest request, String studentEmail) {
         if (session.getLatitude() == null || session.getLongitude() == null) {
             return; // No geofence configured
@@ -0,0 +1,129 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.AttendanceStatsResponse;
+import com.campus_buddy.academic_service.dto.CourseAttendanceStatsResponse;
+import com.campus_buddy.academic_service.model.CourseAttendanceStats;
+import com.campus_buddy.academic_service.model.StudentAttendanceStats;
+import com.campus_buddy.academic_service.repository.CourseAttendanceStatsRepository;
+import com.campus_buddy.academic_service.repository.StudentAttendanceStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * AttendanceStatsService — incrementally maintained attendance counters.
+ *
+ * Two counters are kept: sessions held per course, and attendances per student per course. Both are
+ * bumped with an upsert inside the transaction that creates the session or inserts the attendance
+ * row (AttendanceBatchWriter does the same for batched inserts), so reads are a primary-key lookup
+ * instead of a scan of the attendance history. Percentages are derived at read time.
+ */
+@Service
+public class AttendanceStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceStatsService.class);
+
+    @Autowired
+    private CourseAttendanceStatsRepository courseStatsRepository;
+
+    @Autowired
+    private StudentAttendanceStatsRepository studentStatsRepository;
+
+    /**
+     * Count a newly created session. Must run inside the session-creating transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSessionHeld(String courseCode) {
+        courseStatsRepository.incrementSessionsHeld(courseCode);
+    }
+
+    /**
+     * Count a newly inserted attendance row. Must run inside the inserting transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAttendance(String studentEmail, String courseCode) {
+        studentStatsRepository.incrementAttended(studentEmail, courseCode);
+    }
+
+    /**
+     * The student's attendance in every course they have attended at least once.
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceStatsResponse> getStudentStats(String studentEmail) {
+        List<StudentAttendanceStats> rows = studentStatsRepository.findByStudentEmailOrderByCourseCode(studentEmail);
+        Map<String, Long> sessionsHeld = courseStatsRepository
+                .findAllById(rows.stream().map(StudentAttendanceStats::getCourseCode).toList()).stream()
+                .collect(Collectors.toMap(CourseAttendanceStats::getCourseCode, CourseAttendanceStats::getSessionsHeld));
+
+        return rows.stream()
+                .map(row -> toResponse(row, sessionsHeld.getOrDefault(row.getCourseCode(), 0L)))
+                .toList();
+    }
+
+    /**
+     * Sessions held in the course plus each student's attendance percentage. (Faculty only)
+     */
+    @Transactional(readOnly = true)
+    public CourseAttendanceStatsResponse getCourseStats(String courseCode) {
+        long sessionsHeld = courseStatsRepository.findById(courseCode)
+                .map(CourseAttendanceStats::getSessionsHeld)
+                .orElse(0L);
+
+        List<AttendanceStatsResponse> students = studentStatsRepository.findByCourseCodeOrderByStudentEmail(courseCode).stream()
+                .map(row -> toResponse(row, sessionsHeld))
+                .toList();
+        double average = students.stream().mapToDouble(AttendanceStatsResponse::getPercentage).average().orElse(0);
+
+        return new CourseAttendanceStatsResponse(courseCode, sessionsHeld, round(average), students);
+    }
+
+    /**
+     * Seed the counters from existing sessions and attendance the first time the service starts with
+     * empty statistics tables (e.g. right after this feature is deployed).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedIfEmpty() {
+        if (courseStatsRepository.count() > 0 || studentStatsRepository.count() > 0) {
+            return;
+        }
+        int courses = courseStatsRepository.rebuildAll();
+        int students = studentStatsRepository.rebuildAll();
+        log.info("Attendance statistics seeded: courses={}, student-course rows={}", courses, students);
+    }
+
+    // ─── Private helpers ───────────────────────────────────────────────
+
+    private static AttendanceStatsResponse toResponse(StudentAttendanceStats row, long sessionsHeld) {
+        return new AttendanceStatsResponse(
+            row.getStudentEmail(),
+            row.getCourseCode(),
+            row.getAttended(),
+            sessionsHeld,
+            percentage(row.getAttended(), sessionsHeld)
+        );
+    }
+
+    /**
+     * Capped at 100 in case the counters drift, e.g. after sessions are deleted by hand
+     */
+    static double percentage(long attended, long sessionsHeld) {
+        if (sessionsHeld <= 0) {
+            return 0;
+        }
+        return round(Math.min(100.0, attended * 100.0 / sessionsHeld));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,394 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.Attendance;
+import com.campus_buddy.academic_service.model.AttendanceSession;
+import com.campus_buddy.academic_service.repository.AttendanceBatchWriter;
+import com.campus_buddy.academic_service.repository.AttendanceRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * AttendanceWriteBehindPipeline — optional high-throughput persistence mode for attendance marks.
+ *
+ * Duplicate checks run against an in-memory set of student emails per session (seeded from the DB
+ * once per session), so the student still gets a synchronous accept/reject answer. Accepted marks go
+ * onto a bounded queue that a single flusher thread drains into multi-row inserts.
+ *
+ * Enabled with {@code attendance.pipeline.enabled=true}. The DB unique constraints remain the
+ * source of truth: rows already present (e.g. marked through another replica) are skipped on insert.
+ *
+ * An accepted mark is never dropped. A batch is retried with exponential backoff; if it still fails
+ * it is written to a dead-letter file under {@code attendance.pipeline.dead-letter-dir} (the students
+ * stay reserved, their marks are only late), and dead-letter files are replayed at startup and every
+ * {@code dead-letter-retry-ms} until the insert succeeds. Replays are idempotent for the same reason
+ * cross-replica duplicates are: existing rows are skipped. On shutdown the queue is flushed for at most
+ * {@code shutdown-timeout-ms}; whatever is still queued then is dead-lettered without a DB attempt.
+ *
+ * {@link AttendanceMarkedEvent}s are published here, once per row after its batch has committed
+ * (including a successful replay), not when the mark is accepted: listeners only ever see persisted
+ * marks, and a dead-lettered mark shows up when its replay succeeds.
+ */
+@Component
+@ConditionalOnProperty(name = "attendance.pipeline.enabled", havingValue = "true")
+public class AttendanceWriteBehindPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceWriteBehindPipeline.class);
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+    private static final long EVICTION_INTERVAL_MS = 60_000;
+    private static final String DEAD_LETTER_SUFFIX = ".tsv";
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceBatchWriter batchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<Attendance> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long retryBackoffMs;
+    private final Path deadLetterDir;
+    private final long deadLetterRetryMs;
+    private final long shutdownTimeoutMs;
+
+    private final Map<String, SessionMarks> marksBySession = new ConcurrentHashMap<>();
+    private final AtomicLong deadLetterSeq = new AtomicLong();
+    private volatile boolean running;
+    private Thread flusher;
+    private long nextEvictionAt;
+    private long nextReplayAt;
+
+    public AttendanceWriteBehindPipeline(
+            AttendanceRepository attendanceRepository,
+            AttendanceBatchWriter batchWriter,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${attendance.pipeline.queue-capacity:10000}") int queueCapacity,
+            @Value("${attendance.pipeline.batch-size:500}") int batchSize,
+            @Value("${attendance.pipeline.flush-interval-ms:20}") long flushIntervalMs,
+            @Value("${attendance.pipeline.retry-backoff-ms:200}") long retryBackoffMs,
+            @Value("${attendance.pipeline.dead-letter-dir:attendance-dead-letter}") Path deadLetterDir,
+            @Value("${attendance.pipeline.dead-letter-retry-ms:30000}") long deadLetterRetryMs,
+            @Value("${attendance.pipeline.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.attendanceRepository = attendanceRepository;
+        this.batchWriter = batchWriter;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.retryBackoffMs = retryBackoffMs;
+        this.deadLetterDir = deadLetterDir;
+        this.deadLetterRetryMs = deadLetterRetryMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(deadLetterDir);
+        running = true;
+        flusher = new Thread(this::runFlusher, "attendance-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Attendance write-behind pipeline started: queueCapacity={}, batchSize={}, deadLetterDir={}",
+                queue.remainingCapacity(), batchSize, deadLetterDir.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        if (flusher != null) {
+            flusher.interrupt();
+            flusher.join(Math.max(1, shutdownTimeoutMs));
+        }
+        // Drain whatever is left until the deadline (requests may still be enqueuing); batches the DB
+        // refuses go to the dead-letter dir for the next start
+        while (System.currentTimeMillis() < deadline && flushPending() > 0) {
+            // keep flushing
+        }
+        List<Attendance> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        if (!leftover.isEmpty()) {
+            log.warn("Attendance pipeline shutdown timed out after {} ms with {} marks unwritten; saving them for replay",
+                    shutdownTimeoutMs, leftover.size());
+            park(leftover);
+        }
+    }
+
+    /**
+     * Accept a mark for asynchronous persistence.
+     *
+     * @return the queued record (id not yet assigned), or empty when the queue is full and the
+     *         caller should persist synchronously instead
+     * @throws IllegalStateException if the student has already marked this session
+     */
+    public Optional<Attendance> accept(AttendanceSession session, String studentEmail) {
+        SessionMarks marks = marksBySession.computeIfAbsent(session.getId(), id -> loadMarks(session));
+
+        if (!marks.studentEmails.add(studentEmail)) {
+            log.warn("Duplicate attendance attempt: student={}, session={}", studentEmail, session.getId());
+            throw new IllegalStateException("Attendance already marked for this session.");
+        }
+
+        Attendance attendance = new Attendance();
+        attendance.setStudentEmail(studentEmail);
+        attendance.setCourseCode(session.getCourseCode());
+        attendance.setQrSessionId(session.getId());
+        attendance.setLectureDate(LocalDate.now());
+        attendance.setStatus("PRESENT");
+        attendance.setMarkedAt(LocalDateTime.now());
+
+        if (!queue.offer(attendance)) {
+            // Email stays reserved: the caller persists this mark synchronously
+            log.warn("Attendance queue full, falling back to synchronous insert: student={}, session={}",
+                    studentEmail, session.getId());
+            return Optional.empty();
+        }
+        return Optional.of(attendance);
+    }
+
+    /**
+     * Note marks written outside the pipeline (e.g. a faculty bulk import) so later scans of the
+     * same session are rejected in memory. Sessions not seeded yet will pick them up from the DB.
+     */
+    public void recordMarked(String sessionId, Collection<String> studentEmails) {
+        marksBySession.computeIfPresent(sessionId, (id, marks) -> {
+            marks.studentEmails.addAll(studentEmails);
+            return marks;
+        });
+    }
+
+    /**
+     * Number of accepted marks waiting to be written.
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Drain up to one batch from the queue and write it.
+     * @return number of records taken off the queue
+     */
+    int flushPending() {
+        List<Attendance> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+        return batch.size();
+    }
+
+    /**
+     * Re-insert the marks of every dead-letter file, oldest first; a file is deleted once its insert
+     * succeeds. Stops at the first failure (the DB is most likely still unavailable).
+     * @return number of files replayed
+     */
+    int replayDeadLetters() {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(deadLetterDir)) {
+            files = listing.filter(f -> f.getFileName().toString().endsWith(DEAD_LETTER_SUFFIX)).sorted().toList();
+        } catch (IOException e) {
+            log.error("Cannot list attendance dead-letter dir {}: {}", deadLetterDir, e.getMessage());
+            return 0;
+        }
+
+        int replayed = 0;
+        for (Path file : files) {
+            List<Attendance> batch;
+            try {
+                batch = readDeadLetter(file);
+            } catch (IOException | RuntimeException e) {
+                // Unreadable file: set it aside for inspection rather than blocking every later file
+                log.error("Unreadable attendance dead letter {}, renaming to .corrupt: {}", file.getFileName(), e.getMessage());
+                setAside(file);
+                continue;
+            }
+            try {
+                List<Attendance> inserted = batchWriter.insertIgnoringDuplicates(batch);
+                publishMarked(inserted);
+                Files.delete(file);
+                replayed++;
+                log.info("Replayed attendance dead letter {}: rows={}, inserted={}", file.getFileName(), batch.size(), inserted.size());
+            } catch (IOException | RuntimeException e) {
+                log.warn("Attendance dead-letter replay of {} failed, will retry: {}", file.getFileName(), e.getMessage());
+                break;
+            }
+        }
+        return replayed;
+    }
+
+    private void runFlusher() {
+        while (running) {
+            try {
+                runHousekeeping();
+                Attendance first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Attendance> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Attendance flusher error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Timer-driven, not idle-driven, so the session map is pruned and dead letters are replayed
+     * under sustained load too
+     */
+    private void runHousekeeping() {
+        long now = System.currentTimeMillis();
+        if (now >= nextEvictionAt) {
+            nextEvictionAt = now + EVICTION_INTERVAL_MS;
+            evictExpiredSessions();
+        }
+        if (now >= nextReplayAt) {
+            nextReplayAt = now + deadLetterRetryMs;
+            replayDeadLetters();
+        }
+    }
+
+    private void writeBatch(List<Attendance> batch) {
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                List<Attendance> inserted = batchWriter.insertIgnoringDuplicates(batch);
+                if (inserted.size() < batch.size()) {
+                    log.warn("Attendance batch: {} of {} rows already existed and were skipped",
+                            batch.size() - inserted.size(), batch.size());
+                }
+                log.debug("Attendance batch flushed: rows={}", inserted.size());
+                publishMarked(inserted);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Attendance batch insert failed (attempt {}/{}): {}", attempt, MAX_FLUSH_ATTEMPTS, e.getMessage());
+                if (attempt < MAX_FLUSH_ATTEMPTS && !backOff(attempt)) {
+                    break;
+                }
+            }
+        }
+
+        // The students were told their mark was accepted: park the batch for replay, keep the reservations
+        log.error("Attendance batch of {} marks failed {} times; saving it for replay", batch.size(), MAX_FLUSH_ATTEMPTS);
+        park(batch);
+    }
+
+    private void park(List<Attendance> batch) {
+        try {
+            Path file = writeDeadLetter(batch);
+            log.info("Saved {} attendance marks to {} for replay", batch.size(), file);
+        } catch (IOException e) {
+            // Last resort: the log is the only remaining record of these marks
+            log.error("Attendance batch of {} marks could not be written or saved for replay: {}", batch.size(), e.getMessage());
+            batch.forEach(a -> log.error("Unsaved attendance mark: {}", toDeadLetterLine(a)));
+        }
+    }
+
+    /**
+     * Rows that already existed are not in {@code inserted}; their mark was published when first written
+     */
+    private void publishMarked(List<Attendance> inserted) {
+        for (Attendance a : inserted) {
+            eventPublisher.publishEvent(new AttendanceMarkedEvent(a.getQrSessionId(), a.getCourseCode(), a.getStudentEmail(), a.getMarkedAt()));
+        }
+    }
+
+    /**
+     * @return false if interrupted (shutting down: stop retrying and park the batch)
+     */
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Path writeDeadLetter(List<Attendance> batch) throws IOException {
+        String name = String.format("attendance-%d-%06d", System.currentTimeMillis(), deadLetterSeq.incrementAndGet());
+        Path tmp = deadLetterDir.resolve(name + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (Attendance a : batch) {
+                out.write(toDeadLetterLine(a));
+                out.newLine();
+            }
+        }
+        // Replay only ever sees complete files
+        return Files.move(tmp, deadLetterDir.resolve(name + DEAD_LETTER_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void setAside(Path file) {
+        try {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".corrupt"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Cannot rename attendance dead letter {}: {}", file.getFileName(), e.getMessage());
+        }
+    }
+
+    private static List<Attendance> readDeadLetter(Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank()).map(AttendanceWriteBehindPipeline::fromDeadLetterLine).toList();
+        }
+    }
+
+    private static String toDeadLetterLine(Attendance a) {
+        return String.join("\t", a.getStudentEmail(), a.getCourseCode(), a.getQrSessionId(),
+                a.getLectureDate().toString(), a.getStatus(), a.getMarkedAt().toString());
+    }
+
+    private static Attendance fromDeadLetterLine(String line) {
+        String[] f = line.split("\t", -1);
+        Attendance a = new Attendance();
+        a.setStudentEmail(f[0]);
+        a.setCourseCode(f[1]);
+        a.setQrSessionId(f[2]);
+        a.setLectureDate(LocalDate.parse(f[3]));
+        a.setStatus(f[4]);
+        a.setMarkedAt(LocalDateTime.parse(f[5]));
+        return a;
+    }
+
+    private SessionMarks loadMarks(AttendanceSession session) {
+        Set<String> emails = ConcurrentHashMap.newKeySet();
+        emails.addAll(attendanceRepository.findStudentEmailsByQrSessionId(session.getId()));
+        return new SessionMarks(emails, session.getExpiryTime());
+    }
+
+    private void evictExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        marksBySession.values().removeIf(m -> m.expiryTime.isBefore(now));
+    }
+
+    private record SessionMarks(Set<String> studentEmails, LocalDateTime expiryTime) {
+    }
+}
@@ -0,0 +1,240 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.BulkAttendanceEntry;
+import com.campus_buddy.academic_service.dto.BulkAttendanceResult;
+import com.campus_buddy.academic_service.dto.BulkAttendanceSummary;
+import com.campus_buddy.academic_service.model.Attendance;
+import com.campus_buddy.academic_service.model.AttendanceSession;
+import com.campus_buddy.academic_service.repository.AttendanceBatchWriter;
+import com.campus_buddy.academic_service.repository.AttendanceRepository;
+import com.campus_buddy.academic_service.repository.AttendanceSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * BulkAttendanceService — faculty roll-call: marks a whole class for one session in a single request.
+ *
+ * Unlike {@link AttendanceService#markAttendance}, the session is resolved once and there is no
+ * geofence check (the faculty member vouches for the class). Duplicates are detected against one
+ * query of the emails already marked for the session, and new rows go to the database in
+ * multi-row inserts of {@code attendance.bulk.batch-size}. Results are handed to the caller one
+ * batch at a time, in upload order, so they can be streamed while the import is still running.
+ * Every inserted row is published as an {@link AttendanceMarkedEvent}, like a scanned mark, so live
+ * session feeds count the import.
+ */
+@Service
+public class BulkAttendanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkAttendanceService.class);
+    private static final Set<String> STATUSES = Set.of("PRESENT", "LATE");
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    @Autowired
+    private AttendanceSessionRepository sessionRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceBatchWriter batchWriter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /** Present only when attendance.pipeline.enabled=true */
+    @Autowired(required = false)
+    private AttendanceWriteBehindPipeline writeBehindPipeline;
+
+    @Value("${attendance.bulk.max-rows:5000}")
+    private int maxRows;
+
+    @Value("${attendance.bulk.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Validate the request up front, before any response is committed.
+     * Expired sessions are accepted so attendance can be filled in after class.
+     *
+     * @throws IllegalArgumentException for an unknown session or an empty / oversized upload
+     * @throws AccessDeniedException for a session of another faculty member
+     */
+    public BulkImport prepare(String sessionId, List<BulkAttendanceEntry> entries, String facultyEmail) {
+        if (entries == null || entries.isEmpty()) {
+            throw new IllegalArgumentException("No students provided.");
+        }
+        if (entries.size() > maxRows) {
+            throw new IllegalArgumentException("Too many rows: " + entries.size() + " (maximum " + maxRows + ").");
+        }
+
+        AttendanceSession session = sessionRepository.findById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid session ID."));
+        if (!session.getCreatedBy().equals(facultyEmail)) {
+            log.warn("Faculty={} tried to bulk-mark session={} owned by {}", facultyEmail, sessionId, session.getCreatedBy());
+            throw new AccessDeniedException("Only the faculty member who created this session can mark attendance for it.");
+        }
+
+        Set<String> alreadyMarked = new HashSet<>(attendanceRepository.findStudentEmailsByQrSessionId(sessionId));
+        return new BulkImport(session, entries, alreadyMarked);
+    }
+
+    /**
+     * Run a prepared import. {@code sink} receives each batch of row results in upload order as soon as
+     * that batch has been written; rows are committed batch by batch, so a failure part-way through
+     * keeps the batches already reported.
+     */
+    public BulkAttendanceSummary execute(BulkImport bulk, Consumer<List<BulkAttendanceResult>> sink) {
+        AttendanceSession session = bulk.session();
+        LocalDate lectureDate = session.getCreatedAt().toLocalDate();
+        BulkAttendanceSummary summary = new BulkAttendanceSummary(session.getId(), bulk.entries().size(), 0, 0, 0);
+
+        Set<String> seen = new HashSet<>(bulk.alreadyMarked());
+        List<PendingRow> pending = new ArrayList<>(batchSize);
+        List<Attendance> toInsert = new ArrayList<>(batchSize);
+
+        for (int i = 0; i < bulk.entries().size(); i++) {
+            BulkAttendanceEntry entry = bulk.entries().get(i);
+            String email = entry.getStudentEmail() == null ? "" : entry.getStudentEmail().trim();
+            String status = entry.getStatus() == null || entry.getStatus().isBlank()
+                    ? "PRESENT" : entry.getStatus().trim().toUpperCase(Locale.ROOT);
+            int row = i + 1;
+
+            if (!EMAIL.matcher(email).matches()) {
+                pending.add(PendingRow.rejected(row, email, BulkAttendanceResult.INVALID, "Invalid email address."));
+            } else if (!STATUSES.contains(status)) {
+                pending.add(PendingRow.rejected(row, email, BulkAttendanceResult.INVALID, "Unknown status: " + status));
+            } else if (!seen.add(email)) {
+                String message = bulk.alreadyMarked().contains(email)
+                        ? "Attendance already marked for this session." : "Repeated in this upload.";
+                pending.add(PendingRow.rejected(row, email, BulkAttendanceResult.DUPLICATE, message));
+            } else {
+                Attendance attendance = new Attendance();
+                attendance.setStudentEmail(email);
+                attendance.setCourseCode(session.getCourseCode());
+                attendance.setQrSessionId(session.getId());
+                attendance.setLectureDate(lectureDate);
+                attendance.setStatus(status);
+                attendance.setMarkedAt(LocalDateTime.now());
+                pending.add(new PendingRow(row, email, attendance, null, null));
+                toInsert.add(attendance);
+            }
+
+            if (toInsert.size() == batchSize) {
+                flush(session, pending, toInsert, summary, sink);
+            }
+        }
+        if (!pending.isEmpty()) {
+            flush(session, pending, toInsert, summary, sink);
+        }
+
+        log.info("Bulk attendance for session={} by {}: total={}, marked={}, duplicate={}, invalid={}",
+                session.getId(), session.getCreatedBy(), summary.getTotal(), summary.getMarked(),
+                summary.getDuplicate(), summary.getInvalid());
+        return summary;
+    }
+
+    /**
+     * Parse CSV rows of {@code email[,status]}. Blank lines are skipped, as is a leading header row
+     * whose first cell is "email" or "student_email".
+     */
+    public static List<BulkAttendanceEntry> parseCsv(String csv) {
+        List<BulkAttendanceEntry> entries = new ArrayList<>();
+        if (csv == null) {
+            return entries;
+        }
+
+        boolean first = true;
+        for (String line : csv.split("\\R")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] cells = line.split(",", -1);
+            String email = unquote(cells[0]);
+            if (first && (email.equalsIgnoreCase("email") || email.equalsIgnoreCase("student_email"))) {
+                first = false;
+                continue;
+            }
+            first = false;
+            entries.add(new BulkAttendanceEntry(email, cells.length > 1 ? unquote(cells[1]) : null));
+        }
+        return entries;
+    }
+
+    // ─── Private helpers ───────────────────────────────────────────────
+
+    private void flush(AttendanceSession session, List<PendingRow> pending, List<Attendance> toInsert,
+                       BulkAttendanceSummary summary, Consumer<List<BulkAttendanceResult>> sink) {
+        List<String> markedEmails = new ArrayList<>(toInsert.size());
+        if (!toInsert.isEmpty()) {
+            // Rows skipped here clashed with a concurrent mark, or with this student's attendance for
+            // the same course on the same day; the batch writer only sets ids on inserted rows
+            batchWriter.insertIgnoringDuplicates(toInsert);
+        }
+
+        List<BulkAttendanceResult> results = new ArrayList<>(pending.size());
+        for (PendingRow p : pending) {
+            BulkAttendanceResult result;
+            if (p.attendance() == null) {
+                result = new BulkAttendanceResult(p.row(), p.studentEmail(), p.result(), null, p.message());
+            } else if (p.attendance().getId() != null) {
+                result = new BulkAttendanceResult(p.row(), p.studentEmail(), BulkAttendanceResult.MARKED, p.attendance().getId(), null);
+                markedEmails.add(p.studentEmail());
+                eventPublisher.publishEvent(new AttendanceMarkedEvent(session.getId(), session.getCourseCode(),
+                        p.studentEmail(), p.attendance().getMarkedAt()));
+            } else {
+                result = new BulkAttendanceResult(p.row(), p.studentEmail(), BulkAttendanceResult.DUPLICATE, null,
+                        "Attendance already marked for this session or course today.");
+            }
+
+            switch (result.getResult()) {
+                case BulkAttendanceResult.MARKED -> summary.setMarked(summary.getMarked() + 1);
+                case BulkAttendanceResult.DUPLICATE -> summary.setDuplicate(summary.getDuplicate() + 1);
+                default -> summary.setInvalid(summary.getInvalid() + 1);
+            }
+            results.add(result);
+        }
+
+        if (writeBehindPipeline != null && !markedEmails.isEmpty()) {
+            writeBehindPipeline.recordMarked(session.getId(), markedEmails);
+        }
+
+        pending.clear();
+        toInsert.clear();
+        sink.accept(results);
+    }
+
+    private static String unquote(String cell) {
+        String value = cell.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1).trim();
+        }
+        return value;
+    }
+
+    /**
+     * A validated import: the resolved session, the rows, and the emails already marked for it
+     */
+    public record BulkImport(AttendanceSession session, List<BulkAttendanceEntry> entries, Set<String> alreadyMarked) {
+    }
+
+    private record PendingRow(int row, String studentEmail, Attendance attendance, String result, String message) {
+
+        static PendingRow rejected(int row, String studentEmail, String result, String message) {
+            return new PendingRow(row, studentEmail, null, result, message);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.Enrollment;
+import com.campus_buddy.academic_service.model.Timetable;
+import com.campus_buddy.academic_service.repository.EnrollmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * EnrollmentService — student enrollments and the per-student timetable built from them.
+ *
+ * Each student's weekly schedule is cached as a pre-serialized view together with the course codes
+ * it was built from and the ETag of each of those courses' timetable slice at build time. A cached
+ * schedule is reused until the student's own enrollments change (evicted on enroll/drop) or one of
+ * their courses' timetable entries change (its course ETag no longer matches the current snapshot),
+ * so changes to other courses never touch it. Entries also expire after
+ * {@code timetable.student-cache.ttl-seconds} to pick up enrollments made through other replicas.
+ *
+ * Students without any enrollment keep seeing the global timetable.
+ */
+@Service
+public class EnrollmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentService.class);
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    @Value("${timetable.student-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${timetable.student-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<String, StudentSchedule> schedules = new ConcurrentHashMap<>();
+
+    /**
+     * Enroll a student in a course that has at least one timetable entry
+     * @throws IllegalArgumentException if the course code is missing or unknown
+     * @throws IllegalStateException if the student is already enrolled
+     */
+    public Enrollment enroll(String studentEmail, String courseCode) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("courseCode is required.");
+        }
+        if (!timetableService.getSnapshot().byCourse().containsKey(courseCode)) {
+            throw new IllegalArgumentException("Unknown course: " + courseCode);
+        }
+        if (enrollmentRepository.findByStudentEmailAndCourseCode(studentEmail, courseCode).isPresent()) {
+            throw new IllegalStateException("Already enrolled in " + courseCode + ".");
+        }
+
+        try {
+            Enrollment enrollment = new Enrollment();
+            enrollment.setStudentEmail(studentEmail);
+            enrollment.setCourseCode(courseCode);
+            Enrollment saved = enrollmentRepository.save(enrollment);
+            log.info("Enrollment added: student={}, course={}", studentEmail, courseCode);
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            // Concurrent enrollment for the same course caught by the unique constraint
+            throw new IllegalStateException("Already enrolled in " + courseCode + ".");
+        } finally {
+            schedules.remove(studentEmail);
+        }
+    }
+
+    /**
+     * Remove a student from a course
+     * @return false if the student was not enrolled
+     */
+    public boolean drop(String studentEmail, String courseCode) {
+        return enrollmentRepository.findByStudentEmailAndCourseCode(studentEmail, courseCode)
+                .map(enrollment -> {
+                    enrollmentRepository.delete(enrollment);
+                    schedules.remove(studentEmail);
+                    log.info("Enrollment dropped: student={}, course={}", studentEmail, courseCode);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    public List<Enrollment> getEnrollments(String studentEmail) {
+        return enrollmentRepository.findByStudentEmailOrderByCourseCode(studentEmail);
+    }
+
+    public List<Enrollment> getRoster(String courseCode) {
+        return enrollmentRepository.findByCourseCodeOrderByStudentEmail(courseCode);
+    }
+
+    /**
+     * The student's weekly schedule in calendar order, or the global timetable if they have no enrollments
+     */
+    public TimetableService.TimetableView getStudentTimetable(String studentEmail) {
+        TimetableService.Snapshot snapshot = timetableService.getSnapshot();
+        Instant now = Instant.now();
+
+        StudentSchedule schedule = schedules.get(studentEmail);
+        if (schedule == null || !schedule.isCurrent(snapshot, now)) {
+            // compute() serializes with the eviction in enroll/drop, so a rebuild never resurrects stale enrollments
+            schedule = schedules.compute(studentEmail, (email, current) ->
+                    current != null && current.isCurrent(snapshot, now) ? current : build(email, snapshot, now));
+            trim();
+        }
+
+        return schedule.courses().isEmpty() ? snapshot.all() : schedule.view();
+    }
+
+    // ─── Private helpers ───────────────────────────────────────────────
+
+    private StudentSchedule build(String studentEmail, TimetableService.Snapshot snapshot, Instant now) {
+        List<String> courses = enrollmentRepository.findCourseCodesByStudentEmail(studentEmail).stream()
+                .distinct()
+                .sorted()
+                .toList();
+
+        List<String> courseEtags = new ArrayList<>(courses.size());
+        List<Timetable> entries = new ArrayList<>();
+        for (String course : courses) {
+            TimetableService.TimetableView courseView = snapshot.forCourse(course);
+            courseEtags.add(courseView.etag());
+            entries.addAll(courseView.entries());
+        }
+        entries.sort(TimetableService.CALENDAR_ORDER);
+
+        TimetableService.TimetableView view = courses.isEmpty() ? null : timetableService.view(entries, now);
+        return new StudentSchedule(courses, List.copyOf(courseEtags), view, now.plusSeconds(ttlSeconds));
+    }
+
+    /**
+     * Keep the cache bounded; evicted students are simply rebuilt on their next request
+     */
+    private void trim() {
+        Iterator<String> students = schedules.keySet().iterator();
+        while (schedules.size() > maxEntries && students.hasNext()) {
+            students.next();
+            students.remove();
+        }
+    }
+
+    /**
+     * Cached schedule of one student: the enrolled courses, each course's timetable ETag when built,
+     * the merged view (null when not enrolled in anything) and when the entry expires
+     */
+    private record StudentSchedule(List<String> courses, List<String> courseEtags,
+                                   TimetableService.TimetableView view, Instant expiresAt) {
+
+        boolean isCurrent(TimetableService.Snapshot snapshot, Instant now) {
+            if (now.isAfter(expiresAt)) {
+                return false;
+            }
+            for (int i = 0; i < courses.size(); i++) {
+                if (!snapshot.forCourse(courses.get(i)).etag().equals(courseEtags.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.LiveAttendanceMark;
+import com.campus_buddy.academic_service.dto.LiveAttendanceSnapshot;
+import com.campus_buddy.academic_service.model.AttendanceSession;
+import com.campus_buddy.academic_service.repository.AttendanceRepository;
+import com.campus_buddy.academic_service.repository.AttendanceSessionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * LiveAttendanceFeed — Server-Sent Events feed of check-ins for one attendance session
+ * (GET /attendance/session/{id}/live), so faculty watch a session without re-reading the course history.
+ *
+ * A feed exists only while someone watches the session: the first subscriber seeds it with the emails
+ * already marked, after which every committed mark ({@link AttendanceMarkedEvent}) is appended as one
+ * pre-serialized frame to a ring buffer of the last {@code attendance.live.buffer-size} events. The
+ * running count is the size of the marked-email set, so a mark seen both in the seed and as an event is
+ * counted once.
+ *
+ * Each subscriber only remembers the last event id it sent; a virtual thread drains newer frames from
+ * the ring, so a slow client blocks nobody else. Event ids are {@code <feed epoch>-<sequence>}: a
+ * reconnect whose Last-Event-ID is still in the ring gets the missed events replayed, anything else
+ * (too old, or from a feed that no longer exists) gets a fresh snapshot instead. Feeds are per process,
+ * like {@link ActiveSessionRegistry}, and are closed when the session expires.
+ *
+ * Events: {@code snapshot} ({@link LiveAttendanceSnapshot}), {@code attendance} ({@link LiveAttendanceMark}),
+ * {@code session-closed} (final snapshot, then the stream ends).
+ */
+@Component
+public class LiveAttendanceFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveAttendanceFeed.class);
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceSessionRepository sessionRepository;
+
+    @Autowired
+    private ActiveSessionRegistry sessionRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${attendance.live.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${attendance.live.heartbeat-ms:5000}")
+    private long heartbeatMs;
+
+    private final Map<String, SessionFeed> feeds = new ConcurrentHashMap<>();
+    private final ExecutorService senders =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("attendance-live-", 0).factory());
+
+    @PreDestroy
+    void shutdown() {
+        feeds.values().forEach(feed -> feed.subscribers.forEach(s -> s.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    /**
+     * Open the live feed of a session for the faculty member who created it
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, or null
+     * @throws IllegalArgumentException for an unknown session
+     * @throws AccessDeniedException for a session of another faculty member
+     * @throws IllegalStateException if the session has expired
+     */
+    public SseEmitter subscribe(String sessionId, String lastEventId, String facultyEmail) {
+        LocalDateTime now = LocalDateTime.now();
+        AttendanceSession session = sessionRegistry.findById(sessionId, now)
+                .or(() -> sessionRepository.findById(sessionId))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid session ID."));
+        if (!session.getCreatedBy().equals(facultyEmail)) {
+            log.warn("Faculty={} tried to watch session={} owned by {}", facultyEmail, sessionId, session.getCreatedBy());
+            throw new AccessDeniedException("Only the faculty member who created this session can watch it.");
+        }
+        if (!session.getExpiryTime().isAfter(now)) {
+            throw new IllegalStateException("Session has expired.");
+        }
+
+        SessionFeed feed = feedFor(session);
+        SseEmitter emitter = new SseEmitter(Duration.between(now, session.getExpiryTime()).toMillis() + 2 * heartbeatMs);
+        Subscriber subscriber = new Subscriber(feed, emitter, feed.resumeFrom(lastEventId));
+        emitter.onCompletion(() -> feed.subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> feed.subscribers.remove(subscriber));
+        feed.subscribers.add(subscriber);
+        subscriber.wake();
+
+        log.info("Live feed opened: session={}, by={}, resumeFrom={}", sessionId, facultyEmail, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * Append a committed mark to the session's feed; marks of sessions nobody watches are ignored
+     * (the seed picks them up if someone starts watching)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceMarked(AttendanceMarkedEvent event) {
+        SessionFeed feed = feeds.computeIfPresent(event.sessionId(), (id, f) -> {
+            f.append(event.studentEmail(), event.markedAt());
+            return f;
+        });
+        if (feed != null) {
+            feed.subscribers.forEach(Subscriber::wake);
+        }
+    }
+
+    /**
+     * Heartbeat every subscriber (so dead connections are noticed) and close the feeds of expired sessions
+     */
+    @Scheduled(fixedDelayString = "${attendance.live.heartbeat-ms:5000}",
+            initialDelayString = "${attendance.live.heartbeat-ms:5000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        feeds.values().removeIf(feed -> {
+            boolean expired = !feed.session.getExpiryTime().isAfter(now);
+            if (expired) {
+                feed.close();
+                log.debug("Live feed closed: session={}, count={}", feed.session.getId(), feed.count());
+            }
+            feed.subscribers.forEach(expired ? Subscriber::wake : Subscriber::ping);
+            return expired;
+        });
+    }
+
+    /**
+     * The session's feed, if someone is watching it
+     */
+    SessionFeed feed(String sessionId) {
+        return feeds.get(sessionId);
+    }
+
+    SessionFeed feedFor(AttendanceSession session) {
+        // Marks committed while the seed query runs wait in computeIfPresent and are applied on top
+        return feeds.computeIfAbsent(session.getId(), id ->
+                new SessionFeed(session, new HashSet<>(attendanceRepository.findStudentEmailsByQrSessionId(id))));
+    }
+
+    // ─── Private helpers ───────────────────────────────────────────────
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> frame(String id, String name, Object payload) {
+        return SseEmitter.event().id(id).name(name).data(objectMapper.writeValueAsString(payload)).build();
+    }
+
+    record Frame(long seq, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+    }
+
+    /**
+     * One watched session: marked emails, the ring of recent frames and the open streams
+     */
+    final class SessionFeed {
+
+        private final AttendanceSession session;
+        private final Set<String> marked;
+        private final Frame[] ring = new Frame[bufferSize];
+        private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private long seq;
+        private Frame closing;
+
+        private SessionFeed(AttendanceSession session, Set<String> marked) {
+            this.session = session;
+            this.marked = marked;
+        }
+
+        synchronized int count() {
+            return marked.size();
+        }
+
+        synchronized long lastSeq() {
+            return seq;
+        }
+
+        synchronized boolean isClosed() {
+            return closing != null;
+        }
+
+        /**
+         * @return false if the student was already counted
+         */
+        synchronized boolean append(String studentEmail, LocalDateTime markedAt) {
+            if (closing != null || !marked.add(studentEmail)) {
+                return false;
+            }
+            seq++;
+            ring[(int) (seq % ring.length)] = new Frame(seq, frame(epoch + "-" + seq, "attendance",
+                    new LiveAttendanceMark(studentEmail, markedAt, marked.size())));
+            return true;
+        }
+
+        /**
+         * Frames after {@code lastSent}: the buffered events if they are all still in the ring,
+         * otherwise a single snapshot that brings the client up to date
+         */
+        synchronized List<Frame> since(long lastSent) {
+            if (lastSent == seq) {
+                return List.of();
+            }
+            if (lastSent < 0 || lastSent > seq || lastSent < seq - ring.length) {
+                return List.of(new Frame(seq, frame(epoch + "-" + seq, "snapshot", snapshot())));
+            }
+            List<Frame> frames = new ArrayList<>((int) (seq - lastSent));
+            for (long s = lastSent + 1; s <= seq; s++) {
+                frames.add(ring[(int) (s % ring.length)]);
+            }
+            return frames;
+        }
+
+        /**
+         * Sequence to resume after for a client's Last-Event-ID; -1 (snapshot) unless it came from this feed
+         */
+        long resumeFrom(String lastEventId) {
+            if (lastEventId == null || !lastEventId.startsWith(epoch + "-")) {
+                return -1;
+            }
+            try {
+                return Long.parseLong(lastEventId.substring(epoch.length() + 1));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        synchronized Frame closing() {
+            return closing;
+        }
+
+        private synchronized void close() {
+            if (closing == null) {
+                closing = new Frame(seq, frame(epoch + "-" + seq, "session-closed", snapshot()));
+            }
+        }
+
+        private LiveAttendanceSnapshot snapshot() {
+            return new LiveAttendanceSnapshot(session.getId(), session.getCourseCode(), marked.size(), session.getExpiryTime());
+        }
+    }
+
+    /**
+     * One open stream: the last sequence written to it, and whether a drain is already scheduled
+     */
+    private final class Subscriber {
+
+        private final SessionFeed feed;
+        private final SseEmitter emitter;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean pingDue;
+        private long lastSent;
+
+        private Subscriber(SessionFeed feed, SseEmitter emitter, long lastSent) {
+            this.feed = feed;
+            this.emitter = emitter;
+            this.lastSent = lastSent;
+        }
+
+        void ping() {
+            pingDue = true;
+            wake();
+        }
+
+        void wake() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    for (Frame frame : feed.since(lastSent)) {
+                        emitter.send(frame.data());
+                        lastSent = frame.seq();
+                    }
+                    if (pingDue) {
+                        pingDue = false;
+                        emitter.send(HEARTBEAT);
+                    }
+                    Frame closing = feed.closing();
+                    if (closing != null) {
+                        emitter.send(closing.data());
+                        emitter.complete();
+                        return;
+                    }
+                    draining.set(false);
+                    // Work that arrived after the checks above but before the flag was cleared is still ours
+                } while ((feed.lastSeq() != lastSent || pingDue || feed.isClosed()) && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container reports the error and completes the emitter
+                feed.subscribers.remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.TimetableSlotSuggestion;
+import com.campus_buddy.academic_service.model.Room;
+import com.campus_buddy.academic_service.model.Timetable;
+import com.campus_buddy.academic_service.repository.RoomRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * RoomService — teaching rooms and free-slot suggestions for new classes.
+ *
+ * A suggestion search probes the live {@link TimetableOccupancyIndex} without taking its locks:
+ * the faculty's free slots are computed once per day, then rooms are searched in parallel
+ * (fork-join common pool) against those slots, each probe being one skip-list lookup. Each room
+ * yields its slots already in rank order and stops at the limit, so only rooms × limit candidates
+ * are ranked.
+ * Suggestions are advisory — the slot is only reserved when the class is actually added.
+ */
+@Service
+public class RoomService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomService.class);
+
+    private static final List<String> DAYS = List.of(
+            "MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY");
+    private static final List<String> WEEKDAYS = DAYS.subList(0, 5);
+
+    /** Preferred day first, then rooms the course already uses, then the tightest capacity fit */
+    private static final Comparator<TimetableSlotSuggestion> RANKING = Comparator
+            .comparing(TimetableSlotSuggestion::isPreferredDay).reversed()
+            .thenComparing(Comparator.comparing(TimetableSlotSuggestion::isRoomUsedByCourse).reversed())
+            .thenComparing(TimetableSlotSuggestion::getCapacity, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingInt(s -> DAYS.indexOf(s.getDayOfWeek()))
+            .thenComparing(TimetableSlotSuggestion::getStartTime)
+            .thenComparing(TimetableSlotSuggestion::getRoomNumber);
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    @Value("${timetable.suggest.day-start:08:00}")
+    private String dayStart;
+
+    @Value("${timetable.suggest.day-end:18:00}")
+    private String dayEnd;
+
+    @Value("${timetable.suggest.step-minutes:30}")
+    private int stepMinutes;
+
+    @Value("${timetable.suggest.max-results:50}")
+    private int maxResults;
+
+    public List<Room> getRooms() {
+        return roomRepository.findByOrderByRoomNumber();
+    }
+
+    /**
+     * Create or update a room
+     * @throws IllegalArgumentException if the room number is missing or the capacity is not positive
+     */
+    public Room saveRoom(Room room) {
+        if (room.getRoomNumber() == null || room.getRoomNumber().isBlank()) {
+            throw new IllegalArgumentException("roomNumber is required.");
+        }
+        if (room.getCapacity() == null || room.getCapacity() <= 0) {
+            throw new IllegalArgumentException("capacity must be a positive number.");
+        }
+        Room saved = roomRepository.save(room);
+        log.info("Room saved: room={}, capacity={}", saved.getRoomNumber(), saved.getCapacity());
+        return saved;
+    }
+
+    /**
+     * Best-ranked free slots where both {@code facultyEmail} and a room are free for {@code durationMinutes}.
+     *
+     * Searches the preferred days plus Monday–Friday, on a grid of {@code timetable.suggest.step-minutes}
+     * within teaching hours. Rooms are every room on record plus every room used in the timetable;
+     * with {@code minCapacity}, only rooms with a recorded capacity of at least that many seats.
+     * @throws IllegalArgumentException if the course, duration, days or limit are invalid
+     */
+    public List<TimetableSlotSuggestion> suggestSlots(String courseCode, int durationMinutes, List<String> preferredDays,
+                                                      Integer minCapacity, String facultyEmail, int limit) {
+        LocalTime open = LocalTime.parse(dayStart);
+        LocalTime close = LocalTime.parse(dayEnd);
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("courseCode is required.");
+        }
+        if (durationMinutes <= 0 || durationMinutes > Duration.between(open, close).toMinutes()) {
+            throw new IllegalArgumentException("durationMinutes must be between 1 and "
+                    + Duration.between(open, close).toMinutes() + ".");
+        }
+        if (limit < 1 || limit > maxResults) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxResults + ".");
+        }
+        Set<String> preferred = normalizeDays(preferredDays);
+        long started = System.nanoTime();
+
+        TimetableService.Snapshot snapshot = timetableService.getSnapshot();
+        TimetableOccupancyIndex occupancy = timetableService.getOccupancy();
+        Set<String> courseRooms = snapshot.forCourse(courseCode).entries().stream()
+                .map(Timetable::getRoomNumber)
+                .collect(Collectors.toSet());
+
+        Map<String, Integer> capacities = new HashMap<>();
+        roomRepository.findAll().forEach(r -> capacities.put(r.getRoomNumber(), r.getCapacity()));
+        Set<String> rooms = new TreeSet<>(capacities.keySet());
+        rooms.addAll(snapshot.byRoom().keySet());
+        List<String> candidates = rooms.stream()
+                .filter(room -> minCapacity == null
+                        || (capacities.get(room) != null && capacities.get(room) >= minCapacity))
+                .toList();
+
+        // The faculty's free slots per day are shared by every room; days are visited in ranking order
+        Set<String> days = new LinkedHashSet<>();
+        DAYS.stream().filter(preferred::contains).forEach(days::add);
+        days.addAll(WEEKDAYS);
+        Map<String, List<Slot>> facultyFree = new LinkedHashMap<>();
+        for (String day : days) {
+            TimetableOccupancyIndex.Availability faculty = occupancy.facultyAvailability(facultyEmail, day);
+            List<Slot> slots = new ArrayList<>();
+            LocalTime start = open;
+            while (!start.plusMinutes(durationMinutes).isAfter(close)) {
+                LocalTime end = start.plusMinutes(durationMinutes);
+                if (faculty.isFree(start, end)) {
+                    slots.add(new Slot(start, end));
+                }
+                LocalTime next = start.plusMinutes(stepMinutes);
+                if (!next.isAfter(start)) {
+                    break; // wrapped past midnight
+                }
+                start = next;
+            }
+            facultyFree.put(day, slots);
+        }
+
+        List<TimetableSlotSuggestion> suggestions = candidates.parallelStream()
+                .flatMap(room -> searchRoom(occupancy, room, capacities.get(room), courseRooms.contains(room),
+                        facultyFree, preferred, limit).stream())
+                .sorted(RANKING)
+                .limit(limit)
+                .toList();
+
+        log.debug("Slot suggestions for course={}, faculty={}: rooms={}, results={}, took={}ms", courseCode, facultyEmail,
+                candidates.size(), suggestions.size(), (System.nanoTime() - started) / 1_000_000);
+        return suggestions;
+    }
+
+    // ─── Private helpers ───────────────────────────────────────────────
+
+    /**
+     * Up to {@code limit} free slots in one room. Days and starts are visited in ranking order and
+     * everything else in the ranking is fixed per room, so these are the room's best slots.
+     */
+    private static List<TimetableSlotSuggestion> searchRoom(TimetableOccupancyIndex occupancy, String room,
+                                                            Integer capacity, boolean usedByCourse,
+                                                            Map<String, List<Slot>> facultyFree,
+                                                            Set<String> preferred, int limit) {
+        List<TimetableSlotSuggestion> found = new ArrayList<>();
+        for (Map.Entry<String, List<Slot>> day : facultyFree.entrySet()) {
+            TimetableOccupancyIndex.Availability availability = occupancy.roomAvailability(room, day.getKey());
+            for (Slot slot : day.getValue()) {
+                if (availability.isFree(slot.start(), slot.end())) {
+                    found.add(new TimetableSlotSuggestion(day.getKey(), slot.start(), slot.end(), room, capacity,
+                            preferred.contains(day.getKey()), usedByCourse));
+                    if (found.size() == limit) {
+                        return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static Set<String> normalizeDays(List<String> days) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (days == null) {
+            return normalized;
+        }
+        for (String day : days) {
+            String upper = day.trim().toUpperCase();
+            if (!DAYS.contains(upper)) {
+                throw new IllegalArgumentException("Unknown day: " + day + ".");
+            }
+            normalized.add(upper);
+        }
+        return normalized;
+    }
+
+    private record Slot(LocalTime start, LocalTime end) {
+    }
+}
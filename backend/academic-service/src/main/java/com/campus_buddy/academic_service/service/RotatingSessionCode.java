@@ -0,0 +1,77 @@
+package com.campus_buddy.academic_service.service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * RotatingSessionCode — TOTP-style (RFC 6238) session codes. The code of a rotating session is derived
+ * from the session's secret and the current time step, so it changes every step without being stored.
+ *
+ * HMAC-SHA256 over the step counter, dynamically truncated (RFC 4226) to 30 bits and written as six
+ * characters of the session-code alphabet (32 symbols, 5 bits each), so a rotating code looks like a
+ * static one.
+ */
+final class RotatingSessionCode {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final int CODE_LENGTH = 6;
+
+    private RotatingSessionCode() {
+    }
+
+    /**
+     * New 160-bit per-session secret, base64-encoded for the code_secret column
+     */
+    static String newSecret() {
+        byte[] secret = new byte[20];
+        SECURE_RANDOM.nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+
+    static long step(long epochSecond, int stepSeconds) {
+        return Math.floorDiv(epochSecond, stepSeconds);
+    }
+
+    static String codeAt(String secret, long step) {
+        byte[] hash = hmac(secret, step);
+        int offset = hash[hash.length - 1] & 0x0F;
+        int value = ByteBuffer.wrap(hash, offset, 4).getInt() & 0x3FFFFFFF;
+
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = AttendanceService.SESSION_CODE_CHARS.charAt(value & 0x1F);
+            value >>>= 5;
+        }
+        return new String(code);
+    }
+
+    /**
+     * Whether {@code code} is the session's code for {@code currentStep} or up to {@code skewSteps} steps
+     * either side. Every step in the window is computed and compared in constant time, so the response
+     * time does not reveal which step (or how much of a guess) matched.
+     */
+    static boolean matches(String secret, String code, long currentStep, int skewSteps) {
+        byte[] given = code.getBytes(StandardCharsets.US_ASCII);
+        boolean match = false;
+        for (long step = currentStep - skewSteps; step <= currentStep + skewSteps; step++) {
+            match |= MessageDigest.isEqual(codeAt(secret, step).getBytes(StandardCharsets.US_ASCII), given);
+        }
+        return match;
+    }
+
+    private static byte[] hmac(String secret, long step) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(Base64.getDecoder().decode(secret), "HmacSHA256"));
+            return mac.doFinal(ByteBuffer.allocate(Long.BYTES).putLong(step).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.Timetable;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Weekly occupancy of rooms and faculty: for every (room, day) and (faculty, day), the busy
+ * intervals keyed by start time. Intervals under one key never overlap (overlapping rows loaded
+ * from before the index existed are merged), so an overlap check is a single floor lookup: only
+ * the interval starting latest before the new end time can reach past the new start.
+ *
+ * Writers must hold the {@link #roomKey room} and {@link #facultyKey faculty} locks for a class while
+ * checking and booking it, so check-then-book is atomic. Intervals are kept in concurrent skip lists,
+ * so lock-free readers (slot suggestions) can probe the index while it is being written.
+ */
+public class TimetableOccupancyIndex {
+
+    private final Map<String, NavigableMap<LocalTime, LocalTime>> busy = new ConcurrentHashMap<>();
+
+    public static TimetableOccupancyIndex of(Collection<Timetable> entries) {
+        TimetableOccupancyIndex index = new TimetableOccupancyIndex();
+        entries.forEach(index::book);
+        return index;
+    }
+
+    static String roomKey(Timetable t) {
+        return roomKey(t.getRoomNumber(), t.getDayOfWeek());
+    }
+
+    static String facultyKey(Timetable t) {
+        return facultyKey(t.getFacultyEmail(), t.getDayOfWeek());
+    }
+
+    private static String roomKey(String roomNumber, String dayOfWeek) {
+        return "room|" + roomNumber + "|" + dayOfWeek;
+    }
+
+    private static String facultyKey(String facultyEmail, String dayOfWeek) {
+        return "faculty|" + facultyEmail + "|" + dayOfWeek;
+    }
+
+    /**
+     * Free-time probe for one room on one day; resolves the key once for many checks
+     */
+    public Availability roomAvailability(String roomNumber, String dayOfWeek) {
+        return availability(busy.get(roomKey(roomNumber, dayOfWeek)));
+    }
+
+    /**
+     * Free-time probe for one faculty member on one day
+     */
+    public Availability facultyAvailability(String facultyEmail, String dayOfWeek) {
+        return availability(busy.get(facultyKey(facultyEmail, dayOfWeek)));
+    }
+
+    /**
+     * Why the class cannot be booked, or empty if both its room and its faculty are free
+     */
+    public Optional<String> conflict(Timetable t) {
+        if (overlaps(roomKey(t), t.getStartTime(), t.getEndTime())) {
+            return Optional.of("Time slot conflict: room " + t.getRoomNumber()
+                    + " is already booked for an overlapping time on " + t.getDayOfWeek() + ".");
+        }
+        if (overlaps(facultyKey(t), t.getStartTime(), t.getEndTime())) {
+            return Optional.of("Time slot conflict: " + t.getFacultyEmail()
+                    + " is already teaching at an overlapping time on " + t.getDayOfWeek() + ".");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Mark the class's room and faculty busy for its time slot
+     */
+    public void book(Timetable t) {
+        book(roomKey(t), t.getStartTime(), t.getEndTime());
+        book(facultyKey(t), t.getStartTime(), t.getEndTime());
+    }
+
+    private boolean overlaps(String key, LocalTime start, LocalTime end) {
+        return overlaps(busy.get(key), start, end);
+    }
+
+    private static boolean overlaps(NavigableMap<LocalTime, LocalTime> intervals, LocalTime start, LocalTime end) {
+        if (intervals == null) {
+            return false;
+        }
+        Map.Entry<LocalTime, LocalTime> latest = intervals.lowerEntry(end);
+        return latest != null && latest.getValue().isAfter(start);
+    }
+
+    private static Availability availability(NavigableMap<LocalTime, LocalTime> intervals) {
+        return intervals == null ? (start, end) -> true : (start, end) -> !overlaps(intervals, start, end);
+    }
+
+    private void book(String key, LocalTime start, LocalTime end) {
+        NavigableMap<LocalTime, LocalTime> intervals = busy.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>());
+        Map.Entry<LocalTime, LocalTime> overlapping;
+        while ((overlapping = intervals.lowerEntry(end)) != null && overlapping.getValue().isAfter(start)) {
+            start = overlapping.getKey().isBefore(start) ? overlapping.getKey() : start;
+            end = overlapping.getValue().isAfter(end) ? overlapping.getValue() : end;
+            intervals.remove(overlapping.getKey());
+        }
+        intervals.put(start, end);
+    }
+
+    /**
+     * Whether a time range on the probed day is free
+     */
+    @FunctionalInterface
+    public interface Availability {
+        boolean isFree(LocalTime start, LocalTime end);
+    }
+}
@@ -0,0 +1,357 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.Timetable;
+import com.campus_buddy.academic_service.repository.TimetableRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * TimetableService — the timetable read model.
+ *
+ * The whole timetable is held as one immutable {@link Snapshot}: entries sorted in calendar order,
+ * pre-serialized to JSON, and indexed by faculty, course, room and day (each index entry also pre-serialized
+ * with its own ETag). Reads never touch the database.
+ *
+ * Writes check room and faculty clashes against a {@link TimetableOccupancyIndex} under per-key
+ * striped locks, so adds for unrelated rooms and faculty proceed in parallel, then swap in a rebuilt
+ * snapshot. A scheduled reload rebuilds both from the database to pick up classes added through
+ * other replicas.
+ */
+@Service
+public class TimetableService {
+
+    private static final Logger log = LoggerFactory.getLogger(TimetableService.class);
+
+    /**
+     * Calendar-order mapping for day-of-week.
+     * Ensures MONDAY=1, ..., SUNDAY=7 instead of alphabetical sort.
+     */
+    private static final Map<String, Integer> DAY_ORDER = Map.of(
+        "MONDAY", 1,
+        "TUESDAY", 2,
+        "WEDNESDAY", 3,
+        "THURSDAY", 4,
+        "FRIDAY", 5,
+        "SATURDAY", 6,
+        "SUNDAY", 7
+    );
+
+    static final Comparator<Timetable> CALENDAR_ORDER = Comparator
+            .<Timetable>comparingInt(t -> t.getDayOfWeek() == null ? 8 : DAY_ORDER.getOrDefault(t.getDayOfWeek().toUpperCase(), 8))
+            .thenComparing(Timetable::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Timetable::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final int LOCK_STRIPES = 64;
+
+    @Autowired
+    private TimetableRepository timetableRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${timetable.bulk.max-rows:2000}")
+    private int bulkMaxRows;
+
+    private volatile Snapshot snapshot;
+
+    private volatile TimetableOccupancyIndex occupancy;
+
+    /** Room and faculty keys hash onto these; a write holds the stripes of every key it books */
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+
+    /** Serializes snapshot swaps between writers holding different stripes */
+    private final Object publishLock = new Object();
+
+    public TimetableService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Current snapshot, loaded on first use
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        reload();
+        return snapshot;
+    }
+
+    /**
+     * Live room/faculty occupancy, loaded on first use. Read-only outside this class: writes go through
+     * {@link #addClass} / {@link #addClasses} under the stripe locks.
+     */
+    TimetableOccupancyIndex getOccupancy() {
+        getSnapshot();
+        return occupancy;
+    }
+
+    /**
+     * Add a class taught by {@code facultyEmail} and publish a snapshot that includes it.
+     * @throws IllegalArgumentException if a field is missing, the day is unknown, or start is not before end
+     * @throws IllegalStateException if the room is booked, or the faculty is teaching, at an overlapping time that day
+     */
+    public Timetable addClass(Timetable timetable, String facultyEmail) {
+        validate(timetable, facultyEmail).ifPresent(error -> {
+            throw new IllegalArgumentException(error);
+        });
+        return place(List.of(timetable), false).get(0);
+    }
+
+    /**
+     * Add a whole schedule taught by {@code facultyEmail}: every class is validated and checked against
+     * the existing timetable and the rest of the batch, then all are saved together — or none are.
+     * @throws IllegalArgumentException listing every invalid row (1-based) if any row is invalid
+     * @throws IllegalStateException listing every clashing row if any row clashes
+     */
+    public List<Timetable> addClasses(List<Timetable> timetables, String facultyEmail) {
+        if (timetables == null || timetables.isEmpty()) {
+            throw new IllegalArgumentException("No classes to add.");
+        }
+        if (timetables.size() > bulkMaxRows) {
+            throw new IllegalArgumentException("Too many classes: " + timetables.size() + " (max " + bulkMaxRows + ").");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < timetables.size(); i++) {
+            int row = i + 1;
+            validate(timetables.get(i), facultyEmail).ifPresent(error -> errors.add("Row " + row + ": " + error));
+        }
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join(" ", errors));
+        }
+        return place(timetables, true);
+    }
+
+    /**
+     * Reload from the database. The snapshot (and its Last-Modified) is only replaced when the content changed.
+     */
+    @Scheduled(fixedDelayString = "${timetable.refresh-interval-ms:300000}",
+               initialDelayString = "${timetable.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // Keep serving the previous snapshot
+            log.warn("Timetable refresh failed: {}", e.getMessage());
+        }
+    }
+
+    // ─── Private helpers ───────────────────────────────────────────────
+
+    /**
+     * Check every class against the occupancy index and against the classes before it in the batch,
+     * then save them all and book them, holding the stripes of every room and faculty involved.
+     */
+    private List<Timetable> place(List<Timetable> timetables, boolean numberRows) {
+        getSnapshot();
+        List<ReentrantLock> held = lockStripes(timetables);
+        try {
+            TimetableOccupancyIndex index = occupancy;
+            TimetableOccupancyIndex batch = new TimetableOccupancyIndex();
+            List<String> conflicts = new ArrayList<>();
+            for (int i = 0; i < timetables.size(); i++) {
+                Timetable t = timetables.get(i);
+                Optional<String> conflict = index.conflict(t).or(() -> batch.conflict(t));
+                if (conflict.isPresent()) {
+                    conflicts.add(numberRows ? "Row " + (i + 1) + ": " + conflict.get() : conflict.get());
+                } else {
+                    batch.book(t);
+                }
+            }
+            if (!conflicts.isEmpty()) {
+                throw new IllegalStateException(String.join(" ", conflicts));
+            }
+
+            List<Timetable> saved = timetableRepository.saveAll(timetables);
+            saved.forEach(index::book);
+            publish(saved);
+            saved.forEach(t -> log.info("Timetable entry added: course={}, day={}, room={}, by={}",
+                    t.getCourseCode(), t.getDayOfWeek(), t.getRoomNumber(), t.getFacultyEmail()));
+            return saved;
+        } finally {
+            held.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    /**
+     * Insert saved classes into a copy of the current snapshot and swap it in
+     */
+    private void publish(List<Timetable> saved) {
+        synchronized (publishLock) {
+            List<Timetable> entries = new ArrayList<>(snapshot.all().entries());
+            for (Timetable t : saved) {
+                int index = Collections.binarySearch(entries, t, CALENDAR_ORDER);
+                entries.add(index < 0 ? -index - 1 : index, t);
+            }
+            snapshot = build(entries, Instant.now());
+        }
+    }
+
+    /**
+     * Rebuild the occupancy index and snapshot from the database, holding every stripe so no write interleaves
+     */
+    private void reload() {
+        List<ReentrantLock> held = lockAll();
+        try {
+            List<Timetable> entries = load();
+            Snapshot reloaded = build(entries, Instant.now());
+            occupancy = TimetableOccupancyIndex.of(entries);
+            synchronized (publishLock) {
+                if (snapshot == null || !snapshot.all().etag().equals(reloaded.all().etag())) {
+                    boolean initial = snapshot == null;
+                    snapshot = reloaded;
+                    if (!initial) {
+                        log.info("Timetable snapshot reloaded: {} entries", entries.size());
+                    }
+                }
+            }
+        } finally {
+            held.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    /**
+     * Lock the stripes of every room and faculty key the classes touch, in ascending order to avoid deadlock
+     */
+    private List<ReentrantLock> lockStripes(List<Timetable> timetables) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Timetable t : timetables) {
+            indexes.add(Math.floorMod(TimetableOccupancyIndex.roomKey(t).hashCode(), LOCK_STRIPES));
+            indexes.add(Math.floorMod(TimetableOccupancyIndex.facultyKey(t).hashCode(), LOCK_STRIPES));
+        }
+        List<ReentrantLock> held = new ArrayList<>(indexes.size());
+        for (int i : indexes) {
+            stripes[i].lock();
+            held.add(stripes[i]);
+        }
+        return held;
+    }
+
+    private List<ReentrantLock> lockAll() {
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+        return List.of(stripes);
+    }
+
+    /**
+     * Normalize the day and assign the faculty; the problem with the class, if any
+     */
+    private static Optional<String> validate(Timetable t, String facultyEmail) {
+        if (t.getDayOfWeek() == null || t.getStartTime() == null || t.getEndTime() == null) {
+            return Optional.of("dayOfWeek, startTime, and endTime are required.");
+        }
+        if (t.getCourseCode() == null || t.getCourseName() == null || t.getRoomNumber() == null) {
+            return Optional.of("courseCode, courseName, and roomNumber are required.");
+        }
+        t.setDayOfWeek(t.getDayOfWeek().toUpperCase()); // Normalize
+        if (!DAY_ORDER.containsKey(t.getDayOfWeek())) {
+            return Optional.of("Unknown dayOfWeek: " + t.getDayOfWeek() + ".");
+        }
+        if (!t.getStartTime().isBefore(t.getEndTime())) {
+            return Optional.of("Start time must be before end time.");
+        }
+        t.setId(null);
+        t.setFacultyEmail(facultyEmail);
+        return Optional.empty();
+    }
+
+    private List<Timetable> load() {
+        List<Timetable> entries = new ArrayList<>(timetableRepository.findAll());
+        entries.sort(CALENDAR_ORDER);
+        return entries;
+    }
+
+    private Snapshot build(List<Timetable> sorted, Instant now) {
+        return new Snapshot(
+            view(sorted, now),
+            index(sorted, Timetable::getFacultyEmail, now),
+            index(sorted, Timetable::getCourseCode, now),
+            index(sorted, Timetable::getRoomNumber, now),
+            index(sorted, t -> t.getDayOfWeek() == null ? null : t.getDayOfWeek().toUpperCase(), now),
+            view(List.of(), now)
+        );
+    }
+
+    /**
+     * Group already-sorted entries by key; each group keeps calendar order
+     */
+    private Map<String, TimetableView> index(List<Timetable> sorted, Function<Timetable, String> key, Instant now) {
+        Map<String, List<Timetable>> groups = new LinkedHashMap<>();
+        for (Timetable t : sorted) {
+            String k = key.apply(t);
+            if (k != null) {
+                groups.computeIfAbsent(k, g -> new ArrayList<>()).add(t);
+            }
+        }
+        Map<String, TimetableView> views = new LinkedHashMap<>();
+        groups.forEach((k, entries) -> views.put(k, view(entries, now)));
+        return Collections.unmodifiableMap(views);
+    }
+
+    /**
+     * Serialize entries already in calendar order; also used for per-student views
+     */
+    TimetableView view(List<Timetable> sorted, Instant lastModified) {
+        byte[] body = objectMapper.writeValueAsBytes(sorted);
+        return new TimetableView(Collections.unmodifiableList(sorted), body,
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"", lastModified.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * One pre-serialized slice of the timetable, a strong ETag over its JSON and when it was built
+     */
+    public record TimetableView(List<Timetable> entries, byte[] body, String etag, Instant lastModified) {
+    }
+
+    /**
+     * Immutable timetable snapshot: the full view plus views by faculty email, course code, room number and day.
+     * Unknown keys resolve to a shared empty view.
+     */
+    public record Snapshot(TimetableView all,
+                           Map<String, TimetableView> byFaculty,
+                           Map<String, TimetableView> byCourse,
+                           Map<String, TimetableView> byRoom,
+                           Map<String, TimetableView> byDay,
+                           TimetableView empty) {
+
+        public TimetableView forFaculty(String facultyEmail) {
+            return byFaculty.getOrDefault(facultyEmail, empty);
+        }
+
+        public TimetableView forCourse(String courseCode) {
+            return byCourse.getOrDefault(courseCode, empty);
+        }
+
+        public TimetableView forRoom(String roomNumber) {
+            return byRoom.getOrDefault(roomNumber, empty);
+        }
+
+        public TimetableView forDay(String dayOfWeek) {
+            return byDay.getOrDefault(dayOfWeek.toUpperCase(), empty);
+        }
+    }
+}
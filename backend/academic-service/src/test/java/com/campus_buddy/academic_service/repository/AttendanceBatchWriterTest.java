@@ -0,0 +1,73 @@
+package com.campus_buddy.academic_service.repository;
+
+import com.campus_buddy.academic_service.model.Attendance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AttendanceBatchWriter.
+ * Covers: id assignment from pooled-lo blocks of attendance_seq (one nextval per block, not per row).
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AttendanceBatchWriter batchWriter;
+
+    @Test
+    @DisplayName("Ids — a batch reserves one sequence block per 50 rows and numbers its rows inside them")
+    void insert_shouldNumberRowsWithinReservedBlocks() {
+        when(jdbcTemplate.queryForList(contains("nextval('attendance_seq')"), eq(Long.class), eq(2)))
+                .thenReturn(List.of(101L, 851L));
+        List<Object[]> inserts = new ArrayList<>();
+        doAnswer(inv -> inserts.add((Object[]) inv.getRawArguments()[2]))
+                .when(jdbcTemplate).query(startsWith("INSERT INTO attendance"), any(RowCallbackHandler.class), any(Object[].class));
+
+        List<Attendance> records = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            records.add(attendance("s" + i + "@example.com"));
+        }
+        batchWriter.insertIgnoringDuplicates(records);
+
+        assertThat(inserts).hasSize(1);
+        Object[] args = inserts.get(0);
+        assertThat(args).hasSize(60 * 8);
+        assertThat(args[0]).isEqualTo(101L);
+        assertThat(args[49 * 8]).isEqualTo(150L);
+        assertThat(args[50 * 8]).isEqualTo(851L);
+        assertThat(args[59 * 8]).isEqualTo(860L);
+        assertThat(args[59 * 8 + 1]).isEqualTo("s59@example.com");
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), any(Object[].class));
+    }
+
+    // ─── Helper ───
+
+    private static Attendance attendance(String studentEmail) {
+        Attendance a = new Attendance();
+        a.setStudentEmail(studentEmail);
+        a.setCourseCode("CS101");
+        a.setQrSessionId("session-123");
+        a.setLectureDate(LocalDate.now());
+        a.setStatus("PRESENT");
+        a.setMarkedAt(LocalDateTime.now());
+        return a;
+    }
+}
@@ -0,0 +1,160 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.AttendanceTrendResponse;
+import com.campus_buddy.academic_service.dto.CourseStudentsAnalyticsResponse;
+import com.campus_buddy.academic_service.dto.StudentWindowStats;
+import com.campus_buddy.academic_service.model.CourseDailyAttendance;
+import com.campus_buddy.academic_service.model.CourseWeeklyAttendance;
+import com.campus_buddy.academic_service.repository.AttendanceRollupWriter;
+import com.campus_buddy.academic_service.repository.CourseDailyAttendanceRepository;
+import com.campus_buddy.academic_service.repository.CourseWeeklyAttendanceRepository;
+import com.campus_buddy.academic_service.repository.StudentWeeklyAttendanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AttendanceAnalyticsService.
+ * Covers: scheduled refresh window, week alignment, trends, late arrivals, below-threshold students.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceAnalyticsServiceTest {
+
+    @Mock
+    private AttendanceRollupWriter rollupWriter;
+
+    @Mock
+    private CourseDailyAttendanceRepository dailyRepository;
+
+    @Mock
+    private CourseWeeklyAttendanceRepository weeklyRepository;
+
+    @Mock
+    private StudentWeeklyAttendanceRepository studentWeeklyRepository;
+
+    @InjectMocks
+    private AttendanceAnalyticsService analyticsService;
+
+    // Wednesday 4 March 2026 → week of Monday 2 March
+    private final LocalDate from = LocalDate.of(2026, 2, 4);
+    private final LocalDate to = LocalDate.of(2026, 3, 4);
+    private final LocalDate fromMonday = LocalDate.of(2026, 2, 2);
+    private final LocalDate toMonday = LocalDate.of(2026, 3, 2);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(analyticsService, "settleSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("Refresh — high-water mark trails the clock by the settle time")
+    void refreshRollups_shouldTrailClock() {
+        when(rollupWriter.refresh(any())).thenReturn(new AttendanceRollupWriter.Window(null, null, 0, 0));
+        LocalDateTime before = LocalDateTime.now();
+
+        analyticsService.refreshRollups();
+
+        ArgumentCaptor<LocalDateTime> upTo = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(rollupWriter).refresh(upTo.capture());
+        assertThat(upTo.getValue()).isBefore(before.minusSeconds(59)).isAfter(before.minusSeconds(62));
+    }
+
+    @Test
+    @DisplayName("Refresh — a failing run is logged, not propagated to the scheduler")
+    void refreshRollups_failure_shouldBeSwallowed() {
+        when(rollupWriter.refresh(any())).thenThrow(new IllegalStateException("db down"));
+
+        analyticsService.refreshRollups();
+
+        verify(rollupWriter).refresh(any());
+    }
+
+    @Test
+    @DisplayName("Weekly trend — range aligned to Mondays, average attendance per session")
+    void getWeeklyTrend_shouldAlignToMondays() {
+        when(weeklyRepository.findByCourseCodeAndWeekStartBetweenOrderByWeekStart("CS101", fromMonday, toMonday))
+                .thenReturn(List.of(new CourseWeeklyAttendance("CS101", fromMonday, 3, 100, 7)));
+
+        AttendanceTrendResponse trend = analyticsService.getWeeklyTrend("CS101", from, to);
+
+        assertThat(trend.getFrom()).isEqualTo(fromMonday);
+        assertThat(trend.getTo()).isEqualTo(toMonday);
+        assertThat(trend.getGranularity()).isEqualTo("WEEKLY");
+        assertThat(trend.getPoints()).hasSize(1);
+        assertThat(trend.getPoints().get(0).getAveragePerSession()).isEqualTo(33.3);
+        assertThat(trend.getPoints().get(0).getLate()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Daily trend — reads only the daily rollup; inverted ranges are rejected")
+    void getDailyTrend_shouldReadDailyRollup() {
+        when(dailyRepository.findByCourseCodeAndLectureDateBetweenOrderByLectureDate("CS101", from, to))
+                .thenReturn(List.of(new CourseDailyAttendance("CS101", to, 0, 5, 1)));
+
+        AttendanceTrendResponse trend = analyticsService.getDailyTrend("CS101", from, to);
+
+        assertThat(trend.getPoints()).hasSize(1);
+        assertThat(trend.getPoints().get(0).getAveragePerSession()).isZero();
+        assertThatThrownBy(() -> analyticsService.getDailyTrend("CS101", to, from))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(studentWeeklyRepository);
+    }
+
+    @Test
+    @DisplayName("Below threshold — percentage over the window's sessions, lowest first")
+    void getStudentsBelow_shouldFilterAndSort() {
+        when(weeklyRepository.findByCourseCodeAndWeekStartBetweenOrderByWeekStart("CS101", fromMonday, toMonday))
+                .thenReturn(List.of(
+                        new CourseWeeklyAttendance("CS101", fromMonday, 2, 0, 0),
+                        new CourseWeeklyAttendance("CS101", toMonday, 2, 0, 0)));
+        when(studentWeeklyRepository.sumByStudent("CS101", fromMonday, toMonday)).thenReturn(List.of(
+                totals("a@example.com", 4, 0),
+                totals("b@example.com", 1, 1),
+                totals("c@example.com", 2, 2)));
+
+        CourseStudentsAnalyticsResponse below = analyticsService.getStudentsBelow("CS101", 75, from, to);
+
+        assertThat(below.getSessionsHeld()).isEqualTo(4);
+        assertThat(below.getStudents()).extracting(StudentWindowStats::getStudentEmail)
+                .containsExactly("b@example.com", "c@example.com");
+        assertThat(below.getStudents()).extracting(StudentWindowStats::getPercentage).containsExactly(25.0, 50.0);
+    }
+
+    @Test
+    @DisplayName("Late arrivals — only students with lates, most first, limited")
+    void getLateArrivals_shouldSortByLateCount() {
+        when(weeklyRepository.findByCourseCodeAndWeekStartBetweenOrderByWeekStart("CS101", fromMonday, toMonday))
+                .thenReturn(List.of(new CourseWeeklyAttendance("CS101", fromMonday, 4, 0, 0)));
+        when(studentWeeklyRepository.sumByStudent("CS101", fromMonday, toMonday)).thenReturn(List.of(
+                totals("a@example.com", 4, 0),
+                totals("b@example.com", 3, 1),
+                totals("c@example.com", 4, 3)));
+
+        CourseStudentsAnalyticsResponse late = analyticsService.getLateArrivals("CS101", from, to, 1);
+
+        assertThat(late.getStudents()).extracting(StudentWindowStats::getStudentEmail).containsExactly("c@example.com");
+    }
+
+    private static StudentWeeklyAttendanceRepository.StudentTotals totals(String email, long attended, long late) {
+        return new StudentWeeklyAttendanceRepository.StudentTotals() {
+            public String getStudentEmail() { return email; }
+            public Long getAttended() { return attended; }
+            public Long getLate() { return late; }
+        };
+    }
+}
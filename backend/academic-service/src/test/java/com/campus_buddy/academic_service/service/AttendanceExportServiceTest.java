@@ -0,0 +1,96 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.Attendance;
+import com.campus_buddy.academic_service.repository.AttendanceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AttendanceExportService.
+ * Covers: CSV and NDJSON output, per-row detach, stream closing, format parsing.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceExportServiceTest {
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @InjectMocks
+    private AttendanceExportService exportService;
+
+    @Test
+    @DisplayName("CSV — header plus one escaped line per record, each entity detached, stream closed")
+    void export_csv_shouldWriteRowsAndDetach() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(attendanceRepository.streamByCourseCode("CS101")).thenReturn(
+                Stream.of(record(1L, "a@example.com"), record(2L, "odd,\"name\"@example.com"))
+                        .onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.exportCourseAttendance("CS101", AttendanceExportService.Format.CSV, out);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,student_email,course_code,lecture_date,status,marked_at\n" +
+                "1,a@example.com,CS101,2026-03-02,PRESENT,2026-03-02T09:05\n" +
+                "2,\"odd,\"\"name\"\"@example.com\",CS101,2026-03-02,PRESENT,2026-03-02T09:05\n");
+        verify(entityManager, times(2)).detach(any(Attendance.class));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("NDJSON — one JSON object per line")
+    void export_ndjson_shouldWriteOneObjectPerLine() throws Exception {
+        when(attendanceRepository.streamByCourseCode("CS101")).thenReturn(
+                Stream.of(record(1L, "a@example.com"), record(2L, "b@example.com")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportCourseAttendance("CS101", AttendanceExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"studentEmail\":\"a@example.com\"").contains("\"id\":1");
+        assertThat(lines[1]).contains("\"studentEmail\":\"b@example.com\"");
+    }
+
+    @Test
+    @DisplayName("Format — accepts csv/ndjson case-insensitively, rejects anything else")
+    void format_from_shouldParseOrThrow() {
+        assertThat(AttendanceExportService.Format.from("NDJSON")).isEqualTo(AttendanceExportService.Format.NDJSON);
+        assertThat(AttendanceExportService.Format.from("csv")).isEqualTo(AttendanceExportService.Format.CSV);
+        assertThatThrownBy(() -> AttendanceExportService.Format.from("xlsx"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported export format");
+    }
+
+    private static Attendance record(Long id, String email) {
+        return new Attendance(id, email, "CS101", LocalDate.of(2026, 3, 2), "PRESENT", "session-1",
+                LocalDateTime.of(2026, 3, 2, 9, 5), null);
+    }
+}
@@ -11,11 +11,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -24,7 +36,8 @@ import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for AttendanceService.
- * Covers: valid scan, duplicate attempt, expired session, invalid QR, geofencing.
+ * Covers: valid scan, duplicate attempt, expired session, invalid QR, geofencing, stats counters, mark events,
+ * rotating codes.
  */
 @ExtendWith(MockitoExtension.class)
 class AttendanceServiceTest {
@@ -35,6 +48,15 @@ class AttendanceServiceTest {
     @Mock
     private AttendanceSessionRepository sessionRepository;
 
+    @Mock
+    private AttendanceStatsService statsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ActiveSessionRegistry sessionRegistry = new ActiveSessionRegistry();
+
     @InjectMocks
     private AttendanceService attendanceService;
 
@@ -45,6 +67,9 @@ class AttendanceServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(attendanceService, "rotatingStepSeconds", 15);
+        ReflectionTestUtils.setField(attendanceService, "rotatingSkewSteps", 1);
+
         validSession = new AttendanceSession();
         validSession.setId("session-123");
         validSession.setSessionCode("ABC123");
@@ -90,6 +115,7 @@ class AttendanceServiceTest {
         assertThat(response.getCourseCode()).isEqualTo("CS101");
         assertThat(response.getCreatedBy()).isEqualTo(facultyEmail);
         verify(sessionRepository, times(1)).save(any(AttendanceSession.class));
+        verify(statsService, times(1)).recordSessionHeld("CS101");
     }
 
     // ─── Mark Attendance Tests ──────────────────────────────────────
@@ -112,6 +138,26 @@ class AttendanceServiceTest {
         assertThat(response.getCourseCode()).isEqualTo("CS101");
         assertThat(response.getStatus()).isEqualTo("PRESENT");
         verify(attendanceRepository, times(1)).save(any(Attendance.class));
+        verify(statsService, times(1)).recordAttendance(studentEmail, "CS101");
+        verify(eventPublisher).publishEvent(new AttendanceMarkedEvent("session-123", "CS101", studentEmail, savedAttendance.getMarkedAt()));
+    }
+
+    @Test
+    @DisplayName("Mark attendance — a mark queued for write-behind publishes no event until the pipeline writes it")
+    void markAttendance_writeBehind_shouldNotPublishOnEnqueue() {
+        AttendanceWriteBehindPipeline pipeline = mock(AttendanceWriteBehindPipeline.class);
+        ReflectionTestUtils.setField(attendanceService, "writeBehindPipeline", pipeline);
+        when(sessionRepository.findBySessionCodeAndExpiryTimeAfter(eq("ABC123"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(validSession));
+        Attendance queued = createSavedAttendance();
+        queued.setId(null);
+        when(pipeline.accept(validSession, studentEmail)).thenReturn(Optional.of(queued));
+
+        AttendanceResponse response = attendanceService.markAttendance(validRequest, studentEmail);
+
+        assertThat(response.getStudentEmail()).isEqualTo(studentEmail);
+        verify(attendanceRepository, never()).save(any(Attendance.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -127,6 +173,7 @@ class AttendanceServiceTest {
                 .hasMessageContaining("already marked");
 
         verify(attendanceRepository, never()).save(any(Attendance.class));
+        verifyNoInteractions(statsService, eventPublisher);
     }
 
     @Test
@@ -261,8 +308,205 @@ class AttendanceServiceTest {
         verify(sessionRepository).findByIdAndExpiryTimeAfter(eq("session-123"), any(LocalDateTime.class));
     }
 
+    // ─── Active Session Registry Tests ──────────────────────────────
+
+    @Test
+    @DisplayName("Mark attendance — session created on this instance never hits the session repository")
+    void markAttendance_sessionCreatedLocally_shouldResolveFromRegistry() {
+        when(sessionRepository.save(any(AttendanceSession.class))).thenReturn(validSession);
+        attendanceService.createSession(new CreateSessionRequest("CS101", 28.6139, 77.2090, 100.0, null), facultyEmail);
+
+        when(attendanceRepository.existsByStudentEmailAndQrSessionId(studentEmail, "session-123")).thenReturn(false);
+        when(attendanceRepository.save(any(Attendance.class))).thenReturn(createSavedAttendance());
+
+        attendanceService.markAttendance(validRequest, studentEmail);
+
+        verify(sessionRepository, never()).findBySessionCodeAndExpiryTimeAfter(anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Mark attendance — registry miss falls back to repository once, then serves from cache")
+    void markAttendance_registryMiss_shouldFallBackToRepositoryOnce() {
+        when(sessionRepository.findBySessionCodeAndExpiryTimeAfter(eq("ABC123"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(validSession));
+        when(attendanceRepository.existsByStudentEmailAndQrSessionId(anyString(), eq("session-123"))).thenReturn(false);
+        when(attendanceRepository.save(any(Attendance.class))).thenReturn(createSavedAttendance());
+
+        attendanceService.markAttendance(validRequest, studentEmail);
+        attendanceService.markAttendance(validRequest, "other@example.com");
+
+        verify(sessionRepository, times(1)).findBySessionCodeAndExpiryTimeAfter(eq("ABC123"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Mark attendance — expired registry entry is evicted and re-checked against the repository")
+    void markAttendance_expiredRegistryEntry_shouldNotBeServed() {
+        sessionRegistry.register(validSession);
+        validSession.setExpiryTime(LocalDateTime.now().minusSeconds(1));
+
+        when(sessionRepository.findBySessionCodeAndExpiryTimeAfter(eq("ABC123"), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> attendanceService.markAttendance(validRequest, studentEmail))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid or expired");
+        assertThat(sessionRegistry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Mark attendance — 500-student burst resolves the session without any repository lookups")
+    void markAttendance_burstOf500Students_shouldResolveFromRegistry() throws Exception {
+        sessionRegistry.register(validSession);
+        when(attendanceRepository.existsByStudentEmailAndQrSessionId(anyString(), eq("session-123"))).thenReturn(false);
+        when(attendanceRepository.save(any(Attendance.class))).thenReturn(createSavedAttendance());
+
+        int students = 500;
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AttendanceResponse>> marks = new ArrayList<>();
+        try {
+            for (int i = 0; i < students; i++) {
+                String email = "student" + i + "@example.com";
+                marks.add(pool.submit(() -> {
+                    start.await();
+                    return attendanceService.markAttendance(validRequest, email);
+                }));
+            }
+            start.countDown();
+
+            // Correctness under concurrency only: with mocked repositories a latency figure would time Mockito
+            for (Future<AttendanceResponse> f : marks) {
+                assertThat(f.get(30, TimeUnit.SECONDS)).isNotNull();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(sessionRepository, never()).findBySessionCodeAndExpiryTimeAfter(anyString(), any(LocalDateTime.class));
+        verify(attendanceRepository, times(students)).save(any(Attendance.class));
+    }
+
+    // ─── Rotating Code Tests ────────────────────────────────────────
+
+    @Test
+    @DisplayName("Create session — rotating mode stores a secret instead of a code")
+    void createSession_rotating_shouldStoreSecretOnly() {
+        CreateSessionRequest request = new CreateSessionRequest("CS101", null, null, null, true);
+        when(sessionRepository.save(any(AttendanceSession.class))).thenAnswer(inv -> {
+            AttendanceSession s = inv.getArgument(0);
+            s.setId("rotating-id");
+            return s;
+        });
+
+        SessionResponse response = attendanceService.createSession(request, facultyEmail);
+
+        assertThat(response.isRotatingCode()).isTrue();
+        assertThat(response.getSessionCode()).isNull();
+        verify(sessionRepository).save(argThat(s -> s.getCodeSecret() != null && s.getSessionCode() == null));
+    }
+
+    @Test
+    @DisplayName("Rotating code — the code shown now (or one step old) marks attendance; older codes and the bare id do not")
+    void markAttendance_rotatingCode_shouldAcceptOnlyCurrentWindow() throws InterruptedException {
+        awayFromStepBoundary();
+        AttendanceSession rotating = rotatingSession();
+        when(sessionRepository.findById("rotating-id")).thenReturn(Optional.of(rotating));
+        when(attendanceRepository.save(any(Attendance.class))).thenReturn(createSavedAttendance());
+
+        String shown = attendanceService.getRotatingCode("rotating-id", facultyEmail).getCode();
+        MarkAttendanceRequest request = new MarkAttendanceRequest(null, shown, null, null, null);
+        assertThat(attendanceService.markAttendance(request, studentEmail)).isNotNull();
+
+        long step = RotatingSessionCode.step(Instant.now().getEpochSecond(), 15);
+        request.setSessionCode(RotatingSessionCode.codeAt(rotating.getCodeSecret(), step - 1));
+        assertThat(attendanceService.markAttendance(request, "other@example.com")).isNotNull();
+
+        request.setSessionCode(RotatingSessionCode.codeAt(rotating.getCodeSecret(), step - 3));
+        assertThatThrownBy(() -> attendanceService.markAttendance(request, "late@example.com"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid or expired session code");
+
+        MarkAttendanceRequest byId = new MarkAttendanceRequest("rotating-id", null, null, null, null);
+        assertThatThrownBy(() -> attendanceService.markAttendance(byId, "late@example.com"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("code currently shown");
+        verify(attendanceRepository, times(2)).save(any(Attendance.class));
+    }
+
+    @Test
+    @DisplayName("Rotating code — a session created on another replica is matched once the sync has loaded it")
+    void markAttendance_rotatingCodeFromOtherReplica_shouldMatchAfterSync() throws InterruptedException {
+        awayFromStepBoundary();
+        AttendanceSession rotating = rotatingSession();
+        when(sessionRepository.findByRotatingCodeTrueAndExpiryTimeAfter(any(LocalDateTime.class))).thenReturn(List.of(rotating));
+        when(attendanceRepository.save(any(Attendance.class))).thenReturn(createSavedAttendance());
+        long step = RotatingSessionCode.step(Instant.now().getEpochSecond(), 15);
+        String code = RotatingSessionCode.codeAt(rotating.getCodeSecret(), step);
+
+        attendanceService.syncRotatingSessions();
+        attendanceService.markAttendance(new MarkAttendanceRequest(null, code, null, null, null), studentEmail);
+        attendanceService.markAttendance(new MarkAttendanceRequest(null, code, null, null, null), "other@example.com");
+
+        verify(sessionRepository, times(1)).findByRotatingCodeTrueAndExpiryTimeAfter(any(LocalDateTime.class));
+        assertThat(sessionRegistry.findLiveRotating(LocalDateTime.now())).containsExactly(rotating);
+    }
+
+    @Test
+    @DisplayName("Rotating code — a wrong code costs one static-code query and never scans rotating sessions")
+    void markAttendance_wrongCode_shouldNotScanRotatingSessions() {
+        sessionRegistry.register(rotatingSession());
+        when(sessionRepository.findBySessionCodeAndExpiryTimeAfter(eq("ZZZZZZ"), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> attendanceService.markAttendance(
+                new MarkAttendanceRequest(null, "ZZZZZZ", null, null, null), studentEmail))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid or expired session code");
+
+        verify(sessionRepository, never()).findByRotatingCodeTrueAndExpiryTimeAfter(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Rotating code — only the owning faculty can read it, and only for rotating sessions")
+    void getRotatingCode_invalid_shouldThrow() {
+        when(sessionRepository.findById("rotating-id")).thenReturn(Optional.of(rotatingSession()));
+        when(sessionRepository.findById("session-123")).thenReturn(Optional.of(validSession));
+
+        assertThatThrownBy(() -> attendanceService.getRotatingCode("rotating-id", "other@example.com"))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> attendanceService.getRotatingCode("session-123", facultyEmail))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("fixed code");
+
+        RotatingCodeResponse code = attendanceService.getRotatingCode("rotating-id", facultyEmail);
+        assertThat(code.getCode()).hasSize(6).matches("[A-HJ-NP-Z2-9]{6}");
+        assertThat(code.getValidForSeconds()).isBetween(1, 15);
+    }
+
     // ─── Helper ─────────────────────────────────────────────────────
 
+    /**
+     * Codes computed in a test must still be checked within the same 15s step
+     */
+    private static void awayFromStepBoundary() throws InterruptedException {
+        long msIntoStep = System.currentTimeMillis() % 15_000;
+        if (msIntoStep > 14_000) {
+            Thread.sleep(15_000 - msIntoStep + 50);
+        }
+    }
+
+    private AttendanceSession rotatingSession() {
+        AttendanceSession session = new AttendanceSession();
+        session.setId("rotating-id");
+        session.setCourseCode("CS101");
+        session.setCreatedBy(facultyEmail);
+        session.setExpiryTime(LocalDateTime.now().plusMinutes(5));
+        session.setCreatedAt(LocalDateTime.now());
+        session.setRotatingCode(true);
+        session.setCodeSecret(RotatingSessionCode.newSecret());
+        return session;
+    }
+
     private Attendance createSavedAttendance() {
         Attendance attendance = new Attendance();
         attendance.setId(1L);
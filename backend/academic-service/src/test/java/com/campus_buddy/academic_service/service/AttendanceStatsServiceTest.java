@@ -0,0 +1,103 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.AttendanceStatsResponse;
+import com.campus_buddy.academic_service.dto.CourseAttendanceStatsResponse;
+import com.campus_buddy.academic_service.model.CourseAttendanceStats;
+import com.campus_buddy.academic_service.model.StudentAttendanceStats;
+import com.campus_buddy.academic_service.repository.CourseAttendanceStatsRepository;
+import com.campus_buddy.academic_service.repository.StudentAttendanceStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AttendanceStatsService.
+ * Covers: percentages from counters, missing course counters, course averages, first-start seeding.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceStatsServiceTest {
+
+    @Mock
+    private CourseAttendanceStatsRepository courseStatsRepository;
+
+    @Mock
+    private StudentAttendanceStatsRepository studentStatsRepository;
+
+    @InjectMocks
+    private AttendanceStatsService statsService;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("Student stats — percentage per course from the two counters")
+    void getStudentStats_shouldComputePercentages() {
+        when(studentStatsRepository.findByStudentEmailOrderByCourseCode("s@example.com")).thenReturn(List.of(
+                new StudentAttendanceStats("s@example.com", "CS101", 2, now),
+                new StudentAttendanceStats("s@example.com", "MA201", 1, now)));
+        when(courseStatsRepository.findAllById(anyList())).thenReturn(List.of(
+                new CourseAttendanceStats("CS101", 3, now)));
+
+        List<AttendanceStatsResponse> stats = statsService.getStudentStats("s@example.com");
+
+        assertThat(stats).hasSize(2);
+        assertThat(stats.get(0).getSessionsHeld()).isEqualTo(3);
+        assertThat(stats.get(0).getPercentage()).isEqualTo(66.7);
+        // No course counter yet: reported as 0 sessions, 0%
+        assertThat(stats.get(1).getSessionsHeld()).isZero();
+        assertThat(stats.get(1).getPercentage()).isZero();
+    }
+
+    @Test
+    @DisplayName("Course stats — sessions held, per-student percentages and average")
+    void getCourseStats_shouldAverageStudents() {
+        when(courseStatsRepository.findById("CS101")).thenReturn(Optional.of(new CourseAttendanceStats("CS101", 4, now)));
+        when(studentStatsRepository.findByCourseCodeOrderByStudentEmail("CS101")).thenReturn(List.of(
+                new StudentAttendanceStats("a@example.com", "CS101", 4, now),
+                new StudentAttendanceStats("b@example.com", "CS101", 1, now)));
+
+        CourseAttendanceStatsResponse stats = statsService.getCourseStats("CS101");
+
+        assertThat(stats.getSessionsHeld()).isEqualTo(4);
+        assertThat(stats.getStudents()).extracting(AttendanceStatsResponse::getPercentage).containsExactly(100.0, 25.0);
+        assertThat(stats.getAveragePercentage()).isEqualTo(62.5);
+    }
+
+    @Test
+    @DisplayName("Percentage — zero sessions gives 0, drifted counters are capped at 100")
+    void percentage_shouldHandleEdgeCases() {
+        assertThat(AttendanceStatsService.percentage(0, 0)).isZero();
+        assertThat(AttendanceStatsService.percentage(5, 4)).isEqualTo(100.0);
+        assertThat(AttendanceStatsService.percentage(1, 3)).isEqualTo(33.3);
+    }
+
+    @Test
+    @DisplayName("Seeding — rebuilds from history only when both counter tables are empty")
+    void seedIfEmpty_shouldRebuildOnlyOnce() {
+        when(courseStatsRepository.count()).thenReturn(0L);
+        when(studentStatsRepository.count()).thenReturn(0L);
+
+        statsService.seedIfEmpty();
+
+        verify(courseStatsRepository).rebuildAll();
+        verify(studentStatsRepository).rebuildAll();
+
+        reset(courseStatsRepository, studentStatsRepository);
+        when(courseStatsRepository.count()).thenReturn(3L);
+
+        statsService.seedIfEmpty();
+
+        verify(courseStatsRepository, never()).rebuildAll();
+        verify(studentStatsRepository, never()).rebuildAll();
+    }
+}
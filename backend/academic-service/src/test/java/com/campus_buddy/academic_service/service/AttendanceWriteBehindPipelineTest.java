@@ -0,0 +1,237 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.Attendance;
+import com.campus_buddy.academic_service.model.AttendanceSession;
+import com.campus_buddy.academic_service.repository.AttendanceBatchWriter;
+import com.campus_buddy.academic_service.repository.AttendanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AttendanceWriteBehindPipeline.
+ * Covers: in-memory duplicate detection, batching, queue-full fallback, dead-lettering and replay of
+ * failed batches, mark events only after a batch commits, bounded flush on shutdown.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceWriteBehindPipelineTest {
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceBatchWriter batchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    private Path deadLetterDir;
+
+    private AttendanceWriteBehindPipeline pipeline;
+    private AttendanceSession session;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new AttendanceWriteBehindPipeline(attendanceRepository, batchWriter, eventPublisher, 3, 500, 20, 1, deadLetterDir, 30000, 10000);
+
+        session = new AttendanceSession();
+        session.setId("session-123");
+        session.setCourseCode("CS101");
+        session.setExpiryTime(LocalDateTime.now().plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Accept — seeds duplicates from the DB once per session")
+    void accept_shouldRejectStudentsAlreadyInDatabase() {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of("early@example.com"));
+
+        assertThat(pipeline.accept(session, "new@example.com")).isPresent();
+        assertThatThrownBy(() -> pipeline.accept(session, "early@example.com"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already marked");
+
+        verify(attendanceRepository, times(1)).findStudentEmailsByQrSessionId("session-123");
+    }
+
+    @Test
+    @DisplayName("Accept — second mark by the same student is rejected without a DB round trip")
+    void accept_duplicateInMemory_shouldThrowIllegalState() {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of());
+
+        Optional<Attendance> first = pipeline.accept(session, "student@example.com");
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getStatus()).isEqualTo("PRESENT");
+        assertThat(first.get().getCourseCode()).isEqualTo("CS101");
+        assertThatThrownBy(() -> pipeline.accept(session, "student@example.com"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Flush — queued marks reach the writer as one batch")
+    void flushPending_shouldWriteQueuedMarksInOneBatch() {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of());
+        when(batchWriter.insertIgnoringDuplicates(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        pipeline.accept(session, "a@example.com");
+        pipeline.accept(session, "b@example.com");
+        pipeline.accept(session, "c@example.com");
+
+        assertThat(pipeline.flushPending()).isEqualTo(3);
+        assertThat(pipeline.pendingCount()).isZero();
+        verify(batchWriter, times(1)).insertIgnoringDuplicates(anyList());
+    }
+
+    @Test
+    @DisplayName("Events — published for inserted rows once the batch is written, not on accept or for skipped rows")
+    void flushPending_shouldPublishInsertedMarksOnly() {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of());
+        Attendance a = pipeline.accept(session, "a@example.com").orElseThrow();
+        pipeline.accept(session, "b@example.com");
+        verifyNoInteractions(eventPublisher);
+
+        // b was marked through another replica in the meantime: ON CONFLICT skips it
+        when(batchWriter.insertIgnoringDuplicates(anyList())).thenReturn(List.of(a));
+        pipeline.flushPending();
+
+        verify(eventPublisher).publishEvent(new AttendanceMarkedEvent("session-123", "CS101", "a@example.com", a.getMarkedAt()));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Accept — full queue signals the caller to persist synchronously")
+    void accept_queueFull_shouldReturnEmpty() {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of());
+
+        pipeline.accept(session, "a@example.com");
+        pipeline.accept(session, "b@example.com");
+        pipeline.accept(session, "c@example.com");
+
+        assertThat(pipeline.accept(session, "d@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Flush — a batch that keeps failing is dead-lettered, not dropped, and stays reserved")
+    void flushPending_writerFails_shouldDeadLetterBatch() throws IOException {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of());
+        when(batchWriter.insertIgnoringDuplicates(anyList())).thenThrow(new RuntimeException("connection refused"));
+
+        pipeline.accept(session, "student@example.com");
+        pipeline.flushPending();
+
+        verify(batchWriter, times(3)).insertIgnoringDuplicates(anyList());
+        assertThat(deadLetters()).hasSize(1);
+        assertThatThrownBy(() -> pipeline.accept(session, "student@example.com"))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Replay — dead-lettered marks are inserted with their original fields and the file removed")
+    void replayDeadLetters_shouldInsertAndDeleteFile() throws IOException {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of());
+        when(batchWriter.insertIgnoringDuplicates(anyList()))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenThrow(new RuntimeException("still down"))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        Attendance accepted = pipeline.accept(session, "student@example.com").orElseThrow();
+        pipeline.flushPending();
+
+        assertThat(pipeline.replayDeadLetters()).isZero();
+        assertThat(deadLetters()).hasSize(1);
+        verifyNoInteractions(eventPublisher);
+
+        assertThat(pipeline.replayDeadLetters()).isEqualTo(1);
+        assertThat(deadLetters()).isEmpty();
+        verify(eventPublisher).publishEvent(
+                new AttendanceMarkedEvent("session-123", "CS101", "student@example.com", accepted.getMarkedAt()));
+        ArgumentCaptor<List<Attendance>> replayed = ArgumentCaptor.captor();
+        verify(batchWriter, times(5)).insertIgnoringDuplicates(replayed.capture());
+        Attendance row = replayed.getValue().get(0);
+        assertThat(row.getStudentEmail()).isEqualTo("student@example.com");
+        assertThat(row.getQrSessionId()).isEqualTo("session-123");
+        assertThat(row.getCourseCode()).isEqualTo("CS101");
+        assertThat(row.getMarkedAt()).isEqualTo(accepted.getMarkedAt());
+        assertThat(row.getLectureDate()).isEqualTo(accepted.getLectureDate());
+    }
+
+    @Test
+    @DisplayName("Stop — pending marks are flushed to the writer")
+    void stop_shouldFlushPendingMarks() throws InterruptedException, IOException {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of());
+        when(batchWriter.insertIgnoringDuplicates(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        pipeline.accept(session, "a@example.com");
+        pipeline.accept(session, "b@example.com");
+
+        pipeline.stop();
+
+        assertThat(pipeline.pendingCount()).isZero();
+        verify(batchWriter, times(1)).insertIgnoringDuplicates(anyList());
+        assertThat(deadLetters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Stop — marks still arriving cannot keep shutdown flushing past the timeout; the rest is dead-lettered")
+    void stop_pastTimeout_shouldDeadLetterLeftovers() throws InterruptedException, IOException {
+        pipeline = new AttendanceWriteBehindPipeline(attendanceRepository, batchWriter, eventPublisher, 3, 500, 20, 1, deadLetterDir, 30000, 200);
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of());
+        AtomicInteger arrivals = new AtomicInteger();
+        // Every flush is followed by a new mark, so the queue never stays empty
+        when(batchWriter.insertIgnoringDuplicates(anyList())).thenAnswer(inv -> {
+            pipeline.accept(session, "late" + arrivals.incrementAndGet() + "@example.com");
+            return inv.getArgument(0);
+        });
+        pipeline.accept(session, "a@example.com");
+
+        long start = System.nanoTime();
+        pipeline.stop();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        assertThat(pipeline.pendingCount()).isZero();
+        assertThat(deadLetters()).hasSize(1);
+        assertThat(Files.readAllLines(deadLetters().get(0))).hasSize(1)
+                .allMatch(line -> line.startsWith("late" + arrivals.get() + "@example.com\t"));
+    }
+
+    @Test
+    @DisplayName("Replay — an unreadable file is set aside instead of blocking later files")
+    void replayDeadLetters_corruptFile_shouldBeSetAside() throws IOException {
+        Files.writeString(deadLetterDir.resolve("attendance-1-000001.tsv"), "not\ta\trow\n");
+
+        assertThat(pipeline.replayDeadLetters()).isZero();
+
+        assertThat(deadLetters()).isEmpty();
+        assertThat(deadLetterDir.resolve("attendance-1-000001.tsv.corrupt")).exists();
+        verifyNoInteractions(batchWriter);
+    }
+
+    private List<Path> deadLetters() throws IOException {
+        try (var files = Files.list(deadLetterDir)) {
+            return files.filter(f -> f.toString().endsWith(".tsv")).toList();
+        }
+    }
+}
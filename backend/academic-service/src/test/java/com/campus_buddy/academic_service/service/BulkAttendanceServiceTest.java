@@ -0,0 +1,189 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.BulkAttendanceEntry;
+import com.campus_buddy.academic_service.dto.BulkAttendanceResult;
+import com.campus_buddy.academic_service.dto.BulkAttendanceSummary;
+import com.campus_buddy.academic_service.model.Attendance;
+import com.campus_buddy.academic_service.model.AttendanceSession;
+import com.campus_buddy.academic_service.repository.AttendanceBatchWriter;
+import com.campus_buddy.academic_service.repository.AttendanceRepository;
+import com.campus_buddy.academic_service.repository.AttendanceSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkAttendanceService.
+ * Covers: ownership and size checks, set-based duplicate detection, batching, per-row results, live-feed
+ * events for inserted rows, CSV parsing.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkAttendanceServiceTest {
+
+    @Mock
+    private AttendanceSessionRepository sessionRepository;
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceBatchWriter batchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BulkAttendanceService bulkAttendanceService;
+
+    private AttendanceSession session;
+    private final String facultyEmail = "faculty@example.com";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkAttendanceService, "maxRows", 5000);
+        ReflectionTestUtils.setField(bulkAttendanceService, "batchSize", 2);
+
+        session = new AttendanceSession();
+        session.setId("session-123");
+        session.setCourseCode("CS101");
+        session.setCreatedBy(facultyEmail);
+        session.setCreatedAt(LocalDateTime.now().minusHours(2));
+        session.setExpiryTime(LocalDateTime.now().minusHours(1)); // Expired sessions can still be bulk-marked
+    }
+
+    @Test
+    @DisplayName("Prepare — only the faculty member who created the session may import")
+    void prepare_otherFaculty_shouldThrowAccessDenied() {
+        when(sessionRepository.findById("session-123")).thenReturn(Optional.of(session));
+
+        assertThatThrownBy(() -> bulkAttendanceService.prepare("session-123", entries("a@example.com"), "other@example.com"))
+                .isInstanceOf(AccessDeniedException.class)
+                .hasMessageContaining("created this session");
+
+        verifyNoInteractions(attendanceRepository, batchWriter);
+    }
+
+    @Test
+    @DisplayName("Prepare — empty and oversized uploads are rejected before touching the DB")
+    void prepare_emptyOrTooLarge_shouldThrowIllegalArgument() {
+        ReflectionTestUtils.setField(bulkAttendanceService, "maxRows", 2);
+
+        assertThatThrownBy(() -> bulkAttendanceService.prepare("session-123", List.of(), facultyEmail))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bulkAttendanceService.prepare("session-123",
+                entries("a@example.com", "b@example.com", "c@example.com"), facultyEmail))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Too many rows");
+
+        verifyNoInteractions(sessionRepository);
+    }
+
+    @Test
+    @DisplayName("Execute — one duplicate query, batched inserts, one result per row in upload order")
+    void execute_shouldReportEveryRowInOrder() {
+        when(sessionRepository.findById("session-123")).thenReturn(Optional.of(session));
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of("early@example.com"));
+        AtomicLong ids = new AtomicLong(100);
+        List<Integer> batchSizes = new ArrayList<>();
+        when(batchWriter.insertIgnoringDuplicates(anyList())).thenAnswer(inv -> {
+            List<Attendance> batch = inv.getArgument(0);
+            batchSizes.add(batch.size());
+            // Simulate a concurrent mark of "raced@example.com" that wins the unique constraint
+            List<Attendance> inserted = batch.stream().filter(a -> !a.getStudentEmail().equals("raced@example.com")).toList();
+            inserted.forEach(a -> a.setId(ids.incrementAndGet()));
+            return inserted;
+        });
+
+        BulkAttendanceService.BulkImport bulk = bulkAttendanceService.prepare("session-123", List.of(
+                new BulkAttendanceEntry("a@example.com", null),
+                new BulkAttendanceEntry("early@example.com", null),
+                new BulkAttendanceEntry("not-an-email", null),
+                new BulkAttendanceEntry("b@example.com", "late"),
+                new BulkAttendanceEntry("a@example.com", null),
+                new BulkAttendanceEntry("raced@example.com", null),
+                new BulkAttendanceEntry("c@example.com", "ABSENTISH")), facultyEmail);
+
+        List<BulkAttendanceResult> results = new ArrayList<>();
+        BulkAttendanceSummary summary = bulkAttendanceService.execute(bulk, results::addAll);
+
+        assertThat(results).extracting(BulkAttendanceResult::getRow).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(results).extracting(BulkAttendanceResult::getResult).containsExactly(
+                "MARKED", "DUPLICATE", "INVALID", "MARKED", "DUPLICATE", "DUPLICATE", "INVALID");
+        assertThat(results.get(0).getAttendanceId()).isNotNull();
+        assertThat(results.get(4).getMessage()).contains("Repeated");
+
+        assertThat(summary.getTotal()).isEqualTo(7);
+        assertThat(summary.getMarked()).isEqualTo(2);
+        assertThat(summary.getDuplicate()).isEqualTo(3);
+        assertThat(summary.getInvalid()).isEqualTo(2);
+
+        assertThat(batchSizes).containsExactly(2, 1);
+        ArgumentCaptor<AttendanceMarkedEvent> events = ArgumentCaptor.forClass(AttendanceMarkedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(AttendanceMarkedEvent::studentEmail)
+                .containsExactly("a@example.com", "b@example.com");
+        assertThat(events.getAllValues()).allMatch(e -> e.sessionId().equals("session-123") && e.markedAt() != null);
+        verify(attendanceRepository, times(1)).findStudentEmailsByQrSessionId("session-123");
+        verify(attendanceRepository, never()).existsByStudentEmailAndQrSessionId(any(), any());
+    }
+
+    @Test
+    @DisplayName("Execute — rows use the session's course, lecture date and requested status")
+    void execute_shouldBuildRowsFromSession() {
+        when(sessionRepository.findById("session-123")).thenReturn(Optional.of(session));
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-123")).thenReturn(List.of());
+        List<Attendance> written = new ArrayList<>();
+        when(batchWriter.insertIgnoringDuplicates(anyList())).thenAnswer(inv -> {
+            List<Attendance> batch = inv.getArgument(0);
+            written.addAll(batch);
+            return batch;
+        });
+
+        BulkAttendanceService.BulkImport bulk = bulkAttendanceService.prepare("session-123",
+                List.of(new BulkAttendanceEntry(" b@example.com ", "Late")), facultyEmail);
+        bulkAttendanceService.execute(bulk, results -> { });
+
+        assertThat(written).hasSize(1);
+        Attendance a = written.get(0);
+        assertThat(a.getStudentEmail()).isEqualTo("b@example.com");
+        assertThat(a.getCourseCode()).isEqualTo("CS101");
+        assertThat(a.getQrSessionId()).isEqualTo("session-123");
+        assertThat(a.getLectureDate()).isEqualTo(session.getCreatedAt().toLocalDate());
+        assertThat(a.getStatus()).isEqualTo("LATE");
+    }
+
+    @Test
+    @DisplayName("Parse CSV — header, quotes, blank lines and optional status column")
+    void parseCsv_shouldSkipHeaderAndBlankLines() {
+        List<BulkAttendanceEntry> entries = BulkAttendanceService.parseCsv(
+                "email,status\r\n\"a@example.com\",LATE\n\nb@example.com\n");
+
+        assertThat(entries).containsExactly(
+                new BulkAttendanceEntry("a@example.com", "LATE"),
+                new BulkAttendanceEntry("b@example.com", null));
+    }
+
+    private static List<BulkAttendanceEntry> entries(String... emails) {
+        return Arrays.stream(emails).map(e -> new BulkAttendanceEntry(e, null)).toList();
+    }
+}
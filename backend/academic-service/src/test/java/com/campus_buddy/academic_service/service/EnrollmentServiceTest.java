@@ -0,0 +1,143 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.Enrollment;
+import com.campus_buddy.academic_service.model.Timetable;
+import com.campus_buddy.academic_service.repository.EnrollmentRepository;
+import com.campus_buddy.academic_service.repository.TimetableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EnrollmentService.
+ * Covers: per-student view, global fallback, cache reuse and targeted invalidation, enroll validation.
+ * Runs against a real TimetableService over a mocked TimetableRepository.
+ */
+@ExtendWith(MockitoExtension.class)
+class EnrollmentServiceTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private TimetableRepository timetableRepository;
+
+    private TimetableService timetableService;
+
+    private EnrollmentService enrollmentService;
+
+    private static final String STUDENT = "s@x.com";
+
+    @BeforeEach
+    void setUp() {
+        timetableService = new TimetableService();
+        ReflectionTestUtils.setField(timetableService, "timetableRepository", timetableRepository);
+        ReflectionTestUtils.setField(timetableService, "objectMapper", JsonMapper.builder().build());
+
+        enrollmentService = new EnrollmentService();
+        ReflectionTestUtils.setField(enrollmentService, "enrollmentRepository", enrollmentRepository);
+        ReflectionTestUtils.setField(enrollmentService, "timetableService", timetableService);
+        ReflectionTestUtils.setField(enrollmentService, "maxEntries", 100);
+        ReflectionTestUtils.setField(enrollmentService, "ttlSeconds", 300L);
+
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                entry(1L, "TUESDAY", 9, "CS101", "R1"),
+                entry(2L, "MONDAY", 9, "CS102", "R2"),
+                entry(3L, "MONDAY", 11, "CS101", "R1"),
+                entry(4L, "FRIDAY", 9, "MA201", "R3"))));
+    }
+
+    @Test
+    @DisplayName("Student view — only enrolled courses, in calendar order, cached between requests")
+    void getStudentTimetable_shouldMergeEnrolledCourses() {
+        when(enrollmentRepository.findCourseCodesByStudentEmail(STUDENT)).thenReturn(List.of("CS101", "MA201"));
+
+        TimetableService.TimetableView view = enrollmentService.getStudentTimetable(STUDENT);
+
+        assertThat(view.entries()).extracting(Timetable::getId).containsExactly(3L, 1L, 4L);
+        assertThat(enrollmentService.getStudentTimetable(STUDENT)).isSameAs(view);
+        verify(enrollmentRepository, times(1)).findCourseCodesByStudentEmail(STUDENT);
+    }
+
+    @Test
+    @DisplayName("Student view — no enrollments falls back to the global timetable")
+    void getStudentTimetable_noEnrollments_shouldServeGlobal() {
+        when(enrollmentRepository.findCourseCodesByStudentEmail(STUDENT)).thenReturn(List.of());
+
+        TimetableService.TimetableView view = enrollmentService.getStudentTimetable(STUDENT);
+
+        assertThat(view).isSameAs(timetableService.getSnapshot().all());
+    }
+
+    @Test
+    @DisplayName("Invalidation — a class added to another course keeps the cached view; one in an enrolled course rebuilds it")
+    void getStudentTimetable_shouldInvalidateOnlyOnOwnCourses() {
+        when(enrollmentRepository.findCourseCodesByStudentEmail(STUDENT)).thenReturn(List.of("CS101"));
+        TimetableService.TimetableView before = enrollmentService.getStudentTimetable(STUDENT);
+        AtomicLong ids = new AtomicLong(5L);
+        when(timetableRepository.saveAll(any())).thenAnswer(inv -> {
+            List<Timetable> rows = new ArrayList<>(inv.getArgument(0));
+            rows.forEach(t -> t.setId(ids.getAndIncrement()));
+            return rows;
+        });
+
+        timetableService.addClass(entry(null, "WEDNESDAY", 9, "MA201", "R3"), "f@x.com");
+        assertThat(enrollmentService.getStudentTimetable(STUDENT)).isSameAs(before);
+
+        timetableService.addClass(entry(null, "WEDNESDAY", 11, "CS101", "R1"), "f@x.com");
+        TimetableService.TimetableView after = enrollmentService.getStudentTimetable(STUDENT);
+        assertThat(after.entries()).extracting(Timetable::getId).containsExactly(3L, 1L, 6L);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        verify(enrollmentRepository, times(2)).findCourseCodesByStudentEmail(STUDENT);
+    }
+
+    @Test
+    @DisplayName("Enroll — evicts the student's cached view")
+    void enroll_shouldEvictCachedView() {
+        when(enrollmentRepository.findCourseCodesByStudentEmail(STUDENT))
+                .thenReturn(List.of("CS101"))
+                .thenReturn(List.of("CS101", "CS102"));
+        when(enrollmentRepository.findByStudentEmailAndCourseCode(STUDENT, "CS102")).thenReturn(Optional.empty());
+        when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(inv -> inv.getArgument(0));
+        enrollmentService.getStudentTimetable(STUDENT);
+
+        Enrollment saved = enrollmentService.enroll(STUDENT, "CS102");
+
+        assertThat(saved.getCourseCode()).isEqualTo("CS102");
+        assertThat(enrollmentService.getStudentTimetable(STUDENT).entries())
+                .extracting(Timetable::getId).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("Enroll — unknown course is rejected, duplicate enrollment conflicts")
+    void enroll_invalid_shouldThrow() {
+        assertThatThrownBy(() -> enrollmentService.enroll(STUDENT, "XX999"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        when(enrollmentRepository.findByStudentEmailAndCourseCode(STUDENT, "CS101"))
+                .thenReturn(Optional.of(new Enrollment()));
+        assertThatThrownBy(() -> enrollmentService.enroll(STUDENT, "CS101"))
+                .isInstanceOf(IllegalStateException.class);
+        verify(enrollmentRepository, never()).save(any());
+    }
+
+    private static Timetable entry(Long id, String day, int hour, String course, String room) {
+        return new Timetable(id, day, LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0), course, course + " name", room, "f@x.com");
+    }
+}
@@ -0,0 +1,161 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.AttendanceSession;
+import com.campus_buddy.academic_service.repository.AttendanceRepository;
+import com.campus_buddy.academic_service.repository.AttendanceSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LiveAttendanceFeed.
+ * Covers: seeded running count, duplicate marks, unwatched sessions, ring replay and snapshot fallback,
+ * Last-Event-ID parsing, subscribe validation, closing expired feeds.
+ */
+@ExtendWith(MockitoExtension.class)
+class LiveAttendanceFeedTest {
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceSessionRepository sessionRepository;
+
+    private LiveAttendanceFeed liveFeed;
+
+    private AttendanceSession session;
+
+    @BeforeEach
+    void setUp() {
+        liveFeed = new LiveAttendanceFeed();
+        ReflectionTestUtils.setField(liveFeed, "attendanceRepository", attendanceRepository);
+        ReflectionTestUtils.setField(liveFeed, "sessionRepository", sessionRepository);
+        ReflectionTestUtils.setField(liveFeed, "sessionRegistry", new ActiveSessionRegistry());
+        ReflectionTestUtils.setField(liveFeed, "objectMapper", JsonMapper.builder().build());
+        ReflectionTestUtils.setField(liveFeed, "bufferSize", 4);
+        ReflectionTestUtils.setField(liveFeed, "heartbeatMs", 15000L);
+
+        session = new AttendanceSession();
+        session.setId("session-1");
+        session.setCourseCode("CS101");
+        session.setCreatedBy("faculty@example.com");
+        session.setExpiryTime(LocalDateTime.now().plusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Count — seeded from marks already stored, then one per new student")
+    void onAttendanceMarked_shouldCountDistinctStudents() {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-1")).thenReturn(List.of("a@x.com", "b@x.com"));
+        LiveAttendanceFeed.SessionFeed feed = liveFeed.feedFor(session);
+
+        liveFeed.onAttendanceMarked(mark("session-1", "c@x.com"));
+        liveFeed.onAttendanceMarked(mark("session-1", "a@x.com"));
+
+        assertThat(feed.count()).isEqualTo(3);
+        assertThat(feed.lastSeq()).isEqualTo(1);
+        assertThat(text(feed.since(0).get(0))).contains("event:attendance").contains("\"studentEmail\":\"c@x.com\"")
+                .contains("\"count\":3");
+    }
+
+    @Test
+    @DisplayName("Unwatched session — marks are ignored without touching the database")
+    void onAttendanceMarked_unwatchedSession_shouldBeIgnored() {
+        liveFeed.onAttendanceMarked(mark("session-9", "a@x.com"));
+
+        assertThat(liveFeed.feed("session-9")).isNull();
+        verifyNoInteractions(attendanceRepository);
+    }
+
+    @Test
+    @DisplayName("Replay — events still in the ring are replayed; older positions get one snapshot")
+    void since_shouldReplayOrSnapshot() {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-1")).thenReturn(List.of());
+        LiveAttendanceFeed.SessionFeed feed = liveFeed.feedFor(session);
+        for (int i = 1; i <= 6; i++) {
+            liveFeed.onAttendanceMarked(mark("session-1", "s" + i + "@x.com"));
+        }
+
+        assertThat(feed.since(3)).extracting(LiveAttendanceFeed.Frame::seq).containsExactly(4L, 5L, 6L);
+        assertThat(feed.since(6)).isEmpty();
+
+        List<LiveAttendanceFeed.Frame> stale = feed.since(1);
+        assertThat(stale).hasSize(1);
+        assertThat(stale.get(0).seq()).isEqualTo(6L);
+        assertThat(text(stale.get(0))).contains("event:snapshot").contains("\"count\":6");
+        assertThat(text(feed.since(-1).get(0))).contains("event:snapshot");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID — ids from this feed resume; foreign or malformed ids start from a snapshot")
+    void resumeFrom_shouldOnlyTrustOwnEpoch() {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-1")).thenReturn(List.of());
+        LiveAttendanceFeed.SessionFeed feed = liveFeed.feedFor(session);
+        liveFeed.onAttendanceMarked(mark("session-1", "a@x.com"));
+        String id = text(feed.since(0).get(0)).lines()
+                .filter(l -> l.startsWith("id:")).findFirst().orElseThrow().substring(3);
+
+        assertThat(feed.resumeFrom(id)).isEqualTo(1L);
+        assertThat(feed.resumeFrom("zzz-1")).isEqualTo(-1L);
+        assertThat(feed.resumeFrom(id.replace("-1", "-x"))).isEqualTo(-1L);
+        assertThat(feed.resumeFrom(null)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("Subscribe — unknown session is rejected, other faculty is denied, expired session conflicts")
+    void subscribe_invalid_shouldThrow() {
+        when(sessionRepository.findById("missing")).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> liveFeed.subscribe("missing", null, "faculty@example.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        when(sessionRepository.findById("session-1")).thenReturn(Optional.of(session));
+        assertThatThrownBy(() -> liveFeed.subscribe("session-1", null, "other@example.com"))
+                .isInstanceOf(AccessDeniedException.class);
+
+        session.setExpiryTime(LocalDateTime.now().minusMinutes(1));
+        assertThatThrownBy(() -> liveFeed.subscribe("session-1", null, "faculty@example.com"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(liveFeed.feed("session-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Sweep — the feed of an expired session is closed with a final count and dropped")
+    void sweep_expiredSession_shouldCloseFeed() {
+        when(attendanceRepository.findStudentEmailsByQrSessionId("session-1")).thenReturn(List.of("a@x.com"));
+        LiveAttendanceFeed.SessionFeed feed = liveFeed.feedFor(session);
+        liveFeed.sweep();
+        assertThat(liveFeed.feed("session-1")).isSameAs(feed);
+
+        session.setExpiryTime(LocalDateTime.now().minusSeconds(1));
+        liveFeed.sweep();
+
+        assertThat(liveFeed.feed("session-1")).isNull();
+        assertThat(text(feed.closing())).contains("event:session-closed").contains("\"count\":1");
+    }
+
+    private static AttendanceMarkedEvent mark(String sessionId, String studentEmail) {
+        return new AttendanceMarkedEvent(sessionId, "CS101", studentEmail, LocalDateTime.now());
+    }
+
+    private static String text(LiveAttendanceFeed.Frame frame) {
+        return frame.data().stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .map(Object::toString)
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,161 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.dto.TimetableSlotSuggestion;
+import com.campus_buddy.academic_service.model.Room;
+import com.campus_buddy.academic_service.model.Timetable;
+import com.campus_buddy.academic_service.repository.RoomRepository;
+import com.campus_buddy.academic_service.repository.TimetableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RoomService.
+ * Covers: slot suggestions (faculty/room occupancy, capacity, ranking, validation), search time on a large campus.
+ * Runs against a real TimetableService over a mocked TimetableRepository.
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomServiceTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private TimetableRepository timetableRepository;
+
+    private RoomService roomService;
+
+    private static final String FACULTY = "f@x.com";
+
+    @BeforeEach
+    void setUp() {
+        TimetableService timetableService = new TimetableService();
+        ReflectionTestUtils.setField(timetableService, "timetableRepository", timetableRepository);
+        ReflectionTestUtils.setField(timetableService, "objectMapper", JsonMapper.builder().build());
+
+        roomService = new RoomService();
+        ReflectionTestUtils.setField(roomService, "roomRepository", roomRepository);
+        ReflectionTestUtils.setField(roomService, "timetableService", timetableService);
+        ReflectionTestUtils.setField(roomService, "dayStart", "08:00");
+        ReflectionTestUtils.setField(roomService, "dayEnd", "18:00");
+        ReflectionTestUtils.setField(roomService, "stepMinutes", 30);
+        ReflectionTestUtils.setField(roomService, "maxResults", 50);
+    }
+
+    @Test
+    @DisplayName("Suggest — skips times the faculty teaches and times the room is booked")
+    void suggestSlots_shouldRespectOccupancy() {
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                entry("MONDAY", 8, 10, "CS101", "R1", FACULTY),
+                entry("MONDAY", 10, 11, "MA201", "R2", "other@x.com"))));
+        when(roomRepository.findAll()).thenReturn(List.of(new Room("R2", 40, null)));
+
+        List<TimetableSlotSuggestion> slots = roomService.suggestSlots("CS102", 60, List.of("monday"), null, FACULTY, 20).stream()
+                .filter(s -> s.getDayOfWeek().equals("MONDAY"))
+                .toList();
+
+        assertThat(slots).isNotEmpty().allMatch(TimetableSlotSuggestion::isPreferredDay);
+        assertThat(slots).noneMatch(s -> s.getStartTime().isBefore(LocalTime.of(10, 0)));
+        assertThat(slots).noneMatch(s -> s.getRoomNumber().equals("R2") && s.getStartTime().equals(LocalTime.of(10, 0)));
+        assertThat(slots).anyMatch(s -> s.getRoomNumber().equals("R1") && s.getStartTime().equals(LocalTime.of(10, 0)));
+    }
+
+    @Test
+    @DisplayName("Suggest — capacity filter drops small and unknown rooms; tightest fit ranks first")
+    void suggestSlots_shouldFilterAndRankByCapacity() {
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                entry("FRIDAY", 8, 9, "CS101", "UNKNOWN", "other@x.com"))));
+        when(roomRepository.findAll()).thenReturn(List.of(
+                new Room("BIG", 200, null), new Room("FIT", 60, null), new Room("SMALL", 30, null)));
+
+        List<TimetableSlotSuggestion> slots = roomService.suggestSlots("CS101", 60, null, 50, FACULTY, 50);
+
+        assertThat(slots).extracting(TimetableSlotSuggestion::getRoomNumber).containsOnly("FIT");
+        assertThat(slots.get(0).getDayOfWeek()).isEqualTo("MONDAY");
+        assertThat(slots.get(0).getStartTime()).isEqualTo(LocalTime.of(8, 0));
+    }
+
+    @Test
+    @DisplayName("Suggest — rooms the course already meets in rank ahead of other rooms")
+    void suggestSlots_shouldPreferCourseRooms() {
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                entry("TUESDAY", 8, 9, "CS101", "R9", "other@x.com"))));
+        when(roomRepository.findAll()).thenReturn(List.of(new Room("R1", 30, null)));
+
+        List<TimetableSlotSuggestion> slots = roomService.suggestSlots("CS101", 90, null, null, FACULTY, 3);
+
+        assertThat(slots).hasSize(3);
+        assertThat(slots).allMatch(s -> s.getRoomNumber().equals("R9") && s.isRoomUsedByCourse());
+    }
+
+    @Test
+    @DisplayName("Suggest — unknown day, zero duration and excessive limit are rejected")
+    void suggestSlots_invalid_shouldThrow() {
+        assertThatThrownBy(() -> roomService.suggestSlots("CS101", 60, List.of("FUNDAY"), null, FACULTY, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> roomService.suggestSlots("CS101", 0, null, null, FACULTY, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> roomService.suggestSlots("CS101", 60, null, null, FACULTY, 500))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(timetableRepository, roomRepository);
+    }
+
+    @Test
+    @DisplayName("Suggest — 500 busy rooms searched in parallel within 50 ms after warm-up")
+    void suggestSlots_largeCampus_shouldBeFast() {
+        List<Timetable> entries = new ArrayList<>();
+        List<Room> rooms = new ArrayList<>();
+        String[] days = {"MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY"};
+        for (int r = 0; r < 500; r++) {
+            rooms.add(new Room("R" + r, 20 + r % 200, null));
+            for (String day : days) {
+                // Every room busy 08:00–17:00 except one free hour that moves with the room number
+                int free = 8 + r % 9;
+                for (int hour = 8; hour < 17; hour++) {
+                    if (hour != free) {
+                        entries.add(entry(day, hour, hour + 1, "C" + r, "R" + r, "fac" + r + "@x.com"));
+                    }
+                }
+            }
+        }
+        when(timetableRepository.findAll()).thenReturn(entries);
+        when(roomRepository.findAll()).thenReturn(rooms);
+        // Warm up: loads the snapshot and lets the JIT compile the search
+        for (int i = 0; i < 50; i++) {
+            roomService.suggestSlots("CS101", 60, null, null, FACULTY, 10);
+        }
+
+        List<TimetableSlotSuggestion> slots = null;
+        long[] micros = new long[11];
+        for (int i = 0; i < micros.length; i++) {
+            long start = System.nanoTime();
+            slots = roomService.suggestSlots("CS101", 60, List.of("WEDNESDAY"), 100, FACULTY, 10);
+            micros[i] = (System.nanoTime() - start) / 1_000;
+        }
+        Arrays.sort(micros);
+
+        // Median of the timed runs, so one GC pause on a busy CI machine does not fail the build
+        assertThat(micros[micros.length / 2]).as("median suggestSlots over 500 rooms, in us: %s", Arrays.toString(micros)).isLessThan(50_000);
+        assertThat(slots).hasSize(10);
+        assertThat(slots).allMatch(s -> s.getDayOfWeek().equals("WEDNESDAY") && s.getCapacity() >= 100);
+        assertThat(slots.get(0).getCapacity()).isEqualTo(100);
+    }
+
+    private static Timetable entry(String day, int fromHour, int toHour, String course, String room, String faculty) {
+        return new Timetable(null, day, LocalTime.of(fromHour, 0), LocalTime.of(toHour, 0), course, course + " name", room, faculty);
+    }
+}
@@ -0,0 +1,218 @@
+package com.campus_buddy.academic_service.service;
+
+import com.campus_buddy.academic_service.model.Timetable;
+import com.campus_buddy.academic_service.repository.TimetableRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TimetableService.
+ * Covers: calendar ordering, secondary indexes, ETags, rebuild on add, room/faculty conflicts, bulk add, reload.
+ */
+@ExtendWith(MockitoExtension.class)
+class TimetableServiceTest {
+
+    @Mock
+    private TimetableRepository timetableRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @InjectMocks
+    private TimetableService timetableService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(timetableService, "bulkMaxRows", 100);
+    }
+
+    @Test
+    @DisplayName("Snapshot — sorted by calendar day then start time, indexed by faculty, room and day")
+    void getSnapshot_shouldSortAndIndex() {
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                entry(1L, "FRIDAY", 9, "CS101", "R1", "a@x.com"),
+                entry(2L, "MONDAY", 11, "CS102", "R2", "b@x.com"),
+                entry(3L, "MONDAY", 9, "CS103", "R1", "a@x.com"))));
+
+        TimetableService.Snapshot snapshot = timetableService.getSnapshot();
+
+        assertThat(snapshot.all().entries()).extracting(Timetable::getId).containsExactly(3L, 2L, 1L);
+        assertThat(snapshot.forFaculty("a@x.com").entries()).extracting(Timetable::getId).containsExactly(3L, 1L);
+        assertThat(snapshot.forRoom("R2").entries()).extracting(Timetable::getId).containsExactly(2L);
+        assertThat(snapshot.forDay("monday").entries()).extracting(Timetable::getId).containsExactly(3L, 2L);
+        assertThat(snapshot.forRoom("R9").body()).isEqualTo("[]".getBytes(StandardCharsets.UTF_8));
+        assertThat(snapshot.all().etag()).isNotEqualTo(snapshot.forFaculty("a@x.com").etag());
+
+        timetableService.getSnapshot();
+        verify(timetableRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Add class — saved entry is inserted into a new snapshot in calendar order")
+    void addClass_shouldRebuildSnapshot() {
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                entry(1L, "MONDAY", 9, "CS101", "R1", "a@x.com"),
+                entry(2L, "WEDNESDAY", 9, "CS102", "R1", "a@x.com"))));
+        TimetableService.Snapshot before = timetableService.getSnapshot();
+        assignIdsOnSave(3L);
+
+        Timetable saved = timetableService.addClass(entry(null, "tuesday", 10, "CS103", "R1", null), "b@x.com");
+
+        TimetableService.Snapshot after = timetableService.getSnapshot();
+        assertThat(saved.getFacultyEmail()).isEqualTo("b@x.com");
+        assertThat(after.all().entries()).extracting(Timetable::getId).containsExactly(1L, 3L, 2L);
+        assertThat(after.forFaculty("b@x.com").entries()).containsExactly(saved);
+        assertThat(after.all().etag()).isNotEqualTo(before.all().etag());
+        assertThat(before.all().entries()).hasSize(2);
+        verify(timetableRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Add class — overlapping booking in the same room is rejected and nothing is saved")
+    void addClass_roomOverlap_shouldThrow() {
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                entry(1L, "MONDAY", 9, "CS101", "R1", "a@x.com"))));
+
+        assertThatThrownBy(() -> timetableService.addClass(entry(null, "Monday", 9, "CS102", "R1", null), "b@x.com"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("room R1");
+        verify(timetableRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Add class — faculty teaching elsewhere at an overlapping time is rejected; back-to-back is fine")
+    void addClass_facultyOverlap_shouldThrow() {
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                entry(1L, "MONDAY", 9, "CS101", "R1", "a@x.com"))));
+        assignIdsOnSave(2L);
+
+        Timetable clash = entry(null, "MONDAY", 9, "CS102", "R2", null);
+        clash.setStartTime(LocalTime.of(9, 30));
+        assertThatThrownBy(() -> timetableService.addClass(clash, "a@x.com"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("a@x.com");
+
+        Timetable next = timetableService.addClass(entry(null, "MONDAY", 10, "CS102", "R2", null), "a@x.com");
+        assertThat(next.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Add class — start time must be before end time")
+    void addClass_invalidTimes_shouldThrow() {
+        Timetable invalid = entry(null, "MONDAY", 9, "CS101", "R1", null);
+        invalid.setEndTime(invalid.getStartTime());
+
+        assertThatThrownBy(() -> timetableService.addClass(invalid, "a@x.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(timetableRepository);
+    }
+
+    @Test
+    @DisplayName("Occupancy — overlapping rows from before the index existed still block their whole span")
+    void addClass_legacyOverlaps_shouldBeMerged() {
+        Timetable longClass = entry(1L, "MONDAY", 9, "CS101", "R1", "a@x.com");
+        longClass.setEndTime(LocalTime.of(12, 0));
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>(List.of(
+                longClass, entry(2L, "MONDAY", 10, "CS102", "R1", "b@x.com"))));
+
+        assertThatThrownBy(() -> timetableService.addClass(entry(null, "MONDAY", 11, "CS103", "R1", null), "c@x.com"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Bulk — rows clashing with each other reject the whole batch, listing the row")
+    void addClasses_intraBatchClash_shouldRejectAll() {
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>());
+
+        assertThatThrownBy(() -> timetableService.addClasses(List.of(
+                entry(null, "MONDAY", 9, "CS101", "R1", null),
+                entry(null, "TUESDAY", 9, "CS101", "R1", null),
+                entry(null, "MONDAY", 9, "CS102", "R2", null)), "a@x.com"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Row 3:");
+        verify(timetableRepository, never()).saveAll(any());
+        assertThat(timetableService.getSnapshot().all().entries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Bulk — every invalid row is reported before any conflict check")
+    void addClasses_invalidRows_shouldListAll() {
+        Timetable noRoom = entry(null, "MONDAY", 9, "CS101", null, null);
+        Timetable badDay = entry(null, "FUNDAY", 9, "CS102", "R1", null);
+
+        assertThatThrownBy(() -> timetableService.addClasses(List.of(
+                entry(null, "MONDAY", 9, "CS100", "R1", null), noRoom, badDay), "a@x.com"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Row 2:")
+                .hasMessageContaining("Row 3:");
+        verifyNoInteractions(timetableRepository);
+    }
+
+    @Test
+    @DisplayName("Bulk — a valid schedule is saved in one call and published in one snapshot")
+    void addClasses_valid_shouldSaveAll() {
+        when(timetableRepository.findAll()).thenReturn(new ArrayList<>());
+        assignIdsOnSave(10L);
+
+        List<Timetable> saved = timetableService.addClasses(List.of(
+                entry(null, "FRIDAY", 9, "CS101", "R1", null),
+                entry(null, "MONDAY", 9, "CS101", "R1", null),
+                entry(null, "MONDAY", 10, "CS102", "R1", null)), "a@x.com");
+
+        assertThat(saved).hasSize(3);
+        verify(timetableRepository, times(1)).saveAll(any());
+        assertThat(timetableService.getSnapshot().forFaculty("a@x.com").entries())
+                .extracting(Timetable::getId).containsExactly(11L, 12L, 10L);
+    }
+
+    @Test
+    @DisplayName("Refresh — unchanged content keeps the snapshot (and its Last-Modified)")
+    void refresh_unchanged_shouldKeepSnapshot() {
+        when(timetableRepository.findAll())
+                .thenReturn(new ArrayList<>(List.of(entry(1L, "MONDAY", 9, "CS101", "R1", "a@x.com"))))
+                .thenReturn(new ArrayList<>(List.of(entry(1L, "MONDAY", 9, "CS101", "R1", "a@x.com"))))
+                .thenReturn(new ArrayList<>(List.of(
+                        entry(1L, "MONDAY", 9, "CS101", "R1", "a@x.com"),
+                        entry(2L, "MONDAY", 11, "CS102", "R1", "b@x.com"))));
+        TimetableService.Snapshot first = timetableService.getSnapshot();
+
+        timetableService.refresh();
+        assertThat(timetableService.getSnapshot()).isSameAs(first);
+
+        timetableService.refresh();
+        assertThat(timetableService.getSnapshot().all().entries()).hasSize(2);
+    }
+
+    private void assignIdsOnSave(long firstId) {
+        AtomicLong ids = new AtomicLong(firstId);
+        when(timetableRepository.saveAll(any())).thenAnswer(inv -> {
+            List<Timetable> rows = new ArrayList<>(inv.getArgument(0));
+            rows.forEach(t -> t.setId(ids.getAndIncrement()));
+            return rows;
+        });
+    }
+
+    private static Timetable entry(Long id, String day, int hour, String course, String room, String faculty) {
+        return new Timetable(id, day, LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0), course, course + " name", room, faculty);
+    }
+}
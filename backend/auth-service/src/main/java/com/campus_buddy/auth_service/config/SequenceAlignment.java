@@ -0,0 +1,72 @@
+package com.campus_buddy.auth_service.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One-time migration of the users table from IDENTITY to pooled-lo sequence ids: moves users_seq past
+ * the highest existing user id, so accounts registered before the switch keep their ids (the userId
+ * claim of tokens already issued) and new registrations never collide with them.
+ *
+ * Runs after Hibernate has created users_seq (depends on the EntityManagerFactory) and before the
+ * web server accepts registrations. The sequence is only ever moved forward, and only when existing
+ * ids reach the next value it would hand out, so restarts and other running instances are unaffected.
+ * PostgreSQL only.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class SequenceAlignment {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceAlignment.class);
+
+    /** table → sequence, matching the @SequenceGenerator declarations on the entities */
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users_seq"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void align() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(database)) {
+            return;
+        }
+        SEQUENCES.forEach(this::align);
+    }
+
+    private void align(String table, String sequence) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT start_value, last_value, increment_by FROM pg_sequences WHERE sequencename = ?", sequence);
+            if (rows.isEmpty() || maxId == null) {
+                return;
+            }
+
+            // With pooled-lo, every id below last_value + increment_by may already be handed out
+            Map<String, Object> seq = rows.get(0);
+            Number last = (Number) seq.get("last_value");
+            long nextFree = last == null
+                    ? ((Number) seq.get("start_value")).longValue()
+                    : last.longValue() + ((Number) seq.get("increment_by")).longValue();
+
+            if (maxId >= nextFree) {
+                jdbcTemplate.queryForObject("SELECT setval(?::regclass, ?, false)", Long.class, sequence, maxId + 1);
+                log.info("Aligned sequence {} past existing {} ids: next id {}", sequence, table, maxId + 1);
+            }
+        } catch (Exception e) {
+            log.warn("Could not align sequence {} for table {}: {}", sequence, table, e.getMessage());
+        }
+    }
+}
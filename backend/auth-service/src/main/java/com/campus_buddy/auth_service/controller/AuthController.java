@@ -4,11 +4,14 @@ import com.campus_buddy.auth_service.dto.AuthResponse;
 import com.campus_buddy.auth_service.dto.LoginRequest;
 import com.campus_buddy.auth_service.dto.RegisterRequest;
 import com.campus_buddy.auth_service.dto.UserResponse;
+import com.campus_buddy.auth_service.security.JwtService;
 import com.campus_buddy.auth_service.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -21,9 +24,14 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/auth")
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private JwtService jwtService;
+
     /**
      * Register a new user
      * POST /auth/register
@@ -48,14 +56,24 @@ public class AuthController {
      * Get current authenticated user information
      * GET /auth/me
      * Requires valid JWT token in Authorization header
+     * Served from the token's userId claim plus the profile cache; no DB read once cached
+     * A missing or non-Bearer Authorization header is a 401
      */
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> getCurrentUser() {
+    public ResponseEntity<UserResponse> getCurrentUser(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BadCredentialsException("Missing or malformed Bearer token");
+        }
+
         // Extract email from SecurityContext (set by JwtAuthenticationFilter)
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
-        
-        UserResponse response = authService.getCurrentUser(email);
+
+        // Already verified by the filter, so this is a claims-cache lookup
+        Long userId = jwtService.extractUserId(authorization.substring(BEARER_PREFIX.length()));
+
+        UserResponse response = authService.getCurrentUser(userId, email);
         return ResponseEntity.ok(response);
     }
 
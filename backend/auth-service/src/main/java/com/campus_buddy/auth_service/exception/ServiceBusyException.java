@@ -0,0 +1,12 @@
+package com.campus_buddy.auth_service.exception;
+
+/**
+ * Exception thrown when the service is too loaded to take the request right now (e.g. the
+ * password hashing queue is full); the client should retry shortly
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -2,9 +2,11 @@ package com.campus_buddy.auth_service.security;
 
 import com.campus_buddy.auth_service.model.Role;
 import com.campus_buddy.auth_service.model.User;
+import com.campus_buddy.common.security.JwtClaimsCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -28,6 +30,26 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    @Value("${jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    private SecretKey signingKey;
+
+    /**
+     * Verified claims keyed by token, so each distinct token is parsed and its signature checked once.
+     * LRU-bounded by jwt.claims-cache-size; entries are dropped once the token's exp passes.
+     */
+    private JwtClaimsCache claimsCache;
+
+    /**
+     * Build the signing key and parser once; both are immutable and thread-safe.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        claimsCache = new JwtClaimsCache(Jwts.parser().verifyWith(signingKey).build(), claimsCacheSize);
+    }
+
     /**
      * Generate JWT token for authenticated user
      */
@@ -42,7 +64,7 @@ public class JwtService {
                 .subject(user.getEmail())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -51,10 +73,6 @@ public class JwtService {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
             return !isTokenExpired(token);
         } catch (Exception e) {
             return false;
@@ -116,17 +134,7 @@ public class JwtService {
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /**
-     * Get signing key from secret
-     */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // Throws for bad signatures and expired tokens; only verified claims are cached
+        return claimsCache.claims(token);
     }
 }
@@ -25,6 +25,11 @@ public interface AuthService {
      */
     UserResponse getCurrentUser(String email);
 
+    /**
+     * Get current user information using the JWT userId claim, served from the profile cache when possible
+     */
+    UserResponse getCurrentUser(Long userId, String email);
+
     /**
      * Change password for authenticated user
      */
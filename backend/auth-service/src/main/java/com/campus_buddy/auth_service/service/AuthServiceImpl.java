@@ -5,13 +5,15 @@ import com.campus_buddy.auth_service.dto.LoginRequest;
 import com.campus_buddy.auth_service.dto.RegisterRequest;
 import com.campus_buddy.auth_service.dto.UserResponse;
 import com.campus_buddy.auth_service.exception.DuplicateUserException;
+import com.campus_buddy.auth_service.exception.ServiceBusyException;
 import com.campus_buddy.auth_service.exception.UserNotFoundException;
 import com.campus_buddy.auth_service.model.User;
 import com.campus_buddy.auth_service.repository.UserRepository;
 import com.campus_buddy.auth_service.security.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,15 +24,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AuthServiceImpl implements AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceImpl.class);
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private UserProfileCache userProfileCache;
+
     /**
      * Register new user with password hashing and JWT generation
      */
@@ -51,11 +58,12 @@ public class AuthServiceImpl implements AuthService {
         User user = new User();
         user.setStudentId(request.getStudentId());
         user.setEmail(request.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword())); // BCrypt hashing
+        user.setPasswordHash(passwordHashingService.encode(request.getPassword())); // BCrypt, on the hashing pool
         user.setRole(request.getRole());
 
         // Save user to database
         User savedUser = userRepository.save(user);
+        userProfileCache.put(savedUser);
 
         // Generate JWT token
         String token = jwtService.generateToken(savedUser);
@@ -74,10 +82,18 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
 
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPasswordHash())) {
             throw new BadCredentialsException("Invalid email or password");
         }
 
+        // Transparently upgrade hashes made with an older, lower bcrypt cost
+        if (passwordHashingService.needsRehash(user.getPasswordHash())) {
+            rehash(user, request.getPassword());
+        }
+
+        // Warm the profile cache for the /auth/me calls that follow every login
+        userProfileCache.put(user);
+
         // Generate JWT token
         String token = jwtService.generateToken(user);
 
@@ -93,16 +109,18 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("User not found: " + email));
 
-        // Map to UserResponse (excludes password)
-        UserResponse response = new UserResponse();
-        response.setId(user.getId());
-        response.setStudentId(user.getStudentId());
-        response.setEmail(user.getEmail());
-        response.setUsername(user.getUsername());
-        response.setRole(user.getRole());
-        response.setCreatedAt(user.getCreatedAt());
+        return userProfileCache.put(user);
+    }
 
-        return response;
+    /**
+     * Get current user information from the profile cache, keyed by the token's userId claim.
+     * Falls back to the database (and re-caches) on a miss or for tokens without userId.
+     */
+    @Override
+    public UserResponse getCurrentUser(Long userId, String email) {
+        return userProfileCache.get(userId)
+                .filter(profile -> profile.getEmail().equals(email))
+                .orElseGet(() -> getCurrentUser(email));
     }
 
     /**
@@ -114,12 +132,27 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new UserNotFoundException("User not found: " + email));
 
         // Verify current password
-        if (!passwordEncoder.matches(currentPassword, user.getPasswordHash())) {
+        if (!passwordHashingService.matches(currentPassword, user.getPasswordHash())) {
             throw new BadCredentialsException("Invalid current password");
         }
 
         // Update password
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
+        user.setPasswordHash(passwordHashingService.encode(newPassword));
         userRepository.save(user);
+        userProfileCache.invalidate(user.getId());
+    }
+
+    /**
+     * Best effort: a busy hashing pool skips the upgrade rather than failing the login
+     */
+    private void rehash(User user, String rawPassword) {
+        try {
+            user.setPasswordHash(passwordHashingService.encode(rawPassword));
+            userRepository.save(user);
+            userProfileCache.invalidate(user.getId());
+            log.info("Upgraded password hash cost for user id={}", user.getId());
+        } catch (ServiceBusyException e) {
+            log.debug("Skipped password rehash for user id={}: {}", user.getId(), e.getMessage());
+        }
     }
 }
@@ -0,0 +1,128 @@
+package com.campus_buddy.auth_service.service;
+
+import com.campus_buddy.auth_service.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs BCrypt hashing on a dedicated, bounded pool instead of on request threads.
+ *
+ * At most {@code auth.password.hashing-threads} hashes run at once, so a login storm cannot take every
+ * core away from cheap endpoints like /auth/me. Requests beyond the queue capacity, or that wait
+ * longer than {@code auth.password.timeout}, fail fast with ServiceBusyException (503 + Retry-After).
+ *
+ * Metrics: auth.password.hash (timer, tag operation=encode|matches), auth.password.hash.rejected
+ * (counter), auth.password.hash.queue and auth.password.hash.active (gauges).
+ */
+@Service
+public class PasswordHashingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** 0 means one thread per available processor */
+    @Value("${auth.password.hashing-threads:0}")
+    private int hashingThreads;
+
+    @Value("${auth.password.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${auth.password.timeout:5s}")
+    private Duration timeout;
+
+    private ThreadPoolExecutor executor;
+    private Timer encodeTimer;
+    private Timer matchesTimer;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+        matchesTimer = Timer.builder("auth.password.hash").tag("operation", "matches")
+                .publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+        rejected = Counter.builder("auth.password.hash.rejected").register(meterRegistry);
+        meterRegistry.gauge("auth.password.hash.queue", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount);
+
+        log.info("Password hashing pool: threads={}, queueCapacity={}, timeout={}", threads, queueCapacity, timeout);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(CharSequence rawPassword, String passwordHash) {
+        return run(() -> matchesTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, passwordHash)));
+    }
+
+    /**
+     * True if the stored hash was made with a lower cost than the current bcrypt-strength
+     */
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException("Too many concurrent sign-ins, please retry shortly.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceBusyException("Too many concurrent sign-ins, please retry shortly.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for password hashing.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
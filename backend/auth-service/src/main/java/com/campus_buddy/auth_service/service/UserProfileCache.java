@@ -0,0 +1,60 @@
+package com.campus_buddy.auth_service.service;
+
+import com.campus_buddy.auth_service.dto.UserResponse;
+import com.campus_buddy.auth_service.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of the /auth/me profile projection, keyed by user ID (the JWT userId claim).
+ * Populated on register and login, refreshed or dropped whenever the user row is written,
+ * so /auth/me does not touch the database in the steady state.
+ */
+@Component
+public class UserProfileCache {
+
+    @Value("${auth.profile-cache-size:10000}")
+    private int maxSize;
+
+    private final Map<Long, UserResponse> profiles = new ConcurrentHashMap<>();
+
+    public Optional<UserResponse> get(Long userId) {
+        return userId == null ? Optional.empty() : Optional.ofNullable(profiles.get(userId));
+    }
+
+    /**
+     * Cache (or refresh) the profile for a freshly loaded or saved user
+     */
+    public UserResponse put(User user) {
+        UserResponse profile = toResponse(user);
+        if (profiles.size() >= maxSize && !profiles.containsKey(user.getId())) {
+            profiles.clear(); // Bounded: start over rather than track recency
+        }
+        profiles.put(user.getId(), profile);
+        return profile;
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            profiles.remove(userId);
+        }
+    }
+
+    /**
+     * Map to UserResponse (excludes password)
+     */
+    static UserResponse toResponse(User user) {
+        UserResponse response = new UserResponse();
+        response.setId(user.getId());
+        response.setStudentId(user.getStudentId());
+        response.setEmail(user.getEmail());
+        response.setUsername(user.getUsername());
+        response.setRole(user.getRole());
+        response.setCreatedAt(user.getCreatedAt());
+        return response;
+    }
+}
@@ -0,0 +1,112 @@
+package com.campus_buddy.auth_service.controller;
+
+import com.campus_buddy.auth_service.dto.LoginRequest;
+import com.campus_buddy.auth_service.dto.UserResponse;
+import com.campus_buddy.auth_service.exception.GlobalExceptionHandler;
+import com.campus_buddy.auth_service.exception.ServiceBusyException;
+import com.campus_buddy.auth_service.model.Role;
+import com.campus_buddy.auth_service.security.JwtService;
+import com.campus_buddy.auth_service.service.AuthService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for AuthController, with GlobalExceptionHandler.
+ * Covers: 503 + Retry-After when password hashing is saturated; /auth/me userId lookup and 401 on a
+ * missing, non-Bearer or too-short Authorization header.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthControllerTest {
+
+    private static final String LOGIN = "{\"email\":\"s@x.com\",\"password\":\"secret\"}";
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private JwtService jwtService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AuthController controller = new AuthController();
+        ReflectionTestUtils.setField(controller, "authService", authService);
+        ReflectionTestUtils.setField(controller, "jwtService", jwtService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("s@x.com", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // ─── Login Tests ───
+
+    @Test
+    @DisplayName("Login — a saturated hashing pool is a 503 with Retry-After")
+    void login_busy_shouldReturn503WithRetryAfter() throws Exception {
+        when(authService.login(any(LoginRequest.class)))
+                .thenThrow(new ServiceBusyException("Too many concurrent sign-ins, please retry shortly."));
+
+        mockMvc.perform(post("/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.error").value("Service Busy"))
+                .andExpect(jsonPath("$.message").value("Too many concurrent sign-ins, please retry shortly."));
+    }
+
+    // ─── /auth/me Tests ───
+
+    @Test
+    @DisplayName("Me — the userId claim of the Bearer token and the authenticated email select the profile")
+    void me_bearer_shouldLookUpByUserId() throws Exception {
+        when(jwtService.extractUserId("abc.def.ghi")).thenReturn(7L);
+        when(authService.getCurrentUser(7L, "s@x.com"))
+                .thenReturn(new UserResponse(7L, "S7", "s@x.com", "s@x.com", Role.STUDENT, null));
+
+        mockMvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer abc.def.ghi"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.email").value("s@x.com"));
+    }
+
+    @Test
+    @DisplayName("Me — missing, non-Bearer and too-short Authorization headers are a 401, not a 500")
+    void me_malformedHeader_shouldReturn401() throws Exception {
+        mockMvc.perform(get("/auth/me"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("Authentication Failed"));
+        mockMvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, "Basic czpzZWNyZXQ="))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, "Bear"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(jwtService, authService);
+    }
+}
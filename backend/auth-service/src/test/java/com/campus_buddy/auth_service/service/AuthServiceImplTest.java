@@ -0,0 +1,163 @@
+package com.campus_buddy.auth_service.service;
+
+import com.campus_buddy.auth_service.dto.AuthResponse;
+import com.campus_buddy.auth_service.dto.LoginRequest;
+import com.campus_buddy.auth_service.dto.UserResponse;
+import com.campus_buddy.auth_service.exception.ServiceBusyException;
+import com.campus_buddy.auth_service.exception.UserNotFoundException;
+import com.campus_buddy.auth_service.model.Role;
+import com.campus_buddy.auth_service.model.User;
+import com.campus_buddy.auth_service.repository.UserRepository;
+import com.campus_buddy.auth_service.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuthServiceImpl login and /auth/me.
+ * Covers: bad credentials, hash upgrade on login, skipping the upgrade when the hashing pool is busy,
+ * failing the login when the pool is too busy to verify the password, profile cache hit, email mismatch
+ * and miss falling back to the database.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplTest {
+
+    private static final String EMAIL = "s@x.com";
+    private static final String OLD_HASH = "$2a$04$old";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    @Test
+    @DisplayName("Login — wrong password is rejected without issuing a token")
+    void login_wrongPassword_shouldThrow() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user()));
+        when(passwordHashingService.matches("wrong", OLD_HASH)).thenReturn(false);
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest(EMAIL, "wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+        verifyNoInteractions(jwtService);
+    }
+
+    @Test
+    @DisplayName("Rehash — a hash below the current cost is re-encoded and saved on login")
+    void login_oldHash_shouldRehash() {
+        User user = user();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.encode("secret")).thenReturn("$2a$12$new");
+        when(jwtService.generateToken(user)).thenReturn("token");
+
+        AuthResponse response = authService.login(new LoginRequest(EMAIL, "secret"));
+
+        assertThat(response.getToken()).isEqualTo("token");
+        assertThat(user.getPasswordHash()).isEqualTo("$2a$12$new");
+        verify(userRepository).save(user);
+        verify(userProfileCache).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("Rehash — a busy hashing pool skips the upgrade and the login still succeeds")
+    void login_poolBusyDuringRehash_shouldSkipUpgrade() {
+        User user = user();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(passwordHashingService.matches("secret", OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.needsRehash(OLD_HASH)).thenReturn(true);
+        when(passwordHashingService.encode("secret")).thenThrow(new ServiceBusyException("busy"));
+        when(jwtService.generateToken(user)).thenReturn("token");
+
+        AuthResponse response = authService.login(new LoginRequest(EMAIL, "secret"));
+
+        assertThat(response.getToken()).isEqualTo("token");
+        assertThat(user.getPasswordHash()).isEqualTo(OLD_HASH);
+        verify(userRepository, never()).save(any());
+        verify(userProfileCache).put(user);
+    }
+
+    @Test
+    @DisplayName("Saturation — a busy pool while verifying the password fails the login with ServiceBusyException")
+    void login_poolBusyDuringMatch_shouldThrow() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user()));
+        when(passwordHashingService.matches("secret", OLD_HASH)).thenThrow(new ServiceBusyException("busy"));
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest(EMAIL, "secret")))
+                .isInstanceOf(ServiceBusyException.class);
+        verifyNoInteractions(jwtService);
+    }
+
+    // ─── Current User Tests ───
+
+    @Test
+    @DisplayName("Me — a cached profile for the token's userId is served without a database read")
+    void getCurrentUser_cached_shouldSkipDatabase() {
+        UserResponse cached = UserProfileCache.toResponse(user());
+        when(userProfileCache.get(1L)).thenReturn(Optional.of(cached));
+
+        assertThat(authService.getCurrentUser(1L, EMAIL)).isSameAs(cached);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Me — a cached profile whose email differs from the token is ignored and reloaded")
+    void getCurrentUser_emailMismatch_shouldReload() {
+        when(userProfileCache.get(1L)).thenReturn(Optional.of(UserProfileCache.toResponse(user())));
+        User other = user();
+        other.setEmail("other@x.com");
+        UserResponse reloaded = UserProfileCache.toResponse(other);
+        when(userRepository.findByEmail("other@x.com")).thenReturn(Optional.of(other));
+        when(userProfileCache.put(other)).thenReturn(reloaded);
+
+        assertThat(authService.getCurrentUser(1L, "other@x.com")).isSameAs(reloaded);
+    }
+
+    @Test
+    @DisplayName("Me — a cache miss or a token without userId loads by email and re-caches; unknown email is 404")
+    void getCurrentUser_miss_shouldLoadAndCache() {
+        User user = user();
+        UserResponse loaded = UserProfileCache.toResponse(user);
+        when(userProfileCache.get(null)).thenReturn(Optional.empty());
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userProfileCache.put(user)).thenReturn(loaded);
+        when(userRepository.findByEmail("gone@x.com")).thenReturn(Optional.empty());
+
+        assertThat(authService.getCurrentUser(null, EMAIL)).isSameAs(loaded);
+        assertThatThrownBy(() -> authService.getCurrentUser(null, "gone@x.com"))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    // ─── Helper ───
+
+    private static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setStudentId("S1");
+        user.setEmail(EMAIL);
+        user.setPasswordHash(OLD_HASH);
+        user.setRole(Role.STUDENT);
+        return user;
+    }
+}
@@ -0,0 +1,167 @@
+package com.campus_buddy.auth_service.service;
+
+import com.campus_buddy.auth_service.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PasswordHashingService.
+ * Covers: hashing on the pool with timers, rejection when threads and queue are full, timeout while
+ * queued, error propagation, rehash detection.
+ * Hashing is made to block on a latch so the pool can be filled deterministically.
+ */
+class PasswordHashingServiceTest {
+
+    private final BlockingEncoder encoder = new BlockingEncoder();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordHashingService hashingService;
+
+    @BeforeEach
+    void setUp() {
+        hashingService = new PasswordHashingService();
+        ReflectionTestUtils.setField(hashingService, "passwordEncoder", encoder);
+        ReflectionTestUtils.setField(hashingService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(hashingService, "hashingThreads", 1);
+        ReflectionTestUtils.setField(hashingService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(hashingService, "timeout", Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.release.countDown();
+        hashingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Hashing — encode and matches run on the pool and are timed per operation")
+    void encodeAndMatches_shouldRecordTimers() {
+        encoder.release.countDown();
+        hashingService.init();
+
+        assertThat(hashingService.encode("secret")).isEqualTo("hash:secret");
+        assertThat(hashingService.matches("secret", "hash:secret")).isTrue();
+        assertThat(hashingService.matches("wrong", "hash:secret")).isFalse();
+
+        assertThat(encoder.threads).allMatch(name -> name.startsWith("password-hash-"));
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Saturation — with the thread busy and the queue full, the next hash is rejected at once")
+    void encode_poolFull_shouldThrowServiceBusy() throws Exception {
+        hashingService.init();
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hashingService.encode("a"));
+        assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hashingService.encode("b"));
+        awaitGauge("auth.password.hash.queue", 1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> hashingService.matches("c", "hash:c"))
+                .isInstanceOf(ServiceBusyException.class)
+                .hasMessageContaining("retry");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash.active").gauge().value()).isEqualTo(1);
+
+        // Work already admitted still completes once the pool frees up
+        encoder.release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:b");
+    }
+
+    @Test
+    @DisplayName("Saturation — a hash that waits longer than the timeout is cancelled and reported busy")
+    void encode_timeout_shouldThrowServiceBusy() throws Exception {
+        ReflectionTestUtils.setField(hashingService, "timeout", Duration.ofMillis(100));
+        hashingService.init();
+
+        assertThatThrownBy(() -> hashingService.encode("slow")).isInstanceOf(ServiceBusyException.class);
+
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(encoder.interrupted.await(5, TimeUnit.SECONDS)).as("worker interrupted by cancel").isTrue();
+    }
+
+    @Test
+    @DisplayName("Errors — a runtime exception from the encoder reaches the caller unchanged")
+    void encode_failure_shouldPropagate() {
+        encoder.release.countDown();
+        hashingService.init();
+
+        assertThatThrownBy(() -> hashingService.encode("fail"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad password");
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Rehash — hashes below the configured bcrypt cost need an upgrade")
+    void needsRehash_shouldCompareCost() {
+        ReflectionTestUtils.setField(hashingService, "passwordEncoder", new BCryptPasswordEncoder(5));
+        hashingService.init();
+
+        assertThat(hashingService.needsRehash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(hashingService.needsRehash(new BCryptPasswordEncoder(5).encode("secret"))).isFalse();
+    }
+
+    // ─── Helper ───
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(meterRegistry.get(name).gauge().value()).isEqualTo(expected);
+    }
+
+    /**
+     * "hash:" + raw, once {@code release} is counted down; "fail" throws
+     */
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            threads.add(Thread.currentThread().getName());
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted", e);
+            }
+            if ("fail".contentEquals(rawPassword)) {
+                throw new IllegalArgumentException("bad password");
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
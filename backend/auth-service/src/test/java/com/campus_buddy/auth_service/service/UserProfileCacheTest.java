@@ -0,0 +1,90 @@
+package com.campus_buddy.auth_service.service;
+
+import com.campus_buddy.auth_service.dto.UserResponse;
+import com.campus_buddy.auth_service.model.Role;
+import com.campus_buddy.auth_service.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for UserProfileCache.
+ * Covers: projection without the password hash, refresh on put, invalidation, null ids, size bound.
+ */
+class UserProfileCacheTest {
+
+    private UserProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserProfileCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 3);
+    }
+
+    @Test
+    @DisplayName("Cache — put stores the /auth/me projection under the user id")
+    void put_shouldCacheProjection() {
+        LocalDateTime createdAt = LocalDateTime.of(2030, 3, 11, 9, 0);
+        User user = user(1L, "s1@x.com");
+        user.setCreatedAt(createdAt);
+
+        UserResponse profile = cache.put(user);
+
+        assertThat(cache.get(1L)).containsSame(profile);
+        assertThat(profile).isEqualTo(new UserResponse(1L, "S1", "s1@x.com", "s1@x.com", Role.STUDENT, createdAt));
+    }
+
+    @Test
+    @DisplayName("Cache — a second put refreshes the entry; invalidate drops it")
+    void putAndInvalidate_shouldRefreshAndDrop() {
+        cache.put(user(1L, "old@x.com"));
+        cache.put(user(1L, "new@x.com"));
+        assertThat(cache.get(1L)).get().extracting(UserResponse::getEmail).isEqualTo("new@x.com");
+
+        cache.invalidate(1L);
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Cache — null ids (tokens without a userId claim) are a miss and a no-op")
+    void nullId_shouldMiss() {
+        cache.put(user(1L, "s1@x.com"));
+
+        assertThat(cache.get(null)).isEmpty();
+        cache.invalidate(null);
+        assertThat(cache.get(1L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Cache — a new user past max size starts the cache over; refreshing an existing user does not")
+    void put_pastMaxSize_shouldClear() {
+        cache.put(user(1L, "s1@x.com"));
+        cache.put(user(2L, "s2@x.com"));
+        cache.put(user(3L, "s3@x.com"));
+
+        cache.put(user(3L, "s3@x.com"));
+        assertThat(cache.get(1L)).isPresent();
+
+        cache.put(user(4L, "s4@x.com"));
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.get(3L)).isEmpty();
+        assertThat(cache.get(4L)).isPresent();
+    }
+
+    // ─── Helper ───
+
+    private static User user(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setStudentId("S" + id);
+        user.setEmail(email);
+        user.setPasswordHash("$2a$12$hash");
+        user.setRole(Role.STUDENT);
+        return user;
+    }
+}
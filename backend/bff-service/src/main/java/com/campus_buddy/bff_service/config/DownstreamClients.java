@@ -0,0 +1,165 @@
+package com.campus_buddy.bff_service.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.Data;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One WebClient per downstream microservice, built from {@code services.<name>.*}.
+ *
+ * Each service gets its own Reactor Netty connection pool so a slow service cannot exhaust
+ * connections needed by the others. Pool gauges (active, idle, pending, total) are published
+ * through Micrometer as {@code reactor.netty.connection.provider.*} tagged with {@code name=<service>}.
+ *
+ * Long-lived streams (routes with {@code stream: true}, e.g. Server-Sent Events) use a second client per
+ * service with its own pool ({@code name=<service>-stream}) and no response timeout (which in Reactor
+ * Netty is an idle timeout between reads of the body, not a deadline for the headers), so open streams
+ * neither time out between events nor take connections from regular requests.
+ */
+@Component
+public class DownstreamClients implements DisposableBean {
+
+    private final Map<String, Downstream> services;
+    private final Map<String, WebClient> clients = new HashMap<>();
+    private final Map<String, WebClient> streamClients = new HashMap<>();
+    private final Map<String, ConnectionProvider> pools = new HashMap<>();
+
+    public DownstreamClients(Environment environment, WebClient.Builder webClientBuilder) {
+        this.services = Binder.get(environment)
+                .bind("services", Bindable.mapOf(String.class, Downstream.class))
+                .orElseGet(Map::of);
+        services.forEach((name, downstream) -> {
+            ConnectionProvider pool = connectionProvider(name, downstream.getPool());
+            pools.put(name, pool);
+            clients.put(name, webClientBuilder.clone()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient(pool, downstream)
+                            .responseTimeout(downstream.getResponseTimeout())))
+                    .build());
+
+            ConnectionProvider streamPool = connectionProvider(name + "-stream", downstream.getStreamPool());
+            pools.put(name + "-stream", streamPool);
+            streamClients.put(name, webClientBuilder.clone()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient(streamPool, downstream)))
+                    .build());
+        });
+    }
+
+    /**
+     * WebClient for the named service
+     * @throws IllegalArgumentException if the service is not configured
+     */
+    public WebClient client(String service) {
+        WebClient client = clients.get(service);
+        if (client == null) {
+            throw new IllegalArgumentException("Unknown downstream service: " + service);
+        }
+        return client;
+    }
+
+    /**
+     * WebClient for long-lived streams from the named service: separate pool, no response timeout
+     * @throws IllegalArgumentException if the service is not configured
+     */
+    public WebClient streamClient(String service) {
+        WebClient client = streamClients.get(service);
+        if (client == null) {
+            throw new IllegalArgumentException("Unknown downstream service: " + service);
+        }
+        return client;
+    }
+
+    /**
+     * Base URL of the named service, e.g. {@code http://localhost:8082}
+     */
+    public String baseUrl(String service) {
+        Downstream downstream = services.get(service);
+        if (downstream == null) {
+            throw new IllegalArgumentException("Unknown downstream service: " + service);
+        }
+        return downstream.getUrl();
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private static ConnectionProvider connectionProvider(String name, Pool pool) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    private static HttpClient httpClient(ConnectionProvider pool, Downstream downstream) {
+        HttpClient client = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) downstream.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true);
+        // With H2C listed first the client upgrades from HTTP/1.1 and falls back if the service declines
+        return downstream.isH2c()
+                ? client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+                : client.protocol(HttpProtocol.HTTP11);
+    }
+
+    @Data
+    public static class Downstream {
+        private String url;
+
+        /** TCP connect timeout */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /**
+         * Idle-read timeout: the longest gap allowed between reads, from sending the request until the
+         * whole body has arrived (not just the headers). A response that pauses longer than this mid-body
+         * — e.g. an SSE stream between events — is cut; such routes need {@code stream: true}
+         */
+        private Duration responseTimeout = Duration.ofSeconds(10);
+
+        /** Cleartext HTTP/2 to the service (needs server.http2.enabled on the service side) */
+        private boolean h2c = false;
+
+        private Pool pool = new Pool();
+
+        /** Pool for stream routes; one connection per open client stream */
+        private Pool streamPool = Pool.forStreams();
+    }
+
+    @Data
+    public static class Pool {
+        private int maxConnections = 100;
+
+        /** Requests allowed to wait for a free connection before failing fast */
+        private int pendingAcquireMaxCount = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        /** Idle keep-alive connections are closed after this long */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictionInterval = Duration.ofSeconds(30);
+
+        static Pool forStreams() {
+            Pool pool = new Pool();
+            pool.setMaxConnections(2000);
+            pool.setPendingAcquireMaxCount(0);
+            return pool;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.campus_buddy.bff_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BFF proxy route table, bound from {@code bff.routes}.
+ * Routes are matched in order; the first whose path pattern matches the request wins.
+ * Also holds the dashboard fan-out sections ({@code bff.dashboard}).
+ */
+@Data
+@ConfigurationProperties(prefix = "bff")
+public class ProxyProperties {
+
+    private List<Route> routes = new ArrayList<>();
+
+    private Dashboard dashboard = new Dashboard();
+
+    @Data
+    public static class Route {
+
+        /** BFF path pattern, e.g. {@code /api/academic/attendance/{*rest}} */
+        private String path;
+
+        /** Downstream service name, resolved against {@code services.<name>.url} */
+        private String service;
+
+        /** Downstream path template; {@code {var}} placeholders are filled from the path pattern */
+        private String target;
+
+        /**
+         * Long-lived stream (e.g. Server-Sent Events): no response timeout, separate connection pool.
+         * Required for any route whose body can go quiet for longer than the service's response-timeout
+         */
+        private boolean stream;
+    }
+
+    @Data
+    public static class Dashboard {
+
+        /** Used for sections that do not set their own timeout */
+        private Duration defaultTimeout = Duration.ofSeconds(2);
+
+        private List<Section> sections = new ArrayList<>();
+    }
+
+    @Data
+    public static class Section {
+
+        /** Key of the section in the merged dashboard document */
+        private String name;
+
+        /** Downstream service name, resolved against {@code services.<name>.url} */
+        private String service;
+
+        /** Downstream path, e.g. {@code /timetable} */
+        private String path;
+
+        private Duration timeout;
+    }
+}
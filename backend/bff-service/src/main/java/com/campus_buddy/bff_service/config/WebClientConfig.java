@@ -1,5 +1,6 @@
 package com.campus_buddy.bff_service.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -8,6 +9,7 @@ import org.springframework.web.reactive.function.client.WebClient;
  * WebClient configuration for making HTTP calls to microservices
  */
 @Configuration
+@EnableConfigurationProperties(ProxyProperties.class)
 public class WebClientConfig {
 
     @Bean
@@ -0,0 +1,34 @@
+package com.campus_buddy.bff_service.controller;
+
+import com.campus_buddy.bff_service.service.DashboardService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * BFF Dashboard Controller - one round trip for everything the landing page needs.
+ * Takes precedence over the /api/** proxy mapping.
+ */
+@RestController
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    /**
+     * GET /api/dashboard - always 200; failed sections are null and listed under "errors"
+     */
+    @GetMapping("/api/dashboard")
+    public Mono<ResponseEntity<String>> getDashboard(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        return dashboardService.load(authorization)
+                .map(body -> ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body));
+    }
+}
@@ -0,0 +1,30 @@
+package com.campus_buddy.bff_service.controller;
+
+import com.campus_buddy.bff_service.proxy.ReverseProxy;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * BFF Proxy Controller - forwards every /api/** request to the downstream service
+ * selected by the bff.routes table in application.yaml.
+ * Adding an endpoint is a configuration change; see ReverseProxy for the streaming details.
+ */
+@RestController
+public class ProxyController {
+
+    private final ReverseProxy reverseProxy;
+
+    public ProxyController(ReverseProxy reverseProxy) {
+        this.reverseProxy = reverseProxy;
+    }
+
+    /**
+     * Any method, any path under /api — the response is written directly to the exchange
+     */
+    @RequestMapping("/api/**")
+    public Mono<Void> proxy(ServerWebExchange exchange) {
+        return reverseProxy.forward(exchange);
+    }
+}
@@ -0,0 +1,232 @@
+package com.campus_buddy.bff_service.proxy;
+
+import com.campus_buddy.bff_service.config.DownstreamClients;
+import com.campus_buddy.bff_service.config.ProxyProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ReverseProxy — forwards BFF requests to downstream services using the {@code bff.routes} table.
+ *
+ * Request and response bodies are streamed as DataBuffers straight through (never aggregated into
+ * a String), and the downstream status and headers are passed back unchanged apart from
+ * hop-by-hop and CORS headers, which the BFF owns.
+ *
+ * Path variables are copied into the target path still encoded, so an encoded "/" (%2F) in a variable
+ * never becomes a real path separator downstream, and paths with "." or ".." segments (in any encoding)
+ * are rejected rather than forwarded.
+ */
+@Component
+public class ReverseProxy {
+
+    private static final Logger log = LoggerFactory.getLogger(ReverseProxy.class);
+
+    /** Per-connection headers plus those the BFF must not leak between client and downstream */
+    private static final Set<String> SKIPPED_REQUEST_HEADERS = Set.of(
+            "host", "connection", "keep-alive", "te", "trailer", "upgrade",
+            "proxy-authorization", "proxy-connection", "origin",
+            "access-control-request-method", "access-control-request-headers");
+    private static final Set<String> SKIPPED_RESPONSE_HEADERS = Set.of(
+            "connection", "keep-alive", "transfer-encoding", "te", "trailer", "upgrade", "proxy-connection");
+
+    /** Responses of these types (events, streamed exports) are flushed per chunk as they arrive */
+    private static final List<MediaType> STREAMING_TYPES = List.of(
+            MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_NDJSON, MediaType.parseMediaType("text/csv"));
+
+    private static final Pattern TARGET_VARIABLE = Pattern.compile("\\{([^}]+)}");
+
+    private final DownstreamClients downstreamClients;
+    private final List<CompiledRoute> routes;
+
+    public ReverseProxy(ProxyProperties properties, DownstreamClients downstreamClients) {
+        this.downstreamClients = downstreamClients;
+        this.routes = properties.getRoutes().stream()
+                .map(CompiledRoute::of)
+                .toList();
+    }
+
+    /**
+     * Proxy the exchange to the first matching route and stream the downstream response back.
+     */
+    public Mono<Void> forward(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        PathContainer path = request.getPath().pathWithinApplication();
+
+        if (hasDotSegment(path)) {
+            log.warn("Rejected proxy path with dot segments: {} {}", request.getMethod(), path.value());
+            return writeError(response, HttpStatus.BAD_REQUEST, "Invalid path");
+        }
+
+        for (CompiledRoute route : routes) {
+            PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(path);
+            if (match != null) {
+                return forward(request, response, route.route(), rawVariables(route, path, match));
+            }
+        }
+
+        log.warn("No proxy route for {} {}", request.getMethod(), path.value());
+        return writeError(response, HttpStatus.NOT_FOUND, "No route for " + path.value());
+    }
+
+    private Mono<Void> forward(ServerHttpRequest request, ServerHttpResponse response,
+                               ProxyProperties.Route route, Map<String, String> variables) {
+        URI uri = targetUri(route, variables, request.getURI().getRawQuery());
+        WebClient client = route.isStream()
+                ? downstreamClients.streamClient(route.getService())
+                : downstreamClients.client(route.getService());
+        log.debug("Proxy {} {} -> {}", request.getMethod(), request.getPath(), uri);
+
+        WebClient.RequestBodySpec spec = client.method(request.getMethod())
+                .uri(uri)
+                .headers(headers -> copyRequestHeaders(request.getHeaders(), headers));
+
+        WebClient.RequestHeadersSpec<?> ready = hasBody(request.getHeaders())
+                ? spec.body(BodyInserters.fromDataBuffers(request.getBody()))
+                : spec;
+
+        return ready.exchangeToMono(downstream -> writeResponse(downstream, response))
+                .onErrorResume(e -> {
+                    log.error("Proxy to {} failed: {}", uri, e.getMessage());
+                    if (response.isCommitted()) {
+                        return Mono.error(e);
+                    }
+                    return writeError(response, HttpStatus.INTERNAL_SERVER_ERROR,
+                            capitalize(route.getService()) + " service unavailable");
+                });
+    }
+
+    private Mono<Void> writeResponse(ClientResponse downstream, ServerHttpResponse response) {
+        response.setStatusCode(downstream.statusCode());
+
+        HttpHeaders target = response.getHeaders();
+        downstream.headers().asHttpHeaders().forEach((name, values) -> {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (SKIPPED_RESPONSE_HEADERS.contains(lower) || lower.startsWith("access-control-")) {
+                return;
+            }
+            if (lower.equals("vary") && target.containsHeader(HttpHeaders.VARY)) {
+                return; // CORS handling in the BFF already set Vary
+            }
+            target.put(name, values);
+        });
+
+        Flux<DataBuffer> body = downstream.bodyToFlux(DataBuffer.class);
+        MediaType contentType = target.getContentType();
+        if (contentType != null && STREAMING_TYPES.stream().anyMatch(t -> t.isCompatibleWith(contentType))) {
+            return response.writeAndFlushWith(body.map(Flux::just));
+        }
+        return response.writeWith(body);
+    }
+
+    /**
+     * @param variables path variables, already encoded; only the literal parts of the target are encoded here
+     */
+    private URI targetUri(ProxyProperties.Route route, Map<String, String> variables, String rawQuery) {
+        String target = route.getTarget();
+        StringBuilder targetPath = new StringBuilder();
+        Matcher variable = TARGET_VARIABLE.matcher(target);
+        int literalStart = 0;
+        while (variable.find()) {
+            targetPath.append(UriUtils.encodePath(target.substring(literalStart, variable.start()), StandardCharsets.UTF_8))
+                    .append(variables.getOrDefault(variable.group(1), ""));
+            literalStart = variable.end();
+        }
+        targetPath.append(UriUtils.encodePath(target.substring(literalStart), StandardCharsets.UTF_8));
+
+        String uri = downstreamClients.baseUrl(route.getService())
+                + targetPath
+                + (rawQuery != null ? "?" + rawQuery : "");
+        return URI.create(uri);
+    }
+
+    /**
+     * The match's variables in encoded form. PathPattern hands out decoded values, in which "/" and
+     * "%2F" look the same: a {*rest} capture is taken from the raw path instead, and a single-segment
+     * variable is re-encoded as one segment.
+     */
+    private static Map<String, String> rawVariables(CompiledRoute route, PathContainer path, PathPattern.PathMatchInfo match) {
+        Map<String, String> variables = new HashMap<>();
+        match.getUriVariables().forEach((name, value) -> variables.put(name,
+                name.equals(route.captureAll())
+                        ? path.subPath(route.captureAllStart()).value()
+                        : UriUtils.encodePathSegment(value, StandardCharsets.UTF_8)));
+        return variables;
+    }
+
+    private static boolean hasDotSegment(PathContainer path) {
+        return path.elements().stream().anyMatch(element -> element instanceof PathContainer.PathSegment segment
+                && (segment.valueToMatch().equals(".") || segment.valueToMatch().equals("..")));
+    }
+
+    private static void copyRequestHeaders(HttpHeaders source, HttpHeaders target) {
+        source.forEach((name, values) -> {
+            if (!SKIPPED_REQUEST_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                target.put(name, values);
+            }
+        });
+    }
+
+    private static boolean hasBody(HttpHeaders headers) {
+        return headers.getContentLength() > 0 || headers.containsHeader(HttpHeaders.TRANSFER_ENCODING);
+    }
+
+    private static Mono<Void> writeError(ServerHttpResponse response, HttpStatus status, String message) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body = ("{\"error\":\"" + message.replace("\"", "'") + "\"}").getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private static String capitalize(String s) {
+        return s.isEmpty() ? s : Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+
+    /**
+     * @param captureAll name of the route's {*name} variable, or null
+     * @param captureAllStart index of the path element where that capture begins (the "/" before it)
+     */
+    private record CompiledRoute(PathPattern pattern, ProxyProperties.Route route, String captureAll, int captureAllStart) {
+
+        private static final Pattern CAPTURE_ALL = Pattern.compile("\\{\\*([^}]+)}");
+
+        static CompiledRoute of(ProxyProperties.Route route) {
+            PathPattern pattern = PathPatternParser.defaultInstance.parse(route.getPath());
+            Matcher captureAll = CAPTURE_ALL.matcher(route.getPath());
+            if (!captureAll.find()) {
+                return new CompiledRoute(pattern, route, null, 0);
+            }
+            // "/api/auth/{*rest}" captures from the "/" after "/api/auth", i.e. after its 4 elements
+            String prefix = route.getPath().substring(0, captureAll.start());
+            prefix = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+            return new CompiledRoute(pattern, route, captureAll.group(1), PathContainer.parsePath(prefix).elements().size());
+        }
+    }
+}
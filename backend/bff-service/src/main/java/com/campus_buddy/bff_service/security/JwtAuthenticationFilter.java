@@ -1,30 +1,27 @@
 package com.campus_buddy.bff_service.security;
 
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
 
-import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 
 /**
- * JWT Filter for BFF - validates tokens and sets security context
+ * JWT Filter for BFF - validates tokens and sets the reactive security context.
+ * Registered only inside the security filter chain (see SecurityConfig), not as a global WebFilter.
  */
-@Component
-public class JwtAuthenticationFilter extends OncePerRequestFilter {
+public class JwtAuthenticationFilter implements WebFilter {
 
-    @Autowired
-    private JwtService jwtService;
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     // Public endpoints that don't require authentication
     private static final List<String> PUBLIC_PATHS = List.of(
@@ -32,51 +29,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/api/auth/register"
     );
 
+    private final JwtService jwtService;
+
+    public JwtAuthenticationFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
     @Override
-    protected void doFilterInternal(
-            @NonNull HttpServletRequest request,
-            @NonNull HttpServletResponse response,
-            @NonNull FilterChain filterChain
-    ) throws ServletException, IOException {
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
 
-        String path = request.getRequestURI();
+        String path = exchange.getRequest().getPath().value();
 
         // Skip JWT validation for public endpoints
         if (PUBLIC_PATHS.stream().anyMatch(path::startsWith)) {
-            filterChain.doFilter(request, response);
-            return;
+            return chain.filter(exchange);
         }
 
-        final String authHeader = request.getHeader("Authorization");
+        final String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
+            return chain.filter(exchange);
         }
 
         try {
             final String jwt = authHeader.substring(7);
             final String userEmail = jwtService.extractEmail(jwt);
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtService.validateToken(jwt)) {
-                    var role = jwtService.extractRole(jwt);
-                    var authority = new SimpleGrantedAuthority("ROLE_" + role.name());
+            if (userEmail != null && jwtService.validateToken(jwt)) {
+                var role = jwtService.extractRole(jwt);
+                var authority = new SimpleGrantedAuthority("ROLE_" + role.name());
 
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userEmail,
-                            null,
-                            Collections.singletonList(authority)
-                    );
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        userEmail,
+                        null,
+                        Collections.singletonList(authority)
+                );
 
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                return chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authToken));
             }
         } catch (Exception e) {
-            logger.error("BFF: JWT validation error: " + e.getMessage());
+            log.error("BFF: JWT validation error: {}", e.getMessage());
         }
 
-        filterChain.doFilter(request, response);
+        return chain.filter(exchange);
     }
 }
@@ -1,9 +1,11 @@
 package com.campus_buddy.bff_service.security;
 
 import com.campus_buddy.bff_service.model.Role;
+import com.campus_buddy.common.security.JwtClaimsCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -21,12 +23,25 @@ public class JwtService {
     @Value("${jwt.secret}")
     private String secret;
 
+    @Value("${jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    private SecretKey signingKey;
+
+    /**
+     * Verified claims keyed by token, so each distinct token is parsed and its signature checked once.
+     * LRU-bounded by jwt.claims-cache-size; entries are dropped once the token's exp passes.
+     */
+    private JwtClaimsCache claimsCache;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        claimsCache = new JwtClaimsCache(Jwts.parser().verifyWith(signingKey).build(), claimsCacheSize);
+    }
+
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
             return !isTokenExpired(token);
         } catch (Exception e) {
             return false;
@@ -56,14 +71,7 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // Throws for bad signatures and expired tokens; only verified claims are cached
+        return claimsCache.claims(token);
     }
 }
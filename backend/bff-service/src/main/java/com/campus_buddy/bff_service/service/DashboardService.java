@@ -0,0 +1,106 @@
+package com.campus_buddy.bff_service.service;
+
+import com.campus_buddy.bff_service.config.DownstreamClients;
+import com.campus_buddy.bff_service.config.ProxyProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Dashboard Service - fans out to every {@code bff.dashboard.sections} entry concurrently and
+ * merges the downstream JSON bodies into one document:
+ *
+ * <pre>{"profile":{...},"timetable":[...],...,"errors":{"notices":"timeout"}}</pre>
+ *
+ * A section that times out, fails or returns a non-2xx status is rendered as {@code null} and listed
+ * under {@code errors}, so one slow service degrades its own section instead of the whole page.
+ * Bodies are embedded verbatim (never parsed) since the downstreams already return JSON.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private final DownstreamClients downstreamClients;
+    private final ProxyProperties.Dashboard dashboard;
+
+    public DashboardService(ProxyProperties properties, DownstreamClients downstreamClients) {
+        this.downstreamClients = downstreamClients;
+        this.dashboard = properties.getDashboard();
+    }
+
+    /**
+     * Build the dashboard for the caller identified by the given Authorization header
+     */
+    public Mono<String> load(String authorization) {
+        List<ProxyProperties.Section> sections = dashboard.getSections();
+        return Flux.fromIterable(sections)
+                .flatMapSequential(section -> fetch(section, authorization), Math.max(1, sections.size()))
+                .collectList()
+                .map(DashboardService::merge);
+    }
+
+    private Mono<SectionResult> fetch(ProxyProperties.Section section, String authorization) {
+        Duration timeout = section.getTimeout() != null ? section.getTimeout() : dashboard.getDefaultTimeout();
+
+        return downstreamClients.client(section.getService())
+                .get()
+                .uri(downstreamClients.baseUrl(section.getService()) + section.getPath())
+                .headers(headers -> {
+                    if (authorization != null) {
+                        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.releaseBody()
+                                .thenReturn(SectionResult.failed(section.getName(), "HTTP " + response.statusCode().value()));
+                    }
+                    return response.bodyToMono(String.class)
+                            .filter(body -> !body.isBlank())
+                            .defaultIfEmpty("null")
+                            .map(body -> SectionResult.ok(section.getName(), body));
+                })
+                .timeout(timeout)
+                .onErrorResume(e -> {
+                    String reason = e instanceof TimeoutException ? "timeout" : "unavailable";
+                    log.warn("Dashboard section {} {}: {}", section.getName(), reason, e.getMessage());
+                    return Mono.just(SectionResult.failed(section.getName(), reason));
+                });
+    }
+
+    private static String merge(List<SectionResult> results) {
+        StringBuilder json = new StringBuilder(256);
+        StringBuilder errors = new StringBuilder();
+        json.append('{');
+        for (SectionResult result : results) {
+            json.append('"').append(result.name()).append("\":").append(result.body()).append(',');
+            if (result.error() != null) {
+                if (!errors.isEmpty()) {
+                    errors.append(',');
+                }
+                errors.append('"').append(result.name()).append("\":\"").append(result.error()).append('"');
+            }
+        }
+        json.append("\"errors\":{").append(errors).append("}}");
+        return json.toString();
+    }
+
+    private record SectionResult(String name, String body, String error) {
+
+        static SectionResult ok(String name, String body) {
+            return new SectionResult(name, body, null);
+        }
+
+        static SectionResult failed(String name, String error) {
+            return new SectionResult(name, "null", error);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.campus_buddy.bff_service;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test for the BFF proxy path against a downstream that answers with 500 ms latency.
+ * With non-blocking proxying, concurrent requests overlap instead of each pinning a server thread.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BffThroughputTest {
+
+    private static final Duration DOWNSTREAM_LATENCY = Duration.ofMillis(500);
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    private static DisposableServer slowAcademicService;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${jwt.secret}")
+    private String secret;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void downstreamUrls(DynamicPropertyRegistry registry) {
+        slowAcademicService = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/timetable", (req, res) ->
+                        Mono.delay(DOWNSTREAM_LATENCY)
+                                .then(res.header(HttpHeaders.CONTENT_TYPE, "application/json")
+                                        .sendString(Mono.just("[]"))
+                                        .then())))
+                .bindNow();
+        registry.add("services.academic.url", () -> "http://localhost:" + slowAcademicService.port());
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        slowAcademicService.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Slow downstream — concurrent requests overlap without one thread per request")
+    void slowDownstream_concurrentRequests_shouldOverlap() {
+        String token = Jwts.builder()
+                .subject("student@example.com")
+                .claim("role", "STUDENT")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        WebClient client = WebClient.create("http://localhost:" + port);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int threadsBefore = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+        long start = System.nanoTime();
+
+        List<ResponseEntity<Void>> responses = Flux.range(0, CONCURRENT_REQUESTS)
+                .flatMap(i -> client.get()
+                        .uri("/api/academic/timetable")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .retrieve()
+                        .toBodilessEntity(), CONCURRENT_REQUESTS)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        int peakThreads = threads.getPeakThreadCount();
+
+        assertThat(responses).hasSize(CONCURRENT_REQUESTS)
+                .allMatch(r -> r.getStatusCode().is2xxSuccessful());
+        // Serial handling would take CONCURRENT_REQUESTS × 500 ms = 16 s
+        assertThat(elapsedMs).as("elapsed ms for %d overlapping requests", CONCURRENT_REQUESTS).isLessThan(5_000);
+        assertThat(peakThreads - threadsBefore).as("threads added under load").isLessThan(CONCURRENT_REQUESTS);
+
+        // The academic pool publishes its gauges for actuator
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", "academic").gauge()).isNotNull();
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.pending.connections")
+                .tag("name", "academic").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,177 @@
+package com.campus_buddy.bff_service.proxy;
+
+import com.campus_buddy.bff_service.config.DownstreamClients;
+import com.campus_buddy.bff_service.config.ProxyProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReverseProxy.
+ * Covers: route matching with path variables, status/header passthrough, body streaming, unknown routes,
+ * stream routes outliving the response timeout, encoded path variables and dot segments.
+ */
+class ReverseProxyTest {
+
+    private static DisposableServer academicStub;
+
+    private ReverseProxy reverseProxy;
+
+    @BeforeAll
+    static void startStub() {
+        academicStub = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/attendance/faculty/{courseCode}", (req, res) -> res
+                                .status(409)
+                                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                                .header("X-Course", req.param("courseCode"))
+                                .header(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*")
+                                .sendString(Mono.just("{\"query\":\"" + req.uri() + "\"}")))
+                        .post("/attendance/mark", (req, res) -> res
+                                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                                .header("X-Auth", req.requestHeaders().get(HttpHeaders.AUTHORIZATION))
+                                .send(req.receive().retain()))
+                        .get("/events", (req, res) -> res
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                                .sendString(Flux.just("data: one\n\n", "data: two\n\n")
+                                        .delayElements(Duration.ofMillis(400)))))
+                .bindNow();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        academicStub.disposeNow();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ProxyProperties.Route route = new ProxyProperties.Route();
+        route.setPath("/api/academic/attendance/{*rest}");
+        route.setService("academic");
+        route.setTarget("/attendance{rest}");
+        ProxyProperties.Route events = new ProxyProperties.Route();
+        events.setPath("/api/academic/events");
+        events.setService("academic");
+        events.setTarget("/events");
+        events.setStream(true);
+        ProxyProperties.Route polledEvents = new ProxyProperties.Route();
+        polledEvents.setPath("/api/academic/events-polled");
+        polledEvents.setService("academic");
+        polledEvents.setTarget("/events");
+        ProxyProperties properties = new ProxyProperties();
+        properties.setRoutes(List.of(route, events, polledEvents));
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("services.academic.url", "http://localhost:" + academicStub.port())
+                .withProperty("services.academic.response-timeout", "200ms");
+        reverseProxy = new ReverseProxy(properties, new DownstreamClients(environment, WebClient.builder()));
+    }
+
+    @Test
+    @DisplayName("Proxy — downstream status, headers and query string pass through; CORS headers do not")
+    void forward_shouldPassStatusAndHeadersThrough() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/academic/attendance/faculty/CS101?from=2024-01-01").build());
+
+        reverseProxy.forward(exchange).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Course")).isEqualTo("CS101");
+        assertThat(exchange.getResponse().getHeaders().containsHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isFalse();
+        assertThat(exchange.getResponse().getBodyAsString().block())
+                .contains("/attendance/faculty/CS101?from=2024-01-01");
+    }
+
+    @Test
+    @DisplayName("Proxy — request body and Authorization header are streamed to the downstream")
+    void forward_shouldStreamRequestBody() {
+        String body = "{\"sessionCode\":\"ABC123\"}";
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/api/academic/attendance/mark")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .contentLength(body.length())
+                        .body(body));
+
+        reverseProxy.forward(exchange).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Auth")).isEqualTo("Bearer token");
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Proxy — a stream route is not cut off by the response timeout; a regular route is")
+    void forward_streamRoute_shouldOutliveResponseTimeout() {
+        MockServerWebExchange stream = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/academic/events").build());
+        MockServerWebExchange polled = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/academic/events-polled").build());
+
+        reverseProxy.forward(stream).block(Duration.ofSeconds(5));
+        reverseProxy.forward(polled).onErrorComplete().block(Duration.ofSeconds(5));
+
+        assertThat(stream.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(stream.getResponse().getBodyAsString().block()).isEqualTo("data: one\n\ndata: two\n\n");
+        assertThat(polled.getResponse().getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    @DisplayName("Proxy — an encoded slash in a path variable stays encoded downstream instead of adding a segment")
+    void forward_encodedSlash_shouldStayEncoded() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.method(HttpMethod.GET, URI.create("/api/academic/attendance/faculty/CS%2F101?from=x")).build());
+
+        reverseProxy.forward(exchange).block(Duration.ofSeconds(5));
+
+        // Decoded, the target would be /attendance/faculty/CS/101, which the stub does not serve
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("/attendance/faculty/CS%2F101?from=x");
+    }
+
+    @Test
+    @DisplayName("Proxy — dot segments, plain or encoded, are rejected with 400 without calling any downstream")
+    void forward_dotSegments_shouldReturnBadRequest() {
+        for (String path : List.of("/api/academic/attendance/../auth/me", "/api/academic/attendance/%2E%2E/auth/me",
+                "/api/academic/attendance/./mark")) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(
+                    MockServerHttpRequest.method(HttpMethod.GET, URI.create(path)).build());
+
+            reverseProxy.forward(exchange).block(Duration.ofSeconds(5));
+
+            assertThat(exchange.getResponse().getStatusCode()).as(path).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Test
+    @DisplayName("Proxy — unmatched path returns 404 without calling any downstream")
+    void forward_unknownRoute_shouldReturnNotFound() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/api/unknown").build());
+
+        reverseProxy.forward(exchange).block(Duration.ofSeconds(5));
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,101 @@
+package com.campus_buddy.bff_service.service;
+
+import com.campus_buddy.bff_service.config.DownstreamClients;
+import com.campus_buddy.bff_service.config.ProxyProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DashboardService.
+ * Covers: concurrent fan-out, per-section timeout, non-2xx fallback, Authorization forwarding.
+ */
+class DashboardServiceTest {
+
+    private static final Duration SLOW = Duration.ofMillis(400);
+
+    private static DisposableServer stub;
+
+    @BeforeAll
+    static void startStub() {
+        stub = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/me", (req, res) -> res
+                                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                                .sendString(Mono.just("{\"auth\":\"" + req.requestHeaders().get(HttpHeaders.AUTHORIZATION) + "\"}")))
+                        .get("/slow", (req, res) -> Mono.delay(SLOW)
+                                .then(res.header(HttpHeaders.CONTENT_TYPE, "application/json")
+                                        .sendString(Mono.just("[1]")).then()))
+                        .get("/hang", (req, res) -> Mono.delay(Duration.ofSeconds(5))
+                                .then(res.sendString(Mono.just("[]")).then()))
+                        .get("/broken", (req, res) -> res.status(500).sendString(Mono.just("boom"))))
+                .bindNow();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Dashboard — sections load concurrently; slow and failing sections fall back to null")
+    void load_shouldMergeSectionsWithPartialFallback() {
+        DashboardService service = service(List.of(
+                section("profile", "/me", null),
+                section("timetable", "/slow", null),
+                section("notices", "/slow", null),
+                section("attendance", "/hang", Duration.ofMillis(600)),
+                section("facilities", "/broken", null)));
+
+        long start = System.nanoTime();
+        String json = service.load("Bearer abc").block(Duration.ofSeconds(5));
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(json).isEqualTo("{\"profile\":{\"auth\":\"Bearer abc\"},"
+                + "\"timetable\":[1],\"notices\":[1],\"attendance\":null,\"facilities\":null,"
+                + "\"errors\":{\"attendance\":\"timeout\",\"facilities\":\"HTTP 500\"}}");
+        // Bounded by the slowest section (600 ms timeout), not the sum of all calls
+        assertThat(elapsedMs).isLessThan(1_500);
+    }
+
+    @Test
+    @DisplayName("Dashboard — all sections succeed, errors is empty")
+    void load_allSucceed_shouldHaveEmptyErrors() {
+        DashboardService service = service(List.of(section("profile", "/me", null)));
+
+        String json = service.load(null).block(Duration.ofSeconds(5));
+
+        assertThat(json).isEqualTo("{\"profile\":{\"auth\":\"null\"},\"errors\":{}}");
+    }
+
+    private static DashboardService service(List<ProxyProperties.Section> sections) {
+        ProxyProperties properties = new ProxyProperties();
+        properties.getDashboard().setDefaultTimeout(Duration.ofSeconds(2));
+        properties.getDashboard().setSections(sections);
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("services.stub.url", "http://localhost:" + stub.port());
+        return new DashboardService(properties, new DownstreamClients(environment, WebClient.builder()));
+    }
+
+    private static ProxyProperties.Section section(String name, String path, Duration timeout) {
+        ProxyProperties.Section section = new ProxyProperties.Section();
+        section.setName(name);
+        section.setService("stub");
+        section.setPath(path);
+        section.setTimeout(timeout);
+        return section;
+    }
+}
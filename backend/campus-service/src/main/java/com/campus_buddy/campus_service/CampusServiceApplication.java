@@ -7,6 +7,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 
+import java.util.List;
+
 @SpringBootApplication
 public class CampusServiceApplication {
 
@@ -22,25 +24,24 @@ public class CampusServiceApplication {
                 auditorium.setName("Main Auditorium");
                 auditorium.setDescription("Large hall suitable for major events, guest lectures, and cultural fests.");
                 auditorium.setCapacity(500);
-                repository.save(auditorium);
 
                 Facility seminarHall = new Facility();
                 seminarHall.setName("CS Seminar Hall");
                 seminarHall.setDescription("Equipped with projector and smart board. Ideal for department meetings and workshops.");
                 seminarHall.setCapacity(100);
-                repository.save(seminarHall);
 
                 Facility tennisCourt = new Facility();
                 tennisCourt.setName("Outdoor Tennis Court");
                 tennisCourt.setDescription("Synthetic hard court. Must bring own rackets and balls.");
                 tennisCourt.setCapacity(4);
-                repository.save(tennisCourt);
                 
                 Facility ground = new Facility();
                 ground.setName("Main Sports Ground");
                 ground.setDescription("Large open ground for cricket, football, or athletics.");
                 ground.setCapacity(200);
-                repository.save(ground);
+
+                // One batched INSERT round trip
+                repository.saveAll(List.of(auditorium, seminarHall, tennisCourt, ground));
 
                 System.out.println("Facility database seeded!");
             }
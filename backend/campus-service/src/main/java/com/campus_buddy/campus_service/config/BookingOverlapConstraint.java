@@ -0,0 +1,54 @@
+package com.campus_buddy.campus_service.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds a PostgreSQL exclusion constraint so two APPROVED bookings for the same facility can never
+ * overlap, even across service instances. The in-memory BookingIntervalIndex rejects conflicts
+ * early; this is the backstop. Skipped on other databases (H2 for local dev).
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingOverlapConstraint {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingOverlapConstraint.class);
+
+    private static final String CONSTRAINT_NAME = "facility_booking_no_overlap";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureConstraint() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(database)) {
+            log.info("Skipping booking exclusion constraint on {}", database);
+            return;
+        }
+
+        try {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_constraint WHERE conname = ?", Integer.class, CONSTRAINT_NAME);
+            if (existing != null && existing > 0) {
+                return;
+            }
+
+            // btree_gist lets the plain equality on facility_id share a GiST index with the range overlap
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+            jdbcTemplate.execute("ALTER TABLE facility_booking ADD CONSTRAINT " + CONSTRAINT_NAME +
+                    " EXCLUDE USING gist (facility_id WITH =," +
+                    " tsrange(\"date\" + start_time, \"date\" + end_time) WITH &&)" +
+                    " WHERE (status = 'APPROVED')");
+            log.info("Created booking exclusion constraint {}", CONSTRAINT_NAME);
+        } catch (Exception e) {
+            // e.g. no privilege to create the extension, or legacy overlapping rows
+            log.warn("Could not create booking exclusion constraint {}: {}", CONSTRAINT_NAME, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.campus_buddy.campus_service.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One-time migration of the notices, facility and facility_booking tables from IDENTITY to pooled-lo
+ * sequence ids: moves notices_seq, facility_seq and facility_booking_seq past the highest existing id
+ * of their table, so notices, facilities and bookings created before the switch keep their ids (notice
+ * ids are the last key of the feed's paging cursor) and new ones never collide with them.
+ *
+ * Runs after Hibernate has created the sequences (depends on the EntityManagerFactory) and before
+ * the web server accepts requests. A sequence is only ever moved forward, and only when existing ids
+ * reach the next value it would hand out, so restarts and other running instances are unaffected.
+ * PostgreSQL only.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class SequenceAlignment {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceAlignment.class);
+
+    /** table → sequence, matching the @SequenceGenerator declarations on the entities */
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "notices", "notices_seq",
+            "facility", "facility_seq",
+            "facility_booking", "facility_booking_seq"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void align() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(database)) {
+            return;
+        }
+        SEQUENCES.forEach(this::align);
+    }
+
+    private void align(String table, String sequence) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT start_value, last_value, increment_by FROM pg_sequences WHERE sequencename = ?", sequence);
+            if (rows.isEmpty() || maxId == null) {
+                return;
+            }
+
+            // With pooled-lo, every id below last_value + increment_by may already be handed out
+            Map<String, Object> seq = rows.get(0);
+            Number last = (Number) seq.get("last_value");
+            long nextFree = last == null
+                    ? ((Number) seq.get("start_value")).longValue()
+                    : last.longValue() + ((Number) seq.get("increment_by")).longValue();
+
+            if (maxId >= nextFree) {
+                jdbcTemplate.queryForObject("SELECT setval(?::regclass, ?, false)", Long.class, sequence, maxId + 1);
+                log.info("Aligned sequence {} past existing {} ids: next id {}", sequence, table, maxId + 1);
+            }
+        } catch (Exception e) {
+            log.warn("Could not align sequence {} for table {}: {}", sequence, table, e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.campus_buddy.campus_service.controller;
 
+import com.campus_buddy.campus_service.dto.FacilityAvailability;
 import com.campus_buddy.campus_service.model.Facility;
 import com.campus_buddy.campus_service.model.FacilityBooking;
 import com.campus_buddy.campus_service.service.FacilityService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,6 +24,28 @@ public class FacilityController {
         return ResponseEntity.ok(facilityService.getAllFacilities());
     }
 
+    /**
+     * GET /facilities/availability?date=2025-03-10 or ?from=2025-03-10&to=2025-03-16, optional minCapacity
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<?> getAvailability(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer minCapacity) {
+        LocalDate start = date != null ? date : from;
+        LocalDate end = date != null ? date : (to != null ? to : from);
+        if (start == null) {
+            return ResponseEntity.badRequest().body("Either 'date' or 'from' is required.");
+        }
+        try {
+            List<FacilityAvailability> availability = facilityService.getAvailability(start, end, minCapacity);
+            return ResponseEntity.ok(availability);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/bookings")
     public ResponseEntity<List<FacilityBooking>> getMyBookings(@RequestParam String userEmail) {
         return ResponseEntity.ok(facilityService.getBookingsForUser(userEmail));
@@ -1,20 +1,24 @@
 package com.campus_buddy.campus_service.controller;
 
 import com.campus_buddy.campus_service.model.Notice;
-import com.campus_buddy.campus_service.model.NoticePriority;
-import com.campus_buddy.campus_service.repository.NoticeRepository;
+import com.campus_buddy.campus_service.service.NoticeService;
+import com.campus_buddy.campus_service.service.NoticeStreamHub;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/notices")
@@ -22,32 +26,38 @@ public class NoticeController {
 
     private static final Logger log = LoggerFactory.getLogger(NoticeController.class);
 
-    /**
-     * Deterministic priority ordering map.
-     * Ensures HIGH always comes first, regardless of alphabetical enum string ordering.
-     */
-    private static final Map<NoticePriority, Integer> PRIORITY_ORDER = Map.of(
-        NoticePriority.HIGH, 1,
-        NoticePriority.MEDIUM, 2,
-        NoticePriority.LOW, 3
-    );
+    @Autowired
+    private NoticeService noticeService;
 
     @Autowired
-    private NoticeRepository noticeRepository;
+    private NoticeStreamHub noticeStreamHub;
 
+    /**
+     * Without limit: the full feed, served pre-serialized; 304 when If-None-Match matches the ETag.
+     * With limit: one keyset page ({items, nextCursor}); pass nextCursor back as cursor for the next page.
+     */
     @GetMapping
-    public ResponseEntity<?> getAllNotices(@RequestParam(defaultValue = "false") boolean archived) {
+    public ResponseEntity<?> getAllNotices(@RequestParam(defaultValue = "false") boolean archived,
+                                           @RequestParam(required = false) Integer limit,
+                                           @RequestParam(required = false) String cursor,
+                                           WebRequest request) {
         try {
-            List<Notice> notices = noticeRepository.findByArchivedOrderByCreatedAtDesc(archived);
-
-            // Sort by priority (HIGH first), then by date (newest first)
-            notices.sort(
-                Comparator
-                    .<Notice, Integer>comparing(n -> PRIORITY_ORDER.getOrDefault(n.getPriority(), 4))
-                    .thenComparing(Notice::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
-            );
-
-            return ResponseEntity.ok(notices);
+            if (limit != null) {
+                return ResponseEntity.ok(noticeService.getPage(archived, limit, cursor));
+            }
+
+            NoticeService.NoticeFeed feed = noticeService.getFeed(archived);
+            if (request.checkNotModified(feed.etag())) {
+                return null;
+            }
+
+            return ResponseEntity.ok()
+                    .eTag(feed.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(feed.body());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             log.error("Error fetching notices: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -55,6 +65,25 @@ public class NoticeController {
         }
     }
 
+    /**
+     * Server-Sent Events stream of notice-created / notice-archived deltas; 503 when the stream limit is reached
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNotices() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        try {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .header("X-Accel-Buffering", "no")
+                    .body(noticeStreamHub.subscribe(auth.getName()));
+        } catch (IllegalStateException e) {
+            log.warn("Notice stream rejected for {}: {}", auth.getName(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<?> createNotice(@RequestBody Notice notice) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -72,10 +101,7 @@ public class NoticeController {
         }
 
         try {
-            notice.setPostedBy(auth.getName());
-            notice.setArchived(false);
-            Notice saved = noticeRepository.save(notice);
-            log.info("Notice created: id={}, title='{}', by={}", saved.getId(), saved.getTitle(), saved.getPostedBy());
+            Notice saved = noticeService.createNotice(notice, auth.getName());
             return ResponseEntity.ok(saved);
         } catch (Exception e) {
             log.error("Error creating notice: {}", e.getMessage(), e);
@@ -99,13 +125,8 @@ public class NoticeController {
                     .body(Map.of("error", "Access denied."));
         }
 
-        return noticeRepository.findById(id)
-                .map(notice -> {
-                    notice.setArchived(true);
-                    Notice saved = noticeRepository.save(notice);
-                    log.info("Notice archived: id={} by={}", id, auth.getName());
-                    return ResponseEntity.ok(saved);
-                })
+        return noticeService.archiveNotice(id, auth.getName())
+                .map(ResponseEntity::ok)
                 .orElseGet(() -> {
                     log.warn("Attempted to archive non-existent notice: id={}", id);
                     return ResponseEntity.notFound().build();
@@ -0,0 +1,40 @@
+package com.campus_buddy.campus_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Free windows of one facility, per day, within operating hours.
+ * Windows are aligned to 5-minute slots; a slot is free only if no booking touches it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacilityAvailability {
+
+    private Long facilityId;
+    private String name;
+    private Integer capacity;
+    private List<DayAvailability> days;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DayAvailability {
+        private LocalDate date;
+        private List<FreeWindow> freeWindows;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FreeWindow {
+        private LocalTime start;
+        private LocalTime end;
+    }
+}
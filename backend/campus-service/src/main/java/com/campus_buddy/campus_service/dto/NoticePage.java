@@ -0,0 +1,21 @@
+package com.campus_buddy.campus_service.dto;
+
+import com.campus_buddy.campus_service.model.Notice;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page of the notice feed.
+ * nextCursor is null on the last page; otherwise pass it back as ?cursor= to continue.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoticePage {
+
+    private List<Notice> items;
+    private String nextCursor;
+}
@@ -4,16 +4,21 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.Data;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_booking_date_facility", columnList = "date, facility_id"))
 @Data
 public class FacilityBooking {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "facility_booking_seq")
+    @SequenceGenerator(name = "facility_booking_seq", sequenceName = "facility_booking_seq", allocationSize = 50)
     private Long id;
     
     private Long facilityId;
@@ -1,5 +1,6 @@
 package com.campus_buddy.campus_service.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,14 +10,18 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notices")
+@Table(name = "notices", indexes = {
+        // Matches the feed order, so keyset pages are index range scans
+        @Index(name = "idx_notices_feed", columnList = "archived, priority_rank, created_at DESC, id DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Notice {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notices_seq")
+    @SequenceGenerator(name = "notices_seq", sequenceName = "notices_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -41,4 +46,15 @@ public class Notice {
 
     @CreationTimestamp
     private LocalDateTime createdAt;
+
+    /** Derived from priority on every write; nullable only so existing rows can be backfilled */
+    @JsonIgnore
+    @Column(name = "priority_rank")
+    private Integer priorityRank;
+
+    @PrePersist
+    @PreUpdate
+    void syncPriorityRank() {
+        priorityRank = priority != null ? priority.getRank() : null;
+    }
 }
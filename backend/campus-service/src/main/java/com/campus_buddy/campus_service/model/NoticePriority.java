@@ -1,7 +1,21 @@
 package com.campus_buddy.campus_service.model;
 
+/**
+ * Notice priority. The rank is persisted on each notice (priority_rank) so the feed can be
+ * ordered in SQL — STRING enum ordering is alphabetical, not semantic.
+ */
 public enum NoticePriority {
-    HIGH,
-    MEDIUM,
-    LOW
+    HIGH(1),
+    MEDIUM(2),
+    LOW(3);
+
+    private final int rank;
+
+    NoticePriority(int rank) {
+        this.rank = rank;
+    }
+
+    public int getRank() {
+        return rank;
+    }
 }
@@ -12,4 +12,5 @@ import java.util.List;
 public interface FacilityBookingRepository extends JpaRepository<FacilityBooking, Long> {
     List<FacilityBooking> findByUserEmailOrderByDateDescStartTimeDesc(String userEmail);
     List<FacilityBooking> findByFacilityIdAndDateAndStatus(Long facilityId, LocalDate date, String status);
+    List<FacilityBooking> findByDateBetweenAndStatus(LocalDate from, LocalDate to, String status);
 }
@@ -1,18 +1,50 @@
 package com.campus_buddy.campus_service.repository;
 
 import com.campus_buddy.campus_service.model.Notice;
+import com.campus_buddy.campus_service.model.NoticePriority;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
     /**
-     * Find notices by archived status, ordered by creation date (newest first).
-     * Priority sorting is handled in application code using a deterministic map
-     * (since STRING enum ordering is alphabetical, not semantic).
+     * Full feed in display order: priority rank (HIGH first), then newest first.
+     * Served by idx_notices_feed.
      */
-    List<Notice> findByArchivedOrderByCreatedAtDesc(boolean archived);
+    List<Notice> findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(boolean archived);
+
+    /**
+     * First keyset page of the feed
+     */
+    @Query("select n from Notice n where n.archived = :archived " +
+           "order by n.priorityRank asc, n.createdAt desc, n.id desc")
+    List<Notice> findFeedPage(@Param("archived") boolean archived, Limit limit);
+
+    /**
+     * Keyset page strictly after the cursor (rank, createdAt, id) in feed order
+     */
+    @Query("select n from Notice n where n.archived = :archived and (" +
+           "n.priorityRank > :rank or (n.priorityRank = :rank and (" +
+           "n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id)))) " +
+           "order by n.priorityRank asc, n.createdAt desc, n.id desc")
+    List<Notice> findFeedPageAfter(@Param("archived") boolean archived,
+                                   @Param("rank") int rank,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Limit limit);
+
+    /**
+     * Backfill priority_rank for rows written before the column existed
+     */
+    @Modifying
+    @Query("update Notice n set n.priorityRank = :rank where n.priority = :priority and n.priorityRank is null")
+    int backfillPriorityRank(@Param("priority") NoticePriority priority, @Param("rank") int rank);
 }
@@ -1,9 +1,11 @@
 package com.campus_buddy.campus_service.security;
 
 import com.campus_buddy.campus_service.model.Role;
+import com.campus_buddy.common.security.JwtClaimsCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -22,15 +24,31 @@ public class JwtService {
     @Value("${jwt.secret}")
     private String secret;
 
+    @Value("${jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    private SecretKey signingKey;
+
+    /**
+     * Verified claims keyed by token, so each distinct token is parsed and its signature checked once.
+     * LRU-bounded by jwt.claims-cache-size; entries are dropped once the token's exp passes.
+     */
+    private JwtClaimsCache claimsCache;
+
+    /**
+     * Build the signing key and parser once; both are immutable and thread-safe.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        claimsCache = new JwtClaimsCache(Jwts.parser().verifyWith(signingKey).build(), claimsCacheSize);
+    }
+
     /**
      * Validate JWT token
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
             return !isTokenExpired(token);
         } catch (Exception e) {
             return false;
@@ -92,17 +110,7 @@ public class JwtService {
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /**
-     * Get signing key from secret
-     */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // Throws for bad signatures and expired tokens; only verified claims are cached
+        return claimsCache.claims(token);
     }
 }
@@ -1,5 +1,6 @@
 package com.campus_buddy.campus_service.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,8 +31,10 @@ public class SecurityConfig {
                 // Disable CSRF (stateless JWT API)
                 .csrf(AbstractHttpConfigurer::disable)
                 
-                // All endpoints require authentication except health check
+                // All endpoints require authentication except health check. The ASYNC re-dispatch that
+                // ends a notice stream was authorized on the original request.
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().authenticated()
                 )
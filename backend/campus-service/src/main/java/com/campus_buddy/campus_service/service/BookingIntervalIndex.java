@@ -0,0 +1,223 @@
+package com.campus_buddy.campus_service.service;
+
+import com.campus_buddy.campus_service.model.FacilityBooking;
+import com.campus_buddy.campus_service.repository.FacilityBookingRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of APPROVED bookings per (facility, date), used for conflict detection.
+ *
+ * Each day is a TreeMap of disjoint intervals (start second-of-day → end second-of-day). New approved
+ * bookings never overlap, but legacy double bookings from before the exclusion constraint may
+ * (see BookingOverlapConstraint), so overlapping bookings are merged into one interval as they are
+ * added. A new interval [start, end)
+ * conflicts only if the booking with the greatest start before {@code end} is still running at
+ * {@code start} — one lowerEntry lookup, O(log n).
+ *
+ * Each day also keeps a bitmap of 5-minute slots (288 bits) with a bit set for every slot touched by
+ * a booking, which availability searches read instead of walking intervals.
+ *
+ * Every access to a (facility, date) entry must happen while holding {@link #lockFor}; the lock is
+ * striped so different facilities/days rarely contend. Entries are loaded from the database on first
+ * use (or in bulk by {@link #busySlots}) and entries for past dates are dropped when new days are loaded.
+ *
+ * An entry only reflects the bookings made through this instance since it was loaded, so entries are
+ * reloaded once they are older than {@code campus.facilities.index.ttl-ms}: bookings made (or cancelled)
+ * through other instances show up in availability within that time. Conflict checks stay safe in the
+ * meantime because the database exclusion constraint rejects what a stale entry misses.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingIntervalIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingIntervalIndex.class);
+
+    /** Availability bitmap granularity: 5-minute slots, 288 per day */
+    public static final int SLOT_SECONDS = 5 * 60;
+    public static final int SLOTS_PER_DAY = 24 * 60 * 60 / SLOT_SECONDS;
+
+    private static final int STRIPES = 64;
+    private static final String APPROVED = "APPROVED";
+
+    private final FacilityBookingRepository facilityBookingRepository;
+
+    @Value("${campus.facilities.index.ttl-ms:60000}")
+    private long ttlMs;
+
+    private final Map<DayKey, DayBookings> days = new ConcurrentHashMap<>();
+    private final Lock[] stripes = createStripes();
+
+    /**
+     * Lock guarding the given facility and date. Hold it across the overlap check, the DB write
+     * and {@link #add} so concurrent bookings for the same slot are serialized.
+     */
+    public Lock lockFor(Long facilityId, LocalDate date) {
+        return stripes[Math.floorMod(new DayKey(facilityId, date).hashCode(), STRIPES)];
+    }
+
+    /**
+     * True if [start, end) overlaps an approved booking. Adjacent slots (10:00-11:00 and 11:00-12:00)
+     * do not overlap. Caller must hold {@link #lockFor}.
+     */
+    public boolean overlaps(Long facilityId, LocalDate date, LocalTime start, LocalTime end) {
+        TreeMap<Integer, Integer> intervals = day(facilityId, date).intervals;
+        Map.Entry<Integer, Integer> before = intervals.lowerEntry(secondOf(end));
+        return before != null && before.getValue() > secondOf(start);
+    }
+
+    /**
+     * Record a newly approved booking. Caller must hold {@link #lockFor}.
+     */
+    public void add(FacilityBooking booking) {
+        day(booking.getFacilityId(), booking.getDate()).add(booking);
+    }
+
+    /**
+     * Busy-slot bitmaps for every facility and day in [from, to], keyed by facility then date.
+     * Days not yet indexed are loaded with a single range query. Takes the stripe locks itself.
+     */
+    public Map<Long, Map<LocalDate, BitSet>> busySlots(List<Long> facilityIds, LocalDate from, LocalDate to) {
+        warm(facilityIds, from, to);
+
+        Map<Long, Map<LocalDate, BitSet>> result = new HashMap<>();
+        for (Long facilityId : facilityIds) {
+            Map<LocalDate, BitSet> byDate = new TreeMap<>();
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                Lock lock = lockFor(facilityId, date);
+                lock.lock();
+                try {
+                    byDate.put(date, (BitSet) day(facilityId, date).busy.clone());
+                } finally {
+                    lock.unlock();
+                }
+            }
+            result.put(facilityId, byDate);
+        }
+        return result;
+    }
+
+    /**
+     * Drop the cached day so it is reloaded from the database, e.g. after a write was rejected by
+     * the database because another instance booked the slot first. Caller must hold {@link #lockFor}.
+     */
+    public void invalidate(Long facilityId, LocalDate date) {
+        days.remove(new DayKey(facilityId, date));
+    }
+
+    private DayBookings day(Long facilityId, LocalDate date) {
+        DayKey key = new DayKey(facilityId, date);
+        DayBookings day = days.get(key);
+        if (day == null || isStale(day)) {
+            day = new DayBookings(facilityBookingRepository.findByFacilityIdAndDateAndStatus(facilityId, date, APPROVED));
+            days.put(key, day);
+            evictPastDays();
+            log.debug("Booking index loaded: facility={}, date={}, intervals={}", facilityId, date, day.intervals.size());
+        }
+        return day;
+    }
+
+    /**
+     * Load every missing (facility, date) in the range from one query instead of one per day
+     */
+    private void warm(List<Long> facilityIds, LocalDate from, LocalDate to) {
+        boolean complete = facilityIds.stream().allMatch(facilityId -> from.datesUntil(to.plusDays(1)).allMatch(date -> {
+            DayBookings day = days.get(new DayKey(facilityId, date));
+            return day != null && !isStale(day);
+        }));
+        if (complete) {
+            return;
+        }
+
+        Map<DayKey, List<FacilityBooking>> bookings = facilityBookingRepository.findByDateBetweenAndStatus(from, to, APPROVED)
+                .stream()
+                .collect(Collectors.groupingBy(b -> new DayKey(b.getFacilityId(), b.getDate())));
+
+        for (Long facilityId : facilityIds) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                DayKey key = new DayKey(facilityId, date);
+                Lock lock = lockFor(facilityId, date);
+                lock.lock();
+                try {
+                    // A booking may have reloaded this day since the query; its copy is at least as fresh
+                    days.compute(key, (k, existing) -> existing != null && !isStale(existing)
+                            ? existing
+                            : new DayBookings(bookings.getOrDefault(key, List.of())));
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+        evictPastDays();
+        log.debug("Booking index warmed: facilities={}, {}..{}", facilityIds.size(), from, to);
+    }
+
+    private boolean isStale(DayBookings day) {
+        return System.currentTimeMillis() - day.loadedAt >= ttlMs;
+    }
+
+    private void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        days.keySet().removeIf(key -> key.date().isBefore(today));
+    }
+
+    private static int secondOf(LocalTime time) {
+        return time.toSecondOfDay();
+    }
+
+    private static Lock[] createStripes() {
+        Lock[] locks = new Lock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private record DayKey(Long facilityId, LocalDate date) {
+    }
+
+    /**
+     * Approved bookings of one facility on one day: disjoint intervals (overlapping bookings merged) for
+     * conflict checks and a 5-minute slot bitmap for availability. A slot is busy if any part of it is booked.
+     */
+    private static final class DayBookings {
+
+        private final TreeMap<Integer, Integer> intervals = new TreeMap<>();
+        private final BitSet busy = new BitSet(SLOTS_PER_DAY);
+        private final long loadedAt = System.currentTimeMillis();
+
+        DayBookings(List<FacilityBooking> bookings) {
+            bookings.forEach(this::add);
+        }
+
+        void add(FacilityBooking booking) {
+            int start = secondOf(booking.getStartTime());
+            int end = secondOf(booking.getEndTime());
+            busy.set(start / SLOT_SECONDS, (end + SLOT_SECONDS - 1) / SLOT_SECONDS);
+
+            // Absorb every interval the booking overlaps, so the map stays disjoint for lowerEntry
+            Map.Entry<Integer, Integer> overlapping;
+            while ((overlapping = intervals.lowerEntry(end)) != null && overlapping.getValue() > start) {
+                start = Math.min(start, overlapping.getKey());
+                end = Math.max(end, overlapping.getValue());
+                intervals.remove(overlapping.getKey());
+            }
+            intervals.put(start, end);
+        }
+    }
+}
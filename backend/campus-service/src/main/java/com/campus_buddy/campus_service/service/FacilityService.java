@@ -1,5 +1,6 @@
 package com.campus_buddy.campus_service.service;
 
+import com.campus_buddy.campus_service.dto.FacilityAvailability;
 import com.campus_buddy.campus_service.model.Facility;
 import com.campus_buddy.campus_service.model.FacilityBooking;
 import com.campus_buddy.campus_service.repository.FacilityBookingRepository;
@@ -7,11 +8,21 @@ import com.campus_buddy.campus_service.repository.FacilityRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+import static com.campus_buddy.campus_service.service.BookingIntervalIndex.SLOTS_PER_DAY;
+import static com.campus_buddy.campus_service.service.BookingIntervalIndex.SLOT_SECONDS;
 
 @Service
 @RequiredArgsConstructor
@@ -19,13 +30,66 @@ public class FacilityService {
 
     private static final Logger log = LoggerFactory.getLogger(FacilityService.class);
 
+    private static final int MAX_AVAILABILITY_DAYS = 31;
+
     private final FacilityRepository facilityRepository;
     private final FacilityBookingRepository facilityBookingRepository;
+    private final BookingIntervalIndex bookingIntervalIndex;
+
+    @Value("${campus.facilities.opening-time:08:00}")
+    private LocalTime openingTime;
+
+    @Value("${campus.facilities.closing-time:22:00}")
+    private LocalTime closingTime;
 
     public List<Facility> getAllFacilities() {
         return facilityRepository.findAll();
     }
 
+    /**
+     * Facilities with at least one free window between from and to (inclusive), within operating hours.
+     * Read from the in-memory slot bitmaps; cold days are loaded with one range query.
+     * @throws IllegalArgumentException if the range is reversed or longer than 31 days
+     */
+    public List<FacilityAvailability> getAvailability(LocalDate from, LocalDate to, Integer minCapacity) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_DAYS) {
+            throw new IllegalArgumentException("Availability range is limited to " + MAX_AVAILABILITY_DAYS + " days.");
+        }
+
+        List<Facility> facilities = facilityRepository.findAll().stream()
+                .filter(f -> minCapacity == null || (f.getCapacity() != null && f.getCapacity() >= minCapacity))
+                .toList();
+        Map<Long, Map<LocalDate, BitSet>> busy = bookingIntervalIndex.busySlots(
+                facilities.stream().map(Facility::getId).toList(), from, to);
+
+        int openSlot = slotCeil(openingTime.toSecondOfDay());
+        int closeSlot = closingTime.toSecondOfDay() / SLOT_SECONDS;
+        LocalDate today = LocalDate.now();
+        int nowSlot = slotCeil(LocalTime.now().toSecondOfDay());
+
+        List<FacilityAvailability> result = new ArrayList<>();
+        for (Facility facility : facilities) {
+            List<FacilityAvailability.DayAvailability> days = new ArrayList<>();
+            busy.get(facility.getId()).forEach((date, slots) -> {
+                if (date.isBefore(today)) {
+                    return;
+                }
+                int first = date.equals(today) ? Math.max(openSlot, nowSlot) : openSlot;
+                List<FacilityAvailability.FreeWindow> windows = freeWindows(slots, first, closeSlot);
+                if (!windows.isEmpty()) {
+                    days.add(new FacilityAvailability.DayAvailability(date, windows));
+                }
+            });
+            if (!days.isEmpty()) {
+                result.add(new FacilityAvailability(facility.getId(), facility.getName(), facility.getCapacity(), days));
+            }
+        }
+        return result;
+    }
+
     public List<FacilityBooking> getBookingsForUser(String userEmail) {
         return facilityBookingRepository.findByUserEmailOrderByDateDescStartTimeDesc(userEmail);
     }
@@ -55,33 +119,59 @@ public class FacilityService {
             throw new IllegalArgumentException("Start time must be before end time.");
         }
 
-        // Check for conflicts
-        List<FacilityBooking> existingBookings = facilityBookingRepository
-                .findByFacilityIdAndDateAndStatus(bookingRequest.getFacilityId(), bookingRequest.getDate(), "APPROVED");
-
-        boolean hasConflict = existingBookings.stream().anyMatch(existing -> {
-            LocalTime existingStart = existing.getStartTime();
-            LocalTime existingEnd = existing.getEndTime();
-            LocalTime newStart = bookingRequest.getStartTime();
-            LocalTime newEnd = bookingRequest.getEndTime();
-
-            // Overlap: starts before the other ends AND ends after the other starts
-            // Adjacent slots (e.g., 10:00-11:00 and 11:00-12:00) are NOT conflicts
-            return newStart.isBefore(existingEnd) && newEnd.isAfter(existingStart);
-        });
-
-        if (hasConflict) {
-            log.warn("Booking conflict: facility={}, date={}, time={}-{}",
-                    bookingRequest.getFacilityId(), bookingRequest.getDate(),
-                    bookingRequest.getStartTime(), bookingRequest.getEndTime());
-            throw new IllegalStateException("Facility '" + facility.getName() + "' is already booked for an overlapping time slot.");
+        // Check, write and index under the facility/date lock so concurrent requests cannot both pass the check
+        Lock lock = bookingIntervalIndex.lockFor(bookingRequest.getFacilityId(), bookingRequest.getDate());
+        lock.lock();
+        try {
+            if (bookingIntervalIndex.overlaps(bookingRequest.getFacilityId(), bookingRequest.getDate(),
+                    bookingRequest.getStartTime(), bookingRequest.getEndTime())) {
+                log.warn("Booking conflict: facility={}, date={}, time={}-{}",
+                        bookingRequest.getFacilityId(), bookingRequest.getDate(),
+                        bookingRequest.getStartTime(), bookingRequest.getEndTime());
+                throw new IllegalStateException("Facility '" + facility.getName() + "' is already booked for an overlapping time slot.");
+            }
+
+            // Auto-approve for now
+            bookingRequest.setStatus("APPROVED");
+            FacilityBooking saved;
+            try {
+                saved = facilityBookingRepository.saveAndFlush(bookingRequest);
+            } catch (DataIntegrityViolationException e) {
+                // Exclusion constraint: another instance booked the slot first; resync from the DB
+                bookingIntervalIndex.invalidate(bookingRequest.getFacilityId(), bookingRequest.getDate());
+                log.warn("Booking rejected by database: facility={}, date={}, time={}-{}",
+                        bookingRequest.getFacilityId(), bookingRequest.getDate(),
+                        bookingRequest.getStartTime(), bookingRequest.getEndTime());
+                throw new IllegalStateException("Facility '" + facility.getName() + "' is already booked for an overlapping time slot.");
+            }
+            bookingIntervalIndex.add(saved);
+            log.info("Booking created successfully: id={}, facility='{}', user={}", saved.getId(), facility.getName(), saved.getUserEmail());
+            return saved;
+        } finally {
+            lock.unlock();
         }
+    }
 
-        // Auto-approve for now
-        bookingRequest.setStatus("APPROVED");
-        FacilityBooking saved = facilityBookingRepository.save(bookingRequest);
-        log.info("Booking created successfully: id={}, facility='{}', user={}", saved.getId(), facility.getName(), saved.getUserEmail());
-        return saved;
+    /**
+     * Runs of clear bits in [from, to), as time windows
+     */
+    private static List<FacilityAvailability.FreeWindow> freeWindows(BitSet busy, int from, int to) {
+        List<FacilityAvailability.FreeWindow> windows = new ArrayList<>();
+        int start = busy.nextClearBit(from);
+        while (start < to) {
+            int next = busy.nextSetBit(start);
+            int end = next < 0 || next > to ? to : next;
+            windows.add(new FacilityAvailability.FreeWindow(timeOfSlot(start), timeOfSlot(end)));
+            start = busy.nextClearBit(end);
+        }
+        return windows;
     }
-}
 
+    private static int slotCeil(int secondOfDay) {
+        return (secondOfDay + SLOT_SECONDS - 1) / SLOT_SECONDS;
+    }
+
+    private static LocalTime timeOfSlot(int slot) {
+        return slot >= SLOTS_PER_DAY ? LocalTime.MAX : LocalTime.ofSecondOfDay((long) slot * SLOT_SECONDS);
+    }
+}
@@ -0,0 +1,225 @@
+package com.campus_buddy.campus_service.service;
+
+import com.campus_buddy.campus_service.dto.NoticePage;
+import com.campus_buddy.campus_service.model.Notice;
+import com.campus_buddy.campus_service.model.NoticePriority;
+import com.campus_buddy.campus_service.repository.NoticeRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Notice Service - owns notice writes and the cached notice feed.
+ *
+ * The feed for each archived flag is kept sorted and already serialized to JSON, so GET /notices
+ * is a map lookup plus a byte copy. Writes update the cached feeds in place (insert at the sorted
+ * position / move between feeds) instead of reloading from the database.
+ *
+ * Loads run inside compute and updates inside computeIfPresent, so a write that lands while a feed
+ * is being loaded waits for the load and is then applied on top of it.
+ *
+ * In-place updates only cover writes made through this instance, so a feed is reloaded from the
+ * database on the first read after {@code campus.notices.feed.ttl-ms}: notices posted or archived
+ * through other instances (and their ETag) show up within that time. The ETag is a hash of the body,
+ * so a reload that finds nothing new keeps serving 304s.
+ *
+ * Both writes are also pushed to open notice streams through {@link NoticeStreamHub}.
+ *
+ * Ordering is done in SQL on the persisted priority_rank column. Paged reads (getPage) go straight to
+ * the database with a keyset cursor, so the archived feed can grow without a full-list load.
+ */
+@Service
+@RequiredArgsConstructor
+public class NoticeService {
+
+    private static final Logger log = LoggerFactory.getLogger(NoticeService.class);
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** Same order as the SQL feed queries: priority rank, newest first, then id */
+    static final Comparator<Notice> FEED_ORDER = Comparator
+            .comparing(Notice::getPriorityRank, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Notice::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Notice::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final NoticeRepository noticeRepository;
+    private final ObjectMapper objectMapper;
+    private final NoticeStreamHub noticeStreamHub;
+
+    @Value("${campus.notices.feed.ttl-ms:30000}")
+    private long feedTtlMs;
+
+    private final Map<Boolean, NoticeFeed> feeds = new ConcurrentHashMap<>();
+
+    /**
+     * Sorted, serialized feed of active (archived=false) or archived notices
+     */
+    public NoticeFeed getFeed(boolean archived) {
+        NoticeFeed feed = feeds.get(archived);
+        if (feed != null && !isStale(feed)) {
+            return feed;
+        }
+        // Re-checked under the map's lock, so concurrent readers of a stale feed trigger one load
+        return feeds.compute(archived, (key, current) -> current == null || isStale(current) ? loadFeed(key) : current);
+    }
+
+    /**
+     * One keyset page of the feed, in the same order as getFeed
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @throws IllegalArgumentException if limit is out of range or the cursor is malformed
+     */
+    public NoticePage getPage(boolean archived, int limit, String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to know whether another page exists
+        Limit fetch = Limit.of(limit + 1);
+        List<Notice> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = noticeRepository.findFeedPage(archived, fetch);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = noticeRepository.findFeedPageAfter(archived, after.rank(), after.createdAt(), after.id(), fetch);
+        }
+
+        if (rows.size() <= limit) {
+            return new NoticePage(rows, null);
+        }
+        List<Notice> items = rows.subList(0, limit);
+        return new NoticePage(new ArrayList<>(items), Cursor.of(items.get(limit - 1)).encode());
+    }
+
+    public Notice createNotice(Notice notice, String postedBy) {
+        notice.setPostedBy(postedBy);
+        notice.setArchived(false);
+        Notice saved = noticeRepository.save(notice);
+        log.info("Notice created: id={}, title='{}', by={}", saved.getId(), saved.getTitle(), saved.getPostedBy());
+
+        feeds.computeIfPresent(false, (key, feed) -> insert(feed, saved));
+        noticeStreamHub.publishCreated(saved);
+        return saved;
+    }
+
+    /**
+     * Archive a notice; empty if it does not exist
+     */
+    public Optional<Notice> archiveNotice(Long id, String archivedBy) {
+        return noticeRepository.findById(id)
+                .map(notice -> {
+                    notice.setArchived(true);
+                    Notice saved = noticeRepository.save(notice);
+                    log.info("Notice archived: id={} by={}", id, archivedBy);
+
+                    feeds.computeIfPresent(false, (key, feed) -> remove(feed, id));
+                    feeds.computeIfPresent(true, (key, feed) -> insert(feed, saved));
+                    noticeStreamHub.publishArchived(saved);
+                    return saved;
+                });
+    }
+
+    /**
+     * Fill priority_rank on rows created before the column existed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillPriorityRank() {
+        int updated = 0;
+        for (NoticePriority priority : NoticePriority.values()) {
+            updated += noticeRepository.backfillPriorityRank(priority, priority.getRank());
+        }
+        if (updated > 0) {
+            log.info("Backfilled priority_rank on {} notices", updated);
+            feeds.clear();
+        }
+    }
+
+    private NoticeFeed loadFeed(boolean archived) {
+        List<Notice> notices = new ArrayList<>(
+                noticeRepository.findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(archived));
+        log.debug("Notice feed loaded: archived={}, size={}", archived, notices.size());
+        return build(notices, System.currentTimeMillis());
+    }
+
+    private boolean isStale(NoticeFeed feed) {
+        return System.currentTimeMillis() - feed.loadedAt() >= feedTtlMs;
+    }
+
+    private NoticeFeed insert(NoticeFeed feed, Notice notice) {
+        List<Notice> updated = new ArrayList<>(feed.notices().size() + 1);
+        updated.addAll(feed.notices());
+        updated.removeIf(n -> n.getId().equals(notice.getId()));
+        int index = Collections.binarySearch(updated, notice, FEED_ORDER);
+        updated.add(index < 0 ? -index - 1 : index, notice);
+        return build(updated, feed.loadedAt());
+    }
+
+    private NoticeFeed remove(NoticeFeed feed, Long id) {
+        List<Notice> updated = new ArrayList<>(feed.notices());
+        return updated.removeIf(n -> n.getId().equals(id)) ? build(updated, feed.loadedAt()) : feed;
+    }
+
+    private NoticeFeed build(List<Notice> sorted, long loadedAt) {
+        byte[] body = objectMapper.writeValueAsBytes(sorted);
+        return new NoticeFeed(Collections.unmodifiableList(sorted), body,
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"", loadedAt);
+    }
+
+    /**
+     * Immutable snapshot of one feed: the sorted notices, their JSON, a strong ETag over that JSON and
+     * when it was last loaded from the database (in-place updates keep the time of the load)
+     */
+    public record NoticeFeed(List<Notice> notices, byte[] body, String etag, long loadedAt) {
+    }
+
+    /**
+     * Keyset position: the (rank, createdAt, id) of the last notice on a page,
+     * carried to the client as URL-safe base64 of "rank|createdAt|id"
+     */
+    private record Cursor(int rank, LocalDateTime createdAt, Long id) {
+
+        static Cursor of(Notice notice) {
+            // Rows written before the rank column existed are null until backfillPriorityRank has run
+            int rank = notice.getPriorityRank() != null ? notice.getPriorityRank() : notice.getPriority().getRank();
+            return new Cursor(rank, notice.getCreatedAt(), notice.getId());
+        }
+
+        String encode() {
+            String raw = rank + "|" + createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|");
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Invalid cursor.");
+                }
+                return new Cursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+        }
+    }
+}
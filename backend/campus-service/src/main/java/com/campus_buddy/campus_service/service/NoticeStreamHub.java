@@ -0,0 +1,179 @@
+package com.campus_buddy.campus_service.service;
+
+import com.campus_buddy.campus_service.model.Notice;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process broadcast of notice changes to Server-Sent Events subscribers (GET /notices/stream).
+ *
+ * An idle subscriber is just an open async request and an empty queue: no thread is parked on it.
+ * A published event is serialized once and the same frame is offered to every subscriber's bounded
+ * queue; a subscriber with queued frames gets a virtual thread that drains them to the socket, so a
+ * slow client blocks only its own drain, never the writer of the notice. A subscriber whose queue is
+ * full is dropped — its EventSource reconnects and reloads the feed.
+ *
+ * Events: {@code notice-created} and {@code notice-archived}, each carrying the notice as JSON.
+ * A comment heartbeat every {@code campus.notices.stream.heartbeat-ms} detects dead connections.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoticeStreamHub {
+
+    private static final Logger log = LoggerFactory.getLogger(NoticeStreamHub.class);
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${campus.notices.stream.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${campus.notices.stream.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${campus.notices.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${campus.notices.stream.heartbeat-ms:25000}")
+    private long heartbeatMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    private ExecutorService senders;
+    private ScheduledExecutorService heartbeat;
+
+    @PostConstruct
+    void init() {
+        senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notice-stream-", 0).factory());
+        heartbeat = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notice-stream-heartbeat-"));
+        heartbeat.scheduleWithFixedDelay(() -> subscribers.forEach(s -> s.offer(HEARTBEAT)),
+                heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    /**
+     * Open a stream for {@code email}
+     * @throws IllegalStateException if {@code campus.notices.stream.max-subscribers} streams are already open
+     */
+    public SseEmitter subscribe(String email) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many open notice streams.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        // First frame commits the response headers, so the client sees the stream open immediately
+        subscriber.offer(SseEmitter.event().comment("connected").build());
+        log.debug("Notice stream opened: by={}, subscribers={}", email, subscribers.size());
+        return emitter;
+    }
+
+    public void publishCreated(Notice notice) {
+        publish("notice-created", notice);
+    }
+
+    public void publishArchived(Notice notice) {
+        publish("notice-archived", notice);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void publish(String name, Notice notice) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+                .id(String.valueOf(eventIds.incrementAndGet()))
+                .name(name)
+                .data(objectMapper.writeValueAsString(notice))
+                .build();
+        subscribers.forEach(s -> s.offer(frame));
+    }
+
+    /**
+     * One open stream: frames waiting to be written, and whether a drain is already scheduled
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (!queue.offer(frame)) {
+                log.warn("Dropping slow notice stream subscriber: {} frames pending", queue.size());
+                drop();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                    while ((frame = queue.poll()) != null) {
+                        emitter.send(frame);
+                    }
+                    draining.set(false);
+                    // A frame offered after the last poll but before the flag was cleared is still ours
+                } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container reports the error and completes the emitter
+                subscribers.remove(this);
+                queue.clear();
+            }
+        }
+
+        private void drop() {
+            if (subscribers.remove(this)) {
+                queue.clear();
+                // complete() waits for an in-flight write, so never run it on the publisher's thread
+                senders.execute(emitter::complete);
+            }
+        }
+    }
+}
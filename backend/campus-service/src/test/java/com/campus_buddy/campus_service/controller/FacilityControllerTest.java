@@ -0,0 +1,89 @@
+package com.campus_buddy.campus_service.controller;
+
+import com.campus_buddy.campus_service.service.FacilityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for FacilityController availability parameters.
+ * Covers: date vs from/to resolution, missing parameters, malformed dates, service range errors.
+ */
+@ExtendWith(MockitoExtension.class)
+class FacilityControllerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 3, 11);
+
+    @Mock
+    private FacilityService facilityService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new FacilityController(facilityService)).build();
+    }
+
+    @Test
+    @DisplayName("Availability — 'date' is a one-day range")
+    void getAvailability_date_shouldQueryOneDay() throws Exception {
+        when(facilityService.getAvailability(MONDAY, MONDAY, null)).thenReturn(List.of());
+
+        mockMvc.perform(get("/facilities/availability").param("date", "2030-03-11"))
+                .andExpect(status().isOk());
+
+        verify(facilityService).getAvailability(MONDAY, MONDAY, null);
+    }
+
+    @Test
+    @DisplayName("Availability — 'from' alone is one day; 'from' and 'to' with minCapacity are passed through")
+    void getAvailability_fromTo_shouldQueryRange() throws Exception {
+        when(facilityService.getAvailability(any(), any(), any())).thenReturn(List.of());
+
+        mockMvc.perform(get("/facilities/availability").param("from", "2030-03-11"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/facilities/availability")
+                        .param("from", "2030-03-11").param("to", "2030-03-17").param("minCapacity", "30"))
+                .andExpect(status().isOk());
+
+        verify(facilityService).getAvailability(MONDAY, MONDAY, null);
+        verify(facilityService).getAvailability(MONDAY, MONDAY.plusDays(6), 30);
+    }
+
+    @Test
+    @DisplayName("Availability — no 'date' or 'from' is a 400 without calling the service")
+    void getAvailability_noStart_shouldReturn400() throws Exception {
+        mockMvc.perform(get("/facilities/availability").param("to", "2030-03-17"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Either 'date' or 'from' is required."));
+        mockMvc.perform(get("/facilities/availability").param("date", "11/03/2030"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(facilityService);
+    }
+
+    @Test
+    @DisplayName("Availability — range errors from the service are a 400 with the reason")
+    void getAvailability_rangeTooLong_shouldReturn400() throws Exception {
+        when(facilityService.getAvailability(MONDAY, MONDAY.plusDays(40), null))
+                .thenThrow(new IllegalArgumentException("Availability range is limited to 31 days."));
+
+        mockMvc.perform(get("/facilities/availability").param("from", "2030-03-11").param("to", "2030-04-20"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Availability range is limited to 31 days."));
+    }
+}
@@ -0,0 +1,130 @@
+package com.campus_buddy.campus_service.controller;
+
+import com.campus_buddy.campus_service.dto.NoticePage;
+import com.campus_buddy.campus_service.service.NoticeService;
+import com.campus_buddy.campus_service.service.NoticeStreamHub;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for NoticeController feed reads.
+ * Covers: ETag and body on the full feed, 304 on a matching If-None-Match, 200 after the ETag changes,
+ * full feed when limit is absent vs keyset page when present, 400 on bad paging parameters.
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeControllerTest {
+
+    private static final String BODY = "[{\"id\":1,\"title\":\"Notice 1\"}]";
+    private static final String ETAG = "\"0123456789abcdef0123456789abcdef\"";
+
+    @Mock
+    private NoticeService noticeService;
+
+    @Mock
+    private NoticeStreamHub noticeStreamHub;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        NoticeController controller = new NoticeController();
+        ReflectionTestUtils.setField(controller, "noticeService", noticeService);
+        ReflectionTestUtils.setField(controller, "noticeStreamHub", noticeStreamHub);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("Feed — 200 with the cached body, its ETag and no-cache")
+    void getAllNotices_shouldServeFeedWithEtag() throws Exception {
+        when(noticeService.getFeed(false)).thenReturn(feed(ETAG));
+
+        mockMvc.perform(get("/notices"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().json(BODY));
+    }
+
+    @Test
+    @DisplayName("Feed — 304 with no body when If-None-Match matches the current ETag")
+    void getAllNotices_matchingEtag_shouldReturn304() throws Exception {
+        when(noticeService.getFeed(true)).thenReturn(feed(ETAG));
+
+        mockMvc.perform(get("/notices").param("archived", "true").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Feed — 200 with the new body when the client holds an older ETag")
+    void getAllNotices_staleEtag_shouldReturn200() throws Exception {
+        when(noticeService.getFeed(false)).thenReturn(feed(ETAG));
+
+        mockMvc.perform(get("/notices").header(HttpHeaders.IF_NONE_MATCH, "\"ffffffffffffffffffffffffffffffff\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().json(BODY));
+    }
+
+    @Test
+    @DisplayName("Paging — without 'limit' the full feed is served and no page is queried")
+    void getAllNotices_noLimit_shouldServeFullFeed() throws Exception {
+        when(noticeService.getFeed(false)).thenReturn(feed(ETAG));
+
+        mockMvc.perform(get("/notices").param("cursor", "ignored"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(BODY));
+
+        verify(noticeService, never()).getPage(anyBoolean(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Paging — with 'limit' the page and its nextCursor are returned, without an ETag")
+    void getAllNotices_limit_shouldServePage() throws Exception {
+        when(noticeService.getPage(true, 20, "abc")).thenReturn(new NoticePage(List.of(), "next"));
+
+        mockMvc.perform(get("/notices").param("archived", "true").param("limit", "20").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.items").isEmpty());
+
+        verify(noticeService, never()).getFeed(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Paging — an invalid limit or cursor is a 400 with the reason")
+    void getAllNotices_invalidPage_shouldReturn400() throws Exception {
+        when(noticeService.getPage(false, 10, "bad")).thenThrow(new IllegalArgumentException("Invalid cursor."));
+
+        mockMvc.perform(get("/notices").param("limit", "10").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor."));
+    }
+
+    // ─── Helper ───
+
+    private static NoticeService.NoticeFeed feed(String etag) {
+        return new NoticeService.NoticeFeed(List.of(), BODY.getBytes(StandardCharsets.UTF_8), etag, System.currentTimeMillis());
+    }
+}
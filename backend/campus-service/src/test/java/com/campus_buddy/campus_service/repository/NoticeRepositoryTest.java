@@ -0,0 +1,135 @@
+package com.campus_buddy.campus_service.repository;
+
+import com.campus_buddy.campus_service.dto.NoticePage;
+import com.campus_buddy.campus_service.model.Notice;
+import com.campus_buddy.campus_service.model.NoticeCategory;
+import com.campus_buddy.campus_service.model.NoticePriority;
+import com.campus_buddy.campus_service.service.NoticeService;
+import com.campus_buddy.campus_service.service.NoticeStreamHub;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyset paging queries of NoticeRepository, against H2.
+ * Covers: feed order, ties on priority_rank and created_at broken by id, walking every page through
+ * NoticeService cursors without gaps or repeats, archived filter.
+ */
+@DataJpaTest
+class NoticeRepositoryTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2030, 3, 11, 12, 0);
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Page — equal rank and created_at are ordered by id, newest id first")
+    void findFeedPage_ties_shouldOrderById() {
+        List<Long> ids = seedTies();
+
+        List<Notice> page = noticeRepository.findFeedPage(false, Limit.of(10));
+
+        // HIGH ties at noon (id desc), HIGH at 11:00, then MEDIUM, then LOW
+        assertThat(page).extracting(Notice::getId)
+                .containsExactly(ids.get(2), ids.get(1), ids.get(0), ids.get(3), ids.get(4), ids.get(5));
+    }
+
+    @Test
+    @DisplayName("Page — 'after' starts strictly after the cursor row, inside a run of ties")
+    void findFeedPageAfter_insideTies_shouldContinueById() {
+        List<Long> ids = seedTies();
+
+        List<Notice> page = noticeRepository.findFeedPageAfter(false, NoticePriority.HIGH.getRank(), NOON, ids.get(1), Limit.of(3));
+
+        assertThat(page).extracting(Notice::getId).containsExactly(ids.get(0), ids.get(3), ids.get(4));
+    }
+
+    @Test
+    @DisplayName("Page — cursors walk the whole feed with no gaps or repeats, for every page size")
+    void getPage_allPageSizes_shouldMatchFullFeed() {
+        seedTies();
+        NoticeService noticeService = new NoticeService(noticeRepository, JsonMapper.builder().build(),
+                Mockito.mock(NoticeStreamHub.class));
+        List<Long> full = noticeRepository.findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false).stream()
+                .map(Notice::getId)
+                .toList();
+
+        for (int limit = 1; limit <= full.size() + 1; limit++) {
+            List<Long> walked = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                NoticePage page = noticeService.getPage(false, limit, cursor);
+                page.getItems().forEach(n -> walked.add(n.getId()));
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null && pages <= full.size());
+
+            assertThat(walked).as("limit=%d", limit).containsExactlyElementsOf(full);
+        }
+    }
+
+    @Test
+    @DisplayName("Page — archived notices are only in the archived feed")
+    void findFeedPage_shouldFilterArchived() {
+        List<Long> ids = seedTies();
+
+        assertThat(noticeRepository.findFeedPage(true, Limit.of(10))).extracting(Notice::getId).containsExactly(ids.get(6));
+        assertThat(noticeRepository.findFeedPage(false, Limit.of(10))).extracting(Notice::getId).doesNotContain(ids.get(6));
+    }
+
+    // ─── Helper ───
+
+    /**
+     * Three HIGH notices sharing created_at, one older HIGH, one MEDIUM and one LOW sharing it too, plus
+     * one archived HIGH. Returns ids in insert order (ascending).
+     */
+    private List<Long> seedTies() {
+        List<Notice> notices = List.of(
+                notice(NoticePriority.HIGH, false),
+                notice(NoticePriority.HIGH, false),
+                notice(NoticePriority.HIGH, false),
+                notice(NoticePriority.HIGH, false),
+                notice(NoticePriority.MEDIUM, false),
+                notice(NoticePriority.LOW, false),
+                notice(NoticePriority.HIGH, true));
+        List<Long> ids = noticeRepository.saveAllAndFlush(notices).stream().map(Notice::getId).toList();
+
+        // created_at is set by @CreationTimestamp on insert; pin it so the rows tie
+        entityManager.createQuery("update Notice n set n.createdAt = :createdAt")
+                .setParameter("createdAt", NOON)
+                .executeUpdate();
+        entityManager.createQuery("update Notice n set n.createdAt = :createdAt where n.id = :id")
+                .setParameter("createdAt", NOON.minusHours(1))
+                .setParameter("id", ids.get(3))
+                .executeUpdate();
+        entityManager.clear();
+        return ids;
+    }
+
+    private static Notice notice(NoticePriority priority, boolean archived) {
+        Notice notice = new Notice();
+        notice.setTitle(priority + " notice");
+        notice.setContent("Content");
+        notice.setCategory(NoticeCategory.GENERAL);
+        notice.setPriority(priority);
+        notice.setPostedBy("f@x.com");
+        notice.setArchived(archived);
+        return notice;
+    }
+}
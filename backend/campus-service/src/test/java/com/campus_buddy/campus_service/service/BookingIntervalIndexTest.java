@@ -0,0 +1,196 @@
+package com.campus_buddy.campus_service.service;
+
+import com.campus_buddy.campus_service.model.FacilityBooking;
+import com.campus_buddy.campus_service.repository.FacilityBookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingIntervalIndex.
+ * Covers: overlap check (touching edges, containment, the lowerEntry lookup), merging of legacy overlapping
+ * bookings, 5-minute slot bitmap,
+ * range warm-up, TTL reload (bookings and cancellations from other instances), invalidation.
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingIntervalIndexTest {
+
+    private static final Long HALL = 1L;
+    private static final Long LAB = 2L;
+
+    @Mock
+    private FacilityBookingRepository facilityBookingRepository;
+
+    private BookingIntervalIndex index;
+
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        index = new BookingIntervalIndex(facilityBookingRepository);
+        ReflectionTestUtils.setField(index, "ttlMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("Overlap — touching bookings are free, any shared minute conflicts")
+    void overlaps_shouldTreatIntervalsAsHalfOpen() {
+        when(facilityBookingRepository.findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED"))
+                .thenReturn(List.of(booking(HALL, tomorrow, "10:00", "11:00"), booking(HALL, tomorrow, "13:00", "14:00")));
+
+        assertThat(overlaps("09:00", "10:00")).isFalse();
+        assertThat(overlaps("11:00", "13:00")).isFalse();
+        assertThat(overlaps("14:00", "15:00")).isFalse();
+
+        assertThat(overlaps("09:30", "10:01")).isTrue();
+        assertThat(overlaps("10:59", "11:30")).isTrue();
+        assertThat(overlaps("10:15", "10:45")).isTrue();
+        assertThat(overlaps("09:00", "15:00")).isTrue();
+
+        verify(facilityBookingRepository, times(1)).findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED");
+    }
+
+    @Test
+    @DisplayName("Overlap — only the booking starting latest before the new end is consulted")
+    void overlaps_shouldUseLatestEarlierBooking() {
+        when(facilityBookingRepository.findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED"))
+                .thenReturn(List.of(booking(HALL, tomorrow, "08:00", "12:00"), booking(HALL, tomorrow, "15:00", "16:00")));
+
+        // lowerEntry(14:00) is the 08:00 booking, which is still running at 11:00
+        assertThat(overlaps("11:00", "14:00")).isTrue();
+        // lowerEntry(15:30) is the 15:00 booking; the long morning booking is never looked at
+        assertThat(overlaps("12:00", "15:30")).isTrue();
+        assertThat(overlaps("12:00", "15:00")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Overlap — legacy double bookings are merged at load, so neither hides the other")
+    void overlaps_legacyOverlappingBookings_shouldBeMerged() {
+        when(facilityBookingRepository.findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED"))
+                .thenReturn(List.of(
+                        booking(HALL, tomorrow, "09:00", "12:00"), booking(HALL, tomorrow, "10:00", "11:00"),
+                        booking(HALL, tomorrow, "14:00", "15:00"), booking(HALL, tomorrow, "14:00", "16:00"),
+                        booking(HALL, tomorrow, "16:00", "17:00")));
+
+        // Contained booking: lowerEntry(12:00) must not stop at the 10:00-11:00 booking
+        assertThat(overlaps("11:00", "12:00")).isTrue();
+        assertThat(overlaps("12:00", "14:00")).isFalse();
+        // Same start: the shorter booking must not overwrite the longer one
+        assertThat(overlaps("15:30", "15:45")).isTrue();
+        // Touching bookings stay separate intervals
+        assertThat(overlaps("16:30", "18:00")).isTrue();
+        assertThat(overlaps("17:00", "18:00")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Add — a booking recorded under the lock is seen by the next check without a reload")
+    void add_shouldBlockTheSlot() {
+        when(facilityBookingRepository.findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED")).thenReturn(List.of());
+
+        assertThat(overlaps("10:00", "11:00")).isFalse();
+        index.add(booking(HALL, tomorrow, "10:00", "11:00"));
+
+        assertThat(overlaps("10:30", "12:00")).isTrue();
+        verify(facilityBookingRepository, times(1)).findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED");
+    }
+
+    @Test
+    @DisplayName("Bitmap — 288 five-minute slots; a slot touched by any part of a booking is busy")
+    void busySlots_shouldRoundOutwardToFiveMinutes() {
+        when(facilityBookingRepository.findByDateBetweenAndStatus(tomorrow, tomorrow, "APPROVED"))
+                .thenReturn(List.of(booking(HALL, tomorrow, "10:02", "10:07"), booking(HALL, tomorrow, "23:55", "23:59:59")));
+
+        BitSet busy = index.busySlots(List.of(HALL), tomorrow, tomorrow).get(HALL).get(tomorrow);
+
+        assertThat(BookingIntervalIndex.SLOTS_PER_DAY).isEqualTo(288);
+        assertThat(busy.stream().boxed().toList()).containsExactly(120, 121, 287);
+    }
+
+    @Test
+    @DisplayName("Bitmap — a multi-day range is loaded with one query and returned per facility and day")
+    void busySlots_shouldWarmRangeWithOneQuery() {
+        LocalDate dayAfter = tomorrow.plusDays(1);
+        when(facilityBookingRepository.findByDateBetweenAndStatus(tomorrow, dayAfter, "APPROVED"))
+                .thenReturn(List.of(booking(HALL, tomorrow, "08:00", "09:00"), booking(LAB, dayAfter, "09:00", "09:05")));
+
+        Map<Long, Map<LocalDate, BitSet>> busy = index.busySlots(List.of(HALL, LAB), tomorrow, dayAfter);
+
+        assertThat(busy.get(HALL).keySet()).containsExactly(tomorrow, dayAfter);
+        assertThat(busy.get(HALL).get(tomorrow).cardinality()).isEqualTo(12);
+        assertThat(busy.get(HALL).get(dayAfter).isEmpty()).isTrue();
+        assertThat(busy.get(LAB).get(dayAfter).stream().boxed().toList()).containsExactly(108);
+
+        // Both days are now indexed: neither a second range query nor per-day loads
+        index.busySlots(List.of(HALL, LAB), tomorrow, dayAfter);
+        assertThat(overlaps("08:30", "08:45")).isTrue();
+        verify(facilityBookingRepository, times(1)).findByDateBetweenAndStatus(tomorrow, dayAfter, "APPROVED");
+        verify(facilityBookingRepository, never()).findByFacilityIdAndDateAndStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("TTL — stale days are reloaded, picking up other instances' bookings and cancellations")
+    void staleDay_shouldBeReloaded() {
+        when(facilityBookingRepository.findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED"))
+                .thenReturn(List.of(booking(HALL, tomorrow, "10:00", "11:00")))
+                .thenReturn(List.of(booking(HALL, tomorrow, "14:00", "15:00")));
+        assertThat(overlaps("10:00", "11:00")).isTrue();
+
+        ReflectionTestUtils.setField(index, "ttlMs", 0L);
+
+        assertThat(overlaps("10:00", "11:00")).isFalse();
+        assertThat(overlaps("14:30", "16:00")).isTrue();
+    }
+
+    @Test
+    @DisplayName("TTL — a stale range is re-queried by busySlots")
+    void busySlots_staleRange_shouldRequery() {
+        when(facilityBookingRepository.findByDateBetweenAndStatus(tomorrow, tomorrow, "APPROVED"))
+                .thenReturn(List.of(booking(HALL, tomorrow, "10:00", "11:00")))
+                .thenReturn(List.of());
+        assertThat(index.busySlots(List.of(HALL), tomorrow, tomorrow).get(HALL).get(tomorrow).isEmpty()).isFalse();
+
+        ReflectionTestUtils.setField(index, "ttlMs", 0L);
+
+        assertThat(index.busySlots(List.of(HALL), tomorrow, tomorrow).get(HALL).get(tomorrow).isEmpty()).isTrue();
+        verify(facilityBookingRepository, times(2)).findByDateBetweenAndStatus(tomorrow, tomorrow, "APPROVED");
+    }
+
+    @Test
+    @DisplayName("Invalidate — the day is reloaded from the database on next use")
+    void invalidate_shouldForceReload() {
+        when(facilityBookingRepository.findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED"))
+                .thenReturn(List.of())
+                .thenReturn(List.of(booking(HALL, tomorrow, "10:00", "11:00")));
+        assertThat(overlaps("10:00", "11:00")).isFalse();
+
+        index.invalidate(HALL, tomorrow);
+
+        assertThat(overlaps("10:00", "11:00")).isTrue();
+    }
+
+    private boolean overlaps(String start, String end) {
+        return index.overlaps(HALL, tomorrow, LocalTime.parse(start), LocalTime.parse(end));
+    }
+
+    static FacilityBooking booking(Long facilityId, LocalDate date, String start, String end) {
+        FacilityBooking booking = new FacilityBooking();
+        booking.setFacilityId(facilityId);
+        booking.setDate(date);
+        booking.setStartTime(LocalTime.parse(start));
+        booking.setEndTime(LocalTime.parse(end));
+        booking.setStatus("APPROVED");
+        return booking;
+    }
+}
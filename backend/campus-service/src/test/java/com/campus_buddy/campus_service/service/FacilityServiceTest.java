@@ -0,0 +1,195 @@
+package com.campus_buddy.campus_service.service;
+
+import com.campus_buddy.campus_service.dto.FacilityAvailability;
+import com.campus_buddy.campus_service.model.Facility;
+import com.campus_buddy.campus_service.model.FacilityBooking;
+import com.campus_buddy.campus_service.repository.FacilityBookingRepository;
+import com.campus_buddy.campus_service.repository.FacilityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.campus_buddy.campus_service.service.BookingIntervalIndexTest.booking;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for FacilityService, against a real BookingIntervalIndex over mocked repositories.
+ * Covers: booking validation, conflicts caught by the index, conflicts caught by the database constraint,
+ * availability range limits, free windows merged from the per-day slot bitmaps.
+ */
+@ExtendWith(MockitoExtension.class)
+class FacilityServiceTest {
+
+    private static final Long HALL = 1L;
+
+    @Mock
+    private FacilityRepository facilityRepository;
+
+    @Mock
+    private FacilityBookingRepository facilityBookingRepository;
+
+    private FacilityService facilityService;
+
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        BookingIntervalIndex index = new BookingIntervalIndex(facilityBookingRepository);
+        ReflectionTestUtils.setField(index, "ttlMs", 60_000L);
+        facilityService = new FacilityService(facilityRepository, facilityBookingRepository, index);
+        ReflectionTestUtils.setField(facilityService, "openingTime", LocalTime.of(8, 0));
+        ReflectionTestUtils.setField(facilityService, "closingTime", LocalTime.of(22, 0));
+    }
+
+    // ─── Booking Tests ──────────────────────────────────────────────
+
+    @Test
+    @DisplayName("Create booking — free slot is approved, saved and blocks the next overlapping request")
+    void createBooking_freeSlot_shouldApproveAndIndex() {
+        when(facilityRepository.findById(HALL)).thenReturn(Optional.of(facility(HALL, "Main Hall", 200)));
+        when(facilityBookingRepository.findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED")).thenReturn(List.of());
+        when(facilityBookingRepository.saveAndFlush(any(FacilityBooking.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        FacilityBooking saved = facilityService.createBooking(booking(HALL, tomorrow, "10:00", "11:00"));
+
+        assertThat(saved.getStatus()).isEqualTo("APPROVED");
+        assertThatThrownBy(() -> facilityService.createBooking(booking(HALL, tomorrow, "10:30", "11:30")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Main Hall");
+        // Touching the end of the first booking is fine
+        assertThat(facilityService.createBooking(booking(HALL, tomorrow, "11:00", "12:00")).getStatus()).isEqualTo("APPROVED");
+        verify(facilityBookingRepository, times(2)).saveAndFlush(any(FacilityBooking.class));
+    }
+
+    @Test
+    @DisplayName("Create booking — rejected by the exclusion constraint: conflict reported, day reloaded")
+    void createBooking_databaseConflict_shouldInvalidateDay() {
+        when(facilityRepository.findById(HALL)).thenReturn(Optional.of(facility(HALL, "Main Hall", 200)));
+        when(facilityBookingRepository.findByFacilityIdAndDateAndStatus(HALL, tomorrow, "APPROVED"))
+                .thenReturn(List.of())
+                .thenReturn(List.of(booking(HALL, tomorrow, "10:00", "11:00")));
+        when(facilityBookingRepository.saveAndFlush(any(FacilityBooking.class)))
+                .thenThrow(new DataIntegrityViolationException("booking_no_overlap"));
+
+        assertThatThrownBy(() -> facilityService.createBooking(booking(HALL, tomorrow, "10:00", "11:00")))
+                .isInstanceOf(IllegalStateException.class);
+        // The reloaded day knows the other instance's booking, so this is caught before the database
+        assertThatThrownBy(() -> facilityService.createBooking(booking(HALL, tomorrow, "10:30", "11:30")))
+                .isInstanceOf(IllegalStateException.class);
+        verify(facilityBookingRepository, times(1)).saveAndFlush(any(FacilityBooking.class));
+    }
+
+    @Test
+    @DisplayName("Create booking — past dates and empty or reversed times are rejected before the index")
+    void createBooking_invalid_shouldThrowIllegalArgument() {
+        when(facilityRepository.findById(HALL)).thenReturn(Optional.of(facility(HALL, "Main Hall", 200)));
+
+        assertThatThrownBy(() -> facilityService.createBooking(booking(HALL, LocalDate.now().minusDays(1), "10:00", "11:00")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("past");
+        assertThatThrownBy(() -> facilityService.createBooking(booking(HALL, tomorrow, "11:00", "11:00")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> facilityService.createBooking(booking(HALL, tomorrow, "12:00", "11:00")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(facilityBookingRepository);
+    }
+
+    // ─── Availability Tests ─────────────────────────────────────────
+
+    @Test
+    @DisplayName("Availability — reversed ranges and ranges over 31 days are rejected")
+    void getAvailability_invalidRange_shouldThrowIllegalArgument() {
+        assertThatThrownBy(() -> facilityService.getAvailability(tomorrow, tomorrow.minusDays(1), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'to' must not be before 'from'");
+        assertThatThrownBy(() -> facilityService.getAvailability(tomorrow, tomorrow.plusDays(31), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("31 days");
+        verifyNoInteractions(facilityRepository, facilityBookingRepository);
+    }
+
+    @Test
+    @DisplayName("Availability — a 31-day range is allowed and loaded with a single query")
+    void getAvailability_maxRange_shouldUseOneQuery() {
+        LocalDate last = tomorrow.plusDays(30);
+        when(facilityRepository.findAll()).thenReturn(List.of(facility(HALL, "Main Hall", 200)));
+        when(facilityBookingRepository.findByDateBetweenAndStatus(tomorrow, last, "APPROVED")).thenReturn(List.of());
+
+        List<FacilityAvailability> result = facilityService.getAvailability(tomorrow, last, null);
+
+        assertThat(result.get(0).getDays()).hasSize(31)
+                .allMatch(d -> d.getFreeWindows().equals(List.of(window("08:00", "22:00"))));
+        verify(facilityBookingRepository, times(1)).findByDateBetweenAndStatus(tomorrow, last, "APPROVED");
+    }
+
+    @Test
+    @DisplayName("Availability — free windows per facility and day, within opening hours, full days and facilities omitted")
+    void getAvailability_multiDay_shouldMergeBitmaps() {
+        Long lab = 2L;
+        Long room = 3L;
+        LocalDate dayAfter = tomorrow.plusDays(1);
+        when(facilityRepository.findAll()).thenReturn(List.of(
+                facility(HALL, "Main Hall", 200), facility(lab, "Lab", 40), facility(room, "Seminar Room", 10)));
+        when(facilityBookingRepository.findByDateBetweenAndStatus(tomorrow, dayAfter, "APPROVED")).thenReturn(List.of(
+                booking(HALL, tomorrow, "07:00", "09:00"),
+                booking(HALL, tomorrow, "12:02", "13:00"),
+                booking(HALL, tomorrow, "13:00", "14:00"),
+                booking(HALL, tomorrow, "21:00", "23:00"),
+                booking(HALL, dayAfter, "08:00", "22:00"),
+                booking(lab, tomorrow, "08:00", "22:00"),
+                booking(lab, dayAfter, "08:00", "22:00")));
+
+        List<FacilityAvailability> result = facilityService.getAvailability(tomorrow, dayAfter, 20);
+
+        // Seminar Room is below minCapacity; the Lab is fully booked on both days
+        assertThat(result).extracting(FacilityAvailability::getName).containsExactly("Main Hall");
+        List<FacilityAvailability.DayAvailability> days = result.get(0).getDays();
+        // Fully booked days are left out
+        assertThat(days).extracting(FacilityAvailability.DayAvailability::getDate).containsExactly(tomorrow);
+        // 12:02 makes the whole 12:00 slot busy; back-to-back bookings merge into one busy run
+        assertThat(days.get(0).getFreeWindows()).containsExactly(window("09:00", "12:00"), window("14:00", "21:00"));
+    }
+
+    @Test
+    @DisplayName("Availability — past days are skipped and today starts at the next free slot from now")
+    void getAvailability_today_shouldSkipElapsedTime() {
+        LocalDate today = LocalDate.now();
+        when(facilityRepository.findAll()).thenReturn(List.of(facility(HALL, "Main Hall", 200)));
+        when(facilityBookingRepository.findByDateBetweenAndStatus(today.minusDays(1), today, "APPROVED")).thenReturn(List.of());
+        LocalTime before = LocalTime.now();
+
+        List<FacilityAvailability> result = facilityService.getAvailability(today.minusDays(1), today, null);
+
+        List<FacilityAvailability.DayAvailability> days = result.isEmpty() ? List.of() : result.get(0).getDays();
+        assertThat(days).allMatch(d -> d.getDate().equals(today));
+        assertThat(days).flatExtracting(FacilityAvailability.DayAvailability::getFreeWindows)
+                .allMatch(w -> !w.getStart().isBefore(before.withSecond(0).withNano(0)) && w.getStart().getMinute() % 5 == 0);
+    }
+
+    // ─── Helper ─────────────────────────────────────────────────────
+
+    private static FacilityAvailability.FreeWindow window(String start, String end) {
+        return new FacilityAvailability.FreeWindow(LocalTime.parse(start), LocalTime.parse(end));
+    }
+
+    private static Facility facility(Long id, String name, Integer capacity) {
+        Facility facility = new Facility();
+        facility.setId(id);
+        facility.setName(name);
+        facility.setCapacity(capacity);
+        return facility;
+    }
+}
@@ -0,0 +1,236 @@
+package com.campus_buddy.campus_service.service;
+
+import com.campus_buddy.campus_service.model.Notice;
+import com.campus_buddy.campus_service.model.NoticeCategory;
+import com.campus_buddy.campus_service.model.NoticePriority;
+import com.campus_buddy.campus_service.repository.NoticeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NoticeService.
+ * Covers: cached feed and ETag, in-place insert/archive, TTL reload of writes made elsewhere,
+ * keyset pages (cursor encoding, extra-row lookahead, limit and cursor validation).
+ */
+@ExtendWith(MockitoExtension.class)
+class NoticeServiceTest {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2030, 3, 11, 9, 0);
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    @Mock
+    private NoticeStreamHub noticeStreamHub;
+
+    private NoticeService noticeService;
+
+    @BeforeEach
+    void setUp() {
+        noticeService = new NoticeService(noticeRepository, JsonMapper.builder().build(), noticeStreamHub);
+        ReflectionTestUtils.setField(noticeService, "feedTtlMs", 60_000L);
+    }
+
+    // ─── Feed Cache Tests ───
+
+    @Test
+    @DisplayName("Feed — loaded once, serialized with a quoted ETag that is stable across reads")
+    void getFeed_shouldCacheBodyAndEtag() {
+        when(noticeRepository.findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false))
+                .thenReturn(List.of(notice(1L, NoticePriority.HIGH, NOW)));
+
+        NoticeService.NoticeFeed first = noticeService.getFeed(false);
+        NoticeService.NoticeFeed second = noticeService.getFeed(false);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).matches("\"[0-9a-f]{32}\"");
+        assertThat(new String(first.body())).contains("\"title\":\"Notice 1\"").doesNotContain("priorityRank");
+        verify(noticeRepository, times(1)).findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false);
+    }
+
+    @Test
+    @DisplayName("Feed — a new notice is inserted at its sorted position without a reload; the ETag changes")
+    void createNotice_shouldInsertInPlace() {
+        Notice high = notice(1L, NoticePriority.HIGH, NOW);
+        Notice low = notice(2L, NoticePriority.LOW, NOW);
+        when(noticeRepository.findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false))
+                .thenReturn(List.of(high, low));
+        String etag = noticeService.getFeed(false).etag();
+
+        Notice medium = notice(3L, NoticePriority.MEDIUM, NOW.plusHours(1));
+        when(noticeRepository.save(any(Notice.class))).thenReturn(medium);
+        noticeService.createNotice(new Notice(), "f@x.com");
+
+        NoticeService.NoticeFeed feed = noticeService.getFeed(false);
+        assertThat(feed.notices()).extracting(Notice::getId).containsExactly(1L, 3L, 2L);
+        assertThat(feed.etag()).isNotEqualTo(etag);
+        assertThat(new String(feed.body())).contains("Notice 3");
+        verify(noticeRepository, times(1)).findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false);
+        verify(noticeStreamHub).publishCreated(medium);
+    }
+
+    @Test
+    @DisplayName("Feed — archiving moves the notice from the active feed to the archived feed")
+    void archiveNotice_shouldMoveBetweenFeeds() {
+        Notice first = notice(1L, NoticePriority.HIGH, NOW);
+        Notice second = notice(2L, NoticePriority.HIGH, NOW.minusDays(1));
+        when(noticeRepository.findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false))
+                .thenReturn(List.of(first, second));
+        when(noticeRepository.findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(true))
+                .thenReturn(List.of());
+        noticeService.getFeed(false);
+        noticeService.getFeed(true);
+
+        when(noticeRepository.findById(2L)).thenReturn(Optional.of(second));
+        when(noticeRepository.save(second)).thenReturn(second);
+        assertThat(noticeService.archiveNotice(2L, "f@x.com")).contains(second);
+
+        assertThat(noticeService.getFeed(false).notices()).extracting(Notice::getId).containsExactly(1L);
+        assertThat(noticeService.getFeed(true).notices()).extracting(Notice::getId).containsExactly(2L);
+        verify(noticeRepository, times(1)).findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false);
+        verify(noticeStreamHub).publishArchived(second);
+    }
+
+    @Test
+    @DisplayName("Feed — archiving an unknown id leaves the feeds alone")
+    void archiveNotice_unknown_shouldBeEmpty() {
+        when(noticeRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThat(noticeService.archiveNotice(9L, "f@x.com")).isEmpty();
+        verify(noticeRepository, never()).save(any());
+        verifyNoInteractions(noticeStreamHub);
+    }
+
+    @Test
+    @DisplayName("Feed — after the TTL a read reloads, picking up writes made through other instances")
+    void getFeed_afterTtl_shouldReload() {
+        ReflectionTestUtils.setField(noticeService, "feedTtlMs", 0L);
+        Notice existing = notice(1L, NoticePriority.MEDIUM, NOW);
+        Notice elsewhere = notice(2L, NoticePriority.HIGH, NOW);
+        when(noticeRepository.findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false))
+                .thenReturn(List.of(existing))
+                .thenReturn(List.of(existing))
+                .thenReturn(List.of(elsewhere, existing));
+
+        String etag = noticeService.getFeed(false).etag();
+        assertThat(noticeService.getFeed(false).etag()).as("unchanged content keeps its ETag").isEqualTo(etag);
+
+        NoticeService.NoticeFeed reloaded = noticeService.getFeed(false);
+        assertThat(reloaded.notices()).extracting(Notice::getId).containsExactly(2L, 1L);
+        assertThat(reloaded.etag()).isNotEqualTo(etag);
+        verify(noticeRepository, times(3)).findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false);
+    }
+
+    @Test
+    @DisplayName("Feed — in-place updates keep the load time, so they do not postpone the reload")
+    void createNotice_shouldKeepLoadTime() {
+        when(noticeRepository.findByArchivedOrderByPriorityRankAscCreatedAtDescIdDesc(false))
+                .thenReturn(List.of(notice(1L, NoticePriority.LOW, NOW)));
+        long loadedAt = noticeService.getFeed(false).loadedAt();
+
+        when(noticeRepository.save(any(Notice.class))).thenReturn(notice(2L, NoticePriority.HIGH, NOW));
+        noticeService.createNotice(new Notice(), "f@x.com");
+
+        assertThat(noticeService.getFeed(false).loadedAt()).isEqualTo(loadedAt);
+    }
+
+    // ─── Keyset Page Tests ───
+
+    @Test
+    @DisplayName("Page — fetches limit+1; the cursor is base64url of the last item's rank|createdAt|id")
+    void getPage_shouldEncodeCursorOfLastItem() {
+        when(noticeRepository.findFeedPage(false, Limit.of(3))).thenReturn(List.of(
+                notice(5L, NoticePriority.HIGH, NOW),
+                notice(4L, NoticePriority.HIGH, NOW),
+                notice(3L, NoticePriority.LOW, NOW)));
+
+        var page = noticeService.getPage(false, 2, null);
+
+        assertThat(page.getItems()).extracting(Notice::getId).containsExactly(5L, 4L);
+        assertThat(page.getNextCursor()).doesNotContain("=", "+", "/");
+        assertThat(new String(Base64.getUrlDecoder().decode(page.getNextCursor()), StandardCharsets.UTF_8))
+                .isEqualTo("1|2030-03-11T09:00|4");
+    }
+
+    @Test
+    @DisplayName("Page — a last item not yet backfilled takes its cursor rank from its priority")
+    void getPage_lastItemWithoutRank_shouldUsePriorityRank() {
+        Notice legacy = notice(4L, NoticePriority.HIGH, NOW);
+        legacy.setPriorityRank(null);
+        when(noticeRepository.findFeedPage(false, Limit.of(3))).thenReturn(List.of(
+                notice(5L, NoticePriority.HIGH, NOW), legacy, notice(3L, NoticePriority.LOW, NOW)));
+
+        var page = noticeService.getPage(false, 2, null);
+
+        assertThat(new String(Base64.getUrlDecoder().decode(page.getNextCursor()), StandardCharsets.UTF_8))
+                .isEqualTo("1|2030-03-11T09:00|4");
+    }
+
+    @Test
+    @DisplayName("Page — the cursor round-trips into the 'after' query, including equal rank and createdAt")
+    void getPage_withCursor_shouldQueryAfterIt() {
+        when(noticeRepository.findFeedPage(false, Limit.of(2))).thenReturn(List.of(
+                notice(5L, NoticePriority.HIGH, NOW),
+                notice(4L, NoticePriority.HIGH, NOW)));
+        String cursor = noticeService.getPage(false, 1, null).getNextCursor();
+        when(noticeRepository.findFeedPageAfter(false, 1, NOW, 5L, Limit.of(2)))
+                .thenReturn(List.of(notice(4L, NoticePriority.HIGH, NOW)));
+
+        var page = noticeService.getPage(false, 1, cursor);
+
+        assertThat(page.getItems()).extracting(Notice::getId).containsExactly(4L);
+        assertThat(page.getNextCursor()).as("last page").isNull();
+    }
+
+    @Test
+    @DisplayName("Page — a blank cursor is the first page")
+    void getPage_blankCursor_shouldBeFirstPage() {
+        when(noticeRepository.findFeedPage(true, Limit.of(11))).thenReturn(List.of());
+
+        assertThat(noticeService.getPage(true, 10, " ").getItems()).isEmpty();
+        verify(noticeRepository, never()).findFeedPageAfter(anyBoolean(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Page — limit outside 1..100 and malformed cursors are rejected before any query")
+    void getPage_invalid_shouldThrow() {
+        String twoParts = Base64.getUrlEncoder().encodeToString("1|2030-03-11T09:00".getBytes(StandardCharsets.UTF_8));
+        String badDate = Base64.getUrlEncoder().encodeToString("1|yesterday|4".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> noticeService.getPage(false, 0, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> noticeService.getPage(false, NoticeService.MAX_PAGE_SIZE + 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> noticeService.getPage(false, 10, "not*base64"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor.");
+        assertThatThrownBy(() -> noticeService.getPage(false, 10, twoParts))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor.");
+        assertThatThrownBy(() -> noticeService.getPage(false, 10, badDate))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor.");
+        verifyNoInteractions(noticeRepository);
+    }
+
+    // ─── Helper ───
+
+    static Notice notice(Long id, NoticePriority priority, LocalDateTime createdAt) {
+        return new Notice(id, "Notice " + id, "Content " + id, NoticeCategory.GENERAL, priority,
+                "f@x.com", false, createdAt, priority.getRank());
+    }
+}
@@ -0,0 +1,194 @@
+package com.campus_buddy.campus_service.service;
+
+import com.campus_buddy.campus_service.controller.NoticeController;
+import com.campus_buddy.campus_service.model.Notice;
+import com.campus_buddy.campus_service.model.NoticePriority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.campus_buddy.campus_service.service.NoticeServiceTest.NOW;
+import static com.campus_buddy.campus_service.service.NoticeServiceTest.notice;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Unit tests for NoticeStreamHub, through GET /notices/stream on MockMvc.
+ * Covers: event frames, heartbeat, bounded per-subscriber queue, slow-consumer drop without blocking the
+ * publisher, subscriber limit.
+ * A slow client is simulated by parking the sender executor until the test releases it.
+ */
+class NoticeStreamHubTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private NoticeStreamHub hub;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("s@x.com", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Stream — opens with a comment, then one frame per event with id, name and the notice JSON")
+    void publish_shouldSendEventFrames() throws Exception {
+        start(60_000);
+        MvcResult stream = open();
+
+        hub.publishCreated(notice(1L, NoticePriority.HIGH, NOW));
+        hub.publishArchived(notice(1L, NoticePriority.HIGH, NOW));
+
+        String content = awaitContent(stream, "event:notice-archived");
+        assertThat(content).startsWith(":connected");
+        assertThat(content).contains("id:1\nevent:notice-created\ndata:{\"id\":1,\"title\":\"Notice 1\"");
+        assertThat(content).contains("id:2\nevent:notice-archived\n");
+        assertThat(content.indexOf("notice-created")).isLessThan(content.indexOf("notice-archived"));
+    }
+
+    @Test
+    @DisplayName("Stream — an idle subscriber gets a comment heartbeat")
+    void heartbeat_shouldPingIdleSubscribers() throws Exception {
+        start(50);
+        MvcResult stream = open();
+
+        assertThat(awaitContent(stream, ":ping")).contains(":ping");
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Bounded queue — up to buffer-size frames wait for a slow client and arrive in order")
+    void slowClient_withinBuffer_shouldReceiveAll() throws Exception {
+        start(60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService parked = parkSenders(release);
+        MvcResult stream = open();
+
+        // "connected" plus three events fills the buffer exactly
+        for (long id = 1; id < BUFFER_SIZE; id++) {
+            hub.publishCreated(notice(id, NoticePriority.HIGH, NOW));
+        }
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+
+        release.countDown();
+        String content = awaitContent(stream, "id:" + (BUFFER_SIZE - 1) + "\n");
+        assertThat(content).containsSubsequence("\"id\":1,", "\"id\":2,", "\"id\":3,");
+        parked.shutdown();
+    }
+
+    @Test
+    @DisplayName("Slow consumer — the frame that overflows its queue drops it; the publisher never waits")
+    void slowClient_overflow_shouldBeDropped() throws Exception {
+        start(60_000);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService parked = parkSenders(release);
+        MvcResult stream = open();
+
+        long start = System.nanoTime();
+        for (long id = 1; id <= 100; id++) {
+            hub.publishCreated(notice(id, NoticePriority.HIGH, NOW));
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(millis).as("100 publishes to a parked subscriber, in ms").isLessThan(1_000);
+
+        // Queued frames are discarded, not flushed, once the client has been dropped
+        release.countDown();
+        parked.shutdown();
+        assertThat(parked.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stream.getResponse().getContentAsString()).doesNotContain("notice-created");
+    }
+
+    @Test
+    @DisplayName("Limit — subscribing past max-subscribers throws; a slot frees up when a stream is dropped")
+    void subscribe_pastLimit_shouldThrow() throws Exception {
+        start(60_000);
+        ReflectionTestUtils.setField(hub, "maxSubscribers", 1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService parked = parkSenders(release);
+        hub.subscribe("a@x.com");
+
+        assertThatThrownBy(() -> hub.subscribe("b@x.com"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Too many open notice streams.");
+
+        for (long id = 1; id <= BUFFER_SIZE; id++) {
+            hub.publishCreated(notice(id, NoticePriority.HIGH, NOW));
+        }
+        assertThat(hub.subscriberCount()).isZero();
+        hub.subscribe("b@x.com");
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+
+        release.countDown();
+        parked.shutdown();
+    }
+
+    // ─── Helper ───
+
+    private void start(long heartbeatMs) {
+        hub = new NoticeStreamHub(JsonMapper.builder().build());
+        ReflectionTestUtils.setField(hub, "bufferSize", BUFFER_SIZE);
+        ReflectionTestUtils.setField(hub, "maxSubscribers", 100);
+        ReflectionTestUtils.setField(hub, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(hub, "heartbeatMs", heartbeatMs);
+        hub.init();
+
+        NoticeController controller = new NoticeController();
+        ReflectionTestUtils.setField(controller, "noticeStreamHub", hub);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    /**
+     * Replace the hub's senders with one thread that is busy until {@code release}, so no frame is written
+     */
+    private ExecutorService parkSenders(CountDownLatch release) {
+        ExecutorService parked = Executors.newSingleThreadExecutor();
+        parked.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ReflectionTestUtils.setField(hub, "senders", parked);
+        return parked;
+    }
+
+    private MvcResult open() throws Exception {
+        return mockMvc.perform(get("/notices/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static String awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = stream.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = stream.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
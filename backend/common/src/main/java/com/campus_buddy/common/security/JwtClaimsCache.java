@@ -0,0 +1,88 @@
+package com.campus_buddy.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Verified JWT claims keyed by token string, used by the JwtService of every service.
+ *
+ * Each distinct token is parsed and its signature checked once; later lookups are a map hit.
+ * Only tokens that verify and carry an exp are cached, and an entry is dropped on the first lookup
+ * after its exp. The map is an access-ordered LRU bounded by maxSize: adding a token to a full cache
+ * evicts the least recently used entry only, so a burst of new tokens never empties the cache for
+ * everyone else.
+ */
+public final class JwtClaimsCache {
+
+    private final JwtParser parser;
+    private final Clock clock;
+
+    /** Guarded by itself; get() reorders an access-ordered LinkedHashMap, so reads lock too */
+    private final Map<String, Claims> entries;
+
+    public JwtClaimsCache(JwtParser parser, int maxSize) {
+        this(parser, maxSize, Clock.systemUTC());
+    }
+
+    JwtClaimsCache(JwtParser parser, int maxSize, Clock clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.parser = parser;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Verified claims of {@code token}, from the cache or by parsing it
+     * @throws JwtException if the token is malformed, its signature does not verify or it has expired
+     */
+    public Claims claims(String token) {
+        Claims cached = lookup(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Throws before anything is cached, so bad signatures and garbage never get in
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (isLive(claims)) {
+            synchronized (entries) {
+                entries.put(token, claims);
+            }
+        }
+        return claims;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Claims lookup(String token) {
+        synchronized (entries) {
+            Claims cached = entries.get(token);
+            if (cached == null || isLive(cached)) {
+                return cached;
+            }
+            entries.remove(token);
+            return null;
+        }
+    }
+
+    private boolean isLive(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.toInstant().isAfter(clock.instant());
+    }
+}
@@ -0,0 +1,98 @@
+package com.campus_buddy.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH: JwtAuthenticationFilter's claim reads per request (email, exp, role) before and after the
+ * claims cache.
+ *   before     — key rebuilt from the secret and the token parsed/verified on every read (the original JwtService)
+ *   parserOnce — key and parser built once, token still parsed on every read
+ *   cached     — JwtClaimsCache, one token (steady state: the caller's token is already cached)
+ *   cached8    — the same with 8 threads sharing the cache, to show lock contention
+ *
+ * Run: mvn -P benchmark test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtClaimsCacheBenchmark {
+
+    private static final String SECRET = "campus-buddy-super-secret-key-change-this-in-production-with-minimum-256-bits-for-security";
+
+    private String token;
+    private JwtParser parser;
+    private JwtClaimsCache cache;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = Jwts.builder()
+                .subject("student@example.com")
+                .claim("role", "STUDENT")
+                .claim("userId", 42L)
+                .claim("studentId", "S42")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(24)))
+                .signWith(key)
+                .compact();
+        parser = Jwts.parser().verifyWith(key).build();
+        cache = new JwtClaimsCache(parser, 10_000);
+        cache.claims(token);
+    }
+
+    @Benchmark
+    public void before(Blackhole bh) {
+        for (int read = 0; read < 3; read++) {
+            SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+            bh.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload());
+        }
+    }
+
+    @Benchmark
+    public void parserOnce(Blackhole bh) {
+        for (int read = 0; read < 3; read++) {
+            bh.consume(parser.parseSignedClaims(token).getPayload());
+        }
+    }
+
+    @Benchmark
+    public void cached(Blackhole bh) {
+        readThrice(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void cached8(Blackhole bh) {
+        readThrice(bh);
+    }
+
+    private void readThrice(Blackhole bh) {
+        Claims claims = cache.claims(token);
+        bh.consume(claims.getSubject());
+        bh.consume(cache.claims(token).getExpiration());
+        bh.consume(cache.claims(token).get("role", String.class));
+    }
+}
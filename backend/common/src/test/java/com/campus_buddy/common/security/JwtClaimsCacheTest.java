@@ -0,0 +1,202 @@
+package com.campus_buddy.common.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for JwtClaimsCache.
+ * Covers: parse once then hit, expiry eviction, bad signatures / malformed / exp-less tokens never cached,
+ * LRU size bound, and the cost of a cached lookup against a full parse.
+ * The parser and the cache share a clock the test moves forward.
+ */
+class JwtClaimsCacheTest {
+
+    private static final SecretKey KEY = key("campus-buddy-test-secret-key-with-at-least-256-bits-of-entropy");
+    private static final Instant START = Instant.parse("2030-03-11T09:00:00Z");
+
+    private MutableClock clock;
+    private JwtParser parser;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        parser = Jwts.parser().verifyWith(KEY).clock(() -> Date.from(clock.instant())).build();
+    }
+
+    // ─── Cache Tests ───
+
+    @Test
+    @DisplayName("Cache — a token is parsed once; later lookups return the same verified claims")
+    void claims_shouldParseOnce() {
+        JwtClaimsCache cache = new JwtClaimsCache(parser, 10, clock);
+        String token = token("s@x.com", Duration.ofHours(1), KEY);
+
+        Claims first = cache.claims(token);
+        Claims second = cache.claims(token);
+
+        assertThat(first.getSubject()).isEqualTo("s@x.com");
+        assertThat(first.get("role", String.class)).isEqualTo("STUDENT");
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Expiry — an entry is evicted on the first lookup after its exp, and the token is rejected")
+    void claims_afterExp_shouldEvictAndThrow() {
+        JwtClaimsCache cache = new JwtClaimsCache(parser, 10, clock);
+        String token = token("s@x.com", Duration.ofMinutes(5), KEY);
+        cache.claims(token);
+
+        clock.advance(Duration.ofMinutes(6));
+
+        assertThatThrownBy(() -> cache.claims(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Rejects — bad signatures, malformed tokens and tokens without exp are never cached")
+    void claims_invalid_shouldNotCache() {
+        JwtClaimsCache cache = new JwtClaimsCache(parser, 10, clock);
+        String forged = token("s@x.com", Duration.ofHours(1), key("some-other-secret-key-that-is-also-at-least-256-bits"));
+        String valid = token("s@x.com", Duration.ofHours(1), KEY);
+        String[] parts = valid.split("\\.");
+        String tampered = parts[0] + "." + token("admin@x.com", Duration.ofHours(1), KEY).split("\\.")[1] + "." + parts[2];
+        String noExp = Jwts.builder().subject("s@x.com").signWith(KEY).compact();
+
+        assertThatThrownBy(() -> cache.claims(forged)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> cache.claims(forged)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> cache.claims(tampered)).isInstanceOf(SignatureException.class);
+        assertThatThrownBy(() -> cache.claims("not-a-jwt")).isInstanceOf(MalformedJwtException.class);
+        assertThat(cache.claims(noExp).getSubject()).isEqualTo("s@x.com");
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Bound — a full cache evicts only the least recently used token")
+    void claims_pastMaxSize_shouldEvictLeastRecentlyUsed() {
+        JwtClaimsCache cache = new JwtClaimsCache(parser, 3, clock);
+        String first = token("u0@x.com", Duration.ofHours(1), KEY);
+        String second = token("u1@x.com", Duration.ofHours(1), KEY);
+        Claims firstClaims = cache.claims(first);
+        Claims secondClaims = cache.claims(second);
+        cache.claims(token("u2@x.com", Duration.ofHours(1), KEY));
+        cache.claims(first); // u0 is now the most recently used; u1 the least
+
+        cache.claims(token("u3@x.com", Duration.ofHours(1), KEY));
+
+        // A re-parse returns a new instance, so identity shows whether the entry survived
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.claims(first)).isSameAs(firstClaims);
+        assertThat(cache.claims(second)).isNotSameAs(secondClaims);
+
+        for (int i = 4; i < 50; i++) {
+            cache.claims(token("u" + i + "@x.com", Duration.ofHours(1), KEY));
+            assertThat(cache.size()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Bound — a non-positive size is rejected")
+    void constructor_invalidSize_shouldThrow() {
+        assertThatThrownBy(() -> new JwtClaimsCache(parser, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ─── Timing Test ───
+
+    @Test
+    @DisplayName("Timing — the filter's three claim reads cost far less from the cache than three parses")
+    void claims_cached_shouldBeMuchCheaperThanParsing() {
+        JwtClaimsCache cache = new JwtClaimsCache(parser, 10, clock);
+        String token = token("s@x.com", Duration.ofHours(1), KEY);
+        int requests = 5_000;
+
+        // Warm up both paths
+        long parseNanos = timeRequests(requests, () -> parser.parseSignedClaims(token).getPayload());
+        long cacheNanos = timeRequests(requests, () -> cache.claims(token));
+        parseNanos = timeRequests(requests, () -> parser.parseSignedClaims(token).getPayload());
+        cacheNanos = timeRequests(requests, () -> cache.claims(token));
+
+        assertThat(cacheNanos * 10).as("cached=%dns vs parsed=%dns for %d requests", cacheNanos, parseNanos, requests)
+                .isLessThan(parseNanos);
+    }
+
+    // ─── Helper ───
+
+    /** Three claim reads per request, as JwtAuthenticationFilter does (email, exp, role) */
+    private static long timeRequests(int requests, Supplier<Claims> claims) {
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < requests; i++) {
+            sink += claims.get().getSubject().length();
+            sink += claims.get().getExpiration().hashCode();
+            sink += claims.get().get("role", String.class).length();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isNotZero();
+        return elapsed;
+    }
+
+    static String token(String subject, Duration ttl, SecretKey key) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("role", "STUDENT")
+                .issuedAt(Date.from(START))
+                .expiration(Date.from(START.plus(ttl)))
+                .signWith(key)
+                .compact();
+    }
+
+    static SecretKey key(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
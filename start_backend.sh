@@ -20,6 +20,10 @@ start_service() {
     echo "$SERVICE_NAME started with PID $PID"
 }
 
+# Install the code shared by all services into the local Maven repository
+echo "Installing shared module..."
+(cd "$PROJECT_ROOT/backend/common" && mvn -q install -DskipTests) || exit 1
+
 # Start Services
 start_service "Auth Service" "backend/auth-service" 8081
 start_service "Academic Service" "backend/academic-service" 8082